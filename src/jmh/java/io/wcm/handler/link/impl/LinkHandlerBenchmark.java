@@ -0,0 +1,238 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_COMPONENT_LINK_TARGET_URL_FALLBACK_PROPERTY;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CROSSCONTEXT_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_EXTERNAL_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_MEDIA_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
+import static io.wcm.handler.link.testcontext.AppAemContext.ROOTPATH_CONTENT;
+import static io.wcm.handler.link.testcontext.AppAemContext.ROOTPATH_CONTENT_OTHER_SITE;
+import static io.wcm.testing.mock.wcmio.caconfig.ContextPlugins.WCMIO_CACONFIG;
+import static io.wcm.testing.mock.wcmio.sling.ContextPlugins.WCMIO_SLING;
+import static io.wcm.testing.mock.wcmio.wcm.ContextPlugins.WCMIO_WCM;
+import static org.apache.sling.testing.mock.caconfig.ContextPlugins.CACONFIG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.testing.mock.osgi.context.ContextPlugins;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkArgs;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.ExternalLinkType;
+import io.wcm.handler.link.type.InternalCrossContextLinkType;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.handler.link.type.MediaLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.testing.mock.aem.context.AemContextImpl;
+
+/**
+ * Benchmarks for the link resolution pipeline ({@link LinkHandlerImpl#processRequest(LinkRequest)})
+ * based on the mocked content of the unit tests.
+ *
+ * <p>
+ * Run with <code>mvn -Pjmh test-compile exec:exec</code>. By default the GC profiler is enabled to report the
+ * allocation rate additionally to the throughput, further JMH arguments can be passed via <code>-Djmh.args=...</code>.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LinkHandlerBenchmark {
+
+  private static final String SECTION_PATH = ROOTPATH_CONTENT + "/section";
+  private static final String CONTENT_PATH = "/content/benchmark";
+
+  /**
+   * Number of chained redirect pages - the maximum number of hops allowed by LinkResolveContext.
+   */
+  private static final int REDIRECT_CHAIN_LENGTH = 5;
+
+  private BenchmarkAemContext context;
+  private LinkHandlerImpl linkHandler;
+
+  private LinkRequest internalRequest;
+  private LinkRequest crossContextRequest;
+  private LinkRequest externalRequest;
+  private LinkRequest mediaRequest;
+  private LinkRequest redirectChainRequest;
+  private LinkRequest fallbackPropertyRequest;
+  private LinkRequest invalidRequest;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    context = new BenchmarkAemContext();
+    context.setUpContext();
+
+    Page targetPage = context.create().page(SECTION_PATH + "/content",
+        DummyAppTemplate.CONTENT.getTemplatePath());
+    Page otherSiteTargetPage = context.create().page(ROOTPATH_CONTENT_OTHER_SITE + "/section/content",
+        DummyAppTemplate.CONTENT.getTemplatePath());
+
+    // chain of redirect pages, the last one points to the target page
+    String redirectTarget = targetPage.getPath();
+    Page redirectPage = null;
+    for (int i = REDIRECT_CHAIN_LENGTH; i > 0; i--) {
+      redirectPage = context.create().page(SECTION_PATH + "/redirect" + i,
+          DummyAppTemplate.REDIRECT.getTemplatePath(),
+          PN_LINK_TYPE, InternalLinkType.ID,
+          PN_LINK_CONTENT_REF, redirectTarget);
+      redirectTarget = redirectPage.getPath();
+    }
+
+    // component with link target URL fallback property
+    Resource componentResource = context.create().resource("/apps/app1/components/benchmarkLink",
+        PN_COMPONENT_LINK_TARGET_URL_FALLBACK_PROPERTY, "fallbackProperty");
+
+    internalRequest = linkRequest("internal",
+        PN_LINK_TYPE, InternalLinkType.ID,
+        PN_LINK_CONTENT_REF, targetPage.getPath());
+    crossContextRequest = linkRequest("crossContext",
+        PN_LINK_TYPE, InternalCrossContextLinkType.ID,
+        PN_LINK_CROSSCONTEXT_CONTENT_REF, otherSiteTargetPage.getPath());
+    externalRequest = linkRequest("external",
+        PN_LINK_TYPE, ExternalLinkType.ID,
+        PN_LINK_EXTERNAL_REF, "http://www.example.com/path?param=value#anchor");
+    mediaRequest = linkRequest("media",
+        PN_LINK_TYPE, MediaLinkType.ID,
+        PN_LINK_MEDIA_REF, "/content/dam/dummymedia/pdf1");
+    redirectChainRequest = new LinkRequest(null, redirectPage, new LinkArgs());
+    fallbackPropertyRequest = linkRequest("fallbackProperty",
+        ResourceResolver.PROPERTY_RESOURCE_TYPE, componentResource.getPath(),
+        "fallbackProperty", targetPage.getPath());
+    invalidRequest = linkRequest("invalid",
+        PN_LINK_TYPE, InternalLinkType.ID,
+        PN_LINK_CONTENT_REF, SECTION_PATH + "/non-existing");
+
+    linkHandler = newLinkHandler();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.tearDownContext();
+  }
+
+  @Benchmark
+  public Link internal() {
+    return linkHandler.processRequest(internalRequest);
+  }
+
+  @Benchmark
+  public Link crossContext() {
+    return linkHandler.processRequest(crossContextRequest);
+  }
+
+  @Benchmark
+  public Link external() {
+    return linkHandler.processRequest(externalRequest);
+  }
+
+  @Benchmark
+  public Link media() {
+    return linkHandler.processRequest(mediaRequest);
+  }
+
+  @Benchmark
+  public Link redirectChain() {
+    return linkHandler.processRequest(redirectChainRequest);
+  }
+
+  @Benchmark
+  public Link fallbackProperty() {
+    return linkHandler.get(fallbackPropertyRequest).build();
+  }
+
+  @Benchmark
+  public Link invalid() {
+    return linkHandler.processRequest(invalidRequest);
+  }
+
+  /**
+   * Includes link handler instantiation via the adapter factory, as done for each component in a page request.
+   * @return Link
+   */
+  @Benchmark
+  public Link internalNewLinkHandler() {
+    return newLinkHandler().processRequest(internalRequest);
+  }
+
+  private LinkHandlerImpl newLinkHandler() {
+    return (LinkHandlerImpl)AdaptTo.notNull(context.request(), LinkHandler.class);
+  }
+
+  private LinkRequest linkRequest(String name, Object... properties) {
+    Resource resource = context.create().resource(CONTENT_PATH + "/" + name, properties);
+    return new LinkRequest(resource, null, new LinkArgs());
+  }
+
+  /**
+   * AEM context with the same plugins and set up rules as {@link AppAemContext}, set up and torn down by the
+   * benchmark lifecycle instead of the JUnit extension.
+   */
+  private static final class BenchmarkAemContext extends AemContextImpl {
+
+    private final ContextPlugins plugins = new ContextPlugins();
+
+    BenchmarkAemContext() {
+      plugins.addPlugin(CACONFIG);
+      plugins.addPlugin(WCMIO_SLING, WCMIO_WCM, WCMIO_CACONFIG);
+    }
+
+    void setUpContext() {
+      plugins.executeBeforeSetUpCallback(this);
+      setUp();
+      plugins.executeAfterSetUpCallback(this);
+      AppAemContext.setUp(this);
+    }
+
+    void tearDownContext() {
+      plugins.executeBeforeTearDownCallback(this);
+      tearDown();
+      plugins.executeAfterTearDownCallback(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.wrappers.ValueMapDecorator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Value map that reads through to an underlying value map, but keeps all changes in an overlay.
+ * The underlying value map is never modified, and only written properties are copied.
+ */
+final class CopyOnWriteValueMap extends AbstractMap<String, Object> implements ValueMap {
+
+  private final ValueMap base;
+  private Map<String, Object> overlay;
+  private ValueMap overlayValueMap;
+  private Set<String> removedKeys;
+  private boolean baseCleared;
+
+  CopyOnWriteValueMap(@NotNull ValueMap base) {
+    this.base = base;
+  }
+
+  private boolean isOverlaid(Object key) {
+    return overlay != null && overlay.containsKey(key);
+  }
+
+  private boolean isHidden(Object key) {
+    return baseCleared || (removedKeys != null && removedKeys.contains(key));
+  }
+
+  private void ensureOverlay() {
+    if (overlay == null) {
+      overlay = new HashMap<>();
+      overlayValueMap = new ValueMapDecorator(overlay);
+      removedKeys = new HashSet<>();
+    }
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (isOverlaid(key)) {
+      return overlay.get(key);
+    }
+    if (isHidden(key)) {
+      return null;
+    }
+    return base.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (isOverlaid(key)) {
+      return true;
+    }
+    if (isHidden(key)) {
+      return false;
+    }
+    return base.containsKey(key);
+  }
+
+  @Override
+  public <T> @Nullable T get(@NotNull String name, @NotNull Class<T> type) {
+    if (isOverlaid(name)) {
+      return overlayValueMap.get(name, type);
+    }
+    if (isHidden(name)) {
+      return null;
+    }
+    return base.get(name, type);
+  }
+
+  @Override
+  @SuppressWarnings("null")
+  public <T> @NotNull T get(@NotNull String name, @NotNull T defaultValue) {
+    if (isOverlaid(name)) {
+      return overlayValueMap.get(name, defaultValue);
+    }
+    if (isHidden(name)) {
+      return defaultValue;
+    }
+    return base.get(name, defaultValue);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    Object previousValue = get(key);
+    ensureOverlay();
+    overlay.put(key, value);
+    return previousValue;
+  }
+
+  @Override
+  public Object remove(Object key) {
+    Object previousValue = get(key);
+    if (key instanceof String) {
+      ensureOverlay();
+      overlay.remove(key);
+      removedKeys.add((String)key);
+    }
+    return previousValue;
+  }
+
+  @Override
+  public void clear() {
+    ensureOverlay();
+    overlay.clear();
+    removedKeys.clear();
+    baseCleared = true;
+  }
+
+  /**
+   * @return Merged view of underlying and overlaid properties - reading all underlying properties.
+   */
+  private Map<String, Object> merged() {
+    Map<String, Object> merged = new LinkedHashMap<>();
+    if (!baseCleared) {
+      for (Map.Entry<String, Object> entry : base.entrySet()) {
+        if (removedKeys == null || !removedKeys.contains(entry.getKey())) {
+          merged.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    if (overlay != null) {
+      merged.putAll(overlay);
+    }
+    return merged;
+  }
+
+  @Override
+  public @NotNull Set<Map.Entry<String, Object>> entrySet() {
+    Map<String, Object> merged = merged();
+    return new AbstractSet<Map.Entry<String, Object>>() {
+
+      @Override
+      public Iterator<Map.Entry<String, Object>> iterator() {
+        Iterator<Map.Entry<String, Object>> iterator = merged.entrySet().iterator();
+        return new Iterator<Map.Entry<String, Object>>() {
+
+          private Map.Entry<String, Object> current;
+
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Map.Entry<String, Object> next() {
+            Map.Entry<String, Object> entry = iterator.next();
+            current = entry;
+            return new SimpleEntry<String, Object>(entry) {
+              private static final long serialVersionUID = 1L;
+              @Override
+              public Object setValue(Object value) {
+                CopyOnWriteValueMap.this.put(getKey(), value);
+                return super.setValue(value);
+              }
+            };
+          }
+
+          @Override
+          public void remove() {
+            iterator.remove();
+            CopyOnWriteValueMap.this.remove(current.getKey());
+          }
+
+        };
+      }
+
+      @Override
+      public int size() {
+        return merged.size();
+      }
+
+    };
+  }
+
+}
@@ -19,6 +19,8 @@
  */
 package io.wcm.handler.link;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -30,6 +32,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jdom2.Attribute;
+import org.jdom2.Content;
+import org.jdom2.Element;
+import org.jdom2.Text;
+import org.jdom2.output.Format;
+import org.jdom2.output.support.AbstractXMLOutputProcessor;
+import org.jdom2.output.support.FormatStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.osgi.annotation.versioning.ProviderType;
@@ -52,11 +60,15 @@ import io.wcm.handler.media.Rendition;
 @JsonInclude(Include.NON_NULL)
 public final class Link {
 
+  private static final OpeningTagOutputProcessor OPENING_TAG_OUTPUT = new OpeningTagOutputProcessor();
+
   private final @NotNull LinkType linkType;
   private @NotNull LinkRequest linkRequest;
   private boolean linkReferenceInvalid;
   private Anchor anchor;
   private Function<Link, Anchor> anchorBuilder;
+  private Map<String, String> anchorAttributes;
+  private String markup;
   private String url;
   private Page targetPage;
   private Asset targetAsset;
@@ -73,6 +85,31 @@ public final class Link {
     this.linkType = linkType;
   }
 
+  /**
+   * Creates a copy of this link. Link request, target pages and assets are shared.
+   * If the anchor of this link is not built yet, the copy builds its own anchor with the same anchor builder
+   * when accessed first. An anchor that is already built is cloned.
+   * @return Link copy
+   */
+  public @NotNull Link copy() {
+    Link copy = new Link(this.linkType, this.linkRequest);
+    copy.linkReferenceInvalid = this.linkReferenceInvalid;
+    copy.url = this.url;
+    copy.targetPage = this.targetPage;
+    copy.targetAsset = this.targetAsset;
+    copy.targetRendition = this.targetRendition;
+    if (this.redirectPages != null) {
+      copy.redirectPages = new LinkedList<>(this.redirectPages);
+    }
+    if (this.anchor != null) {
+      copy.anchor = (Anchor)this.anchor.clone();
+    }
+    else {
+      copy.anchorBuilder = this.anchorBuilder;
+    }
+    return copy;
+  }
+
   /**
    * Get link type.
    * @return Link type
@@ -132,7 +169,8 @@ public final class Link {
 
   /**
    * Get anchor attributes as map.
-   * @return Map with all attributes of the anchor element. Returns null if anchor element is null.
+   * The map is built only once and reused as long as the attributes of the anchor element are not changed.
+   * @return Unmodifiable map with all attributes of the anchor element. Returns null if anchor element is null.
    */
   @JsonIgnore
   @SuppressWarnings("java:S1168")
@@ -141,11 +179,32 @@ public final class Link {
     if (a == null) {
       return null;
     }
-    Map<String, String> attributes = new HashMap<>();
-    for (Attribute attribute : a.getAttributes()) {
-      attributes.put(attribute.getName(), attribute.getValue());
+    if (this.anchorAttributes == null || !hasAttributes(a, this.anchorAttributes)) {
+      Map<String, String> attributes = new HashMap<>();
+      for (Attribute attribute : a.getAttributes()) {
+        attributes.put(attribute.getName(), attribute.getValue());
+      }
+      this.anchorAttributes = Collections.unmodifiableMap(attributes);
+      this.markup = null;
+    }
+    return this.anchorAttributes;
+  }
+
+  /**
+   * Checks if the anchor element has exactly the given attributes (without allocating an iterator).
+   */
+  private static boolean hasAttributes(@NotNull Anchor a, @NotNull Map<String, String> attributes) {
+    List<Attribute> anchorAttributeList = a.getAttributes();
+    if (anchorAttributeList.size() != attributes.size()) {
+      return false;
+    }
+    for (int i = 0; i < anchorAttributeList.size(); i++) {
+      Attribute attribute = anchorAttributeList.get(i);
+      if (!StringUtils.equals(attribute.getValue(), attributes.get(attribute.getName()))) {
+        return false;
+      }
     }
-    return attributes;
+    return true;
   }
 
   /**
@@ -154,21 +213,89 @@ public final class Link {
    */
   public void setAnchorBuilder(@NotNull Function<Link, Anchor> anchorBuilder) {
     this.anchorBuilder = anchorBuilder;
+    this.anchorAttributes = null;
+    this.markup = null;
   }
 
   /**
    * Get link markup.
+   * The markup is built only once and reused as long as the anchor element is not changed.
    * @return Link markup (only the opening anchor tag) or null if resolving was not successful.
    */
   @JsonIgnore
   public @Nullable String getMarkup() {
     Anchor a = getAnchor();
-    if (a != null) {
-      return StringUtils.removeEnd(a.toString(), "</a>");
+    if (a == null) {
+      return null;
+    }
+    // validates the memoized attributes, and resets the memoized markup if they have changed
+    getAnchorAttributes();
+    boolean noContent = hasNoContent(a);
+    if (this.markup != null && noContent) {
+      return this.markup;
+    }
+    String result = StringUtils.removeEnd(a.toString(), "</a>");
+    // memoize only for anchors without content, changes of child content are not detected
+    if (noContent) {
+      this.markup = result;
+    }
+    return result;
+  }
+
+  /**
+   * Checks if the anchor has no content. Anchors always contain an empty text node to avoid a self-closing tag.
+   */
+  private static boolean hasNoContent(@NotNull Anchor a) {
+    int contentSize = a.getContentSize();
+    if (contentSize == 0) {
+      return true;
+    }
+    if (contentSize == 1) {
+      Content content = a.getContent(0);
+      return content instanceof Text && ((Text)content).getText().isEmpty();
+    }
+    return false;
+  }
+
+  /**
+   * Write link markup (only the opening anchor tag) to the given writer.
+   * Nothing is written if resolving was not successful.
+   * The opening tag of an anchor without content is written directly to the writer, without building a string.
+   * @param writer Writer
+   * @throws IOException I/O exception
+   */
+  public void writeMarkup(@NotNull Writer writer) throws IOException {
+    Anchor a = getAnchor();
+    if (a == null) {
+      return;
+    }
+    // validates the memoized attributes, and resets the memoized markup if they have changed
+    getAnchorAttributes();
+    if (this.markup != null || !hasNoContent(a)) {
+      writer.write(getMarkup());
     }
     else {
-      return null;
+      OPENING_TAG_OUTPUT.printOpeningTag(writer, a);
+    }
+  }
+
+  /**
+   * Writes the opening tag of an element with the same escaping as {@link Anchor#toString()}.
+   */
+  private static final class OpeningTagOutputProcessor extends AbstractXMLOutputProcessor {
+
+    private final Format format = Format.getRawFormat();
+
+    void printOpeningTag(@NotNull Writer writer, @NotNull Element element) throws IOException {
+      FormatStack formatStack = new FormatStack(format);
+      write(writer, "<");
+      write(writer, element.getQualifiedName());
+      for (Attribute attribute : element.getAttributes()) {
+        printAttribute(writer, formatStack, attribute);
+      }
+      write(writer, ">");
     }
+
   }
 
   /**
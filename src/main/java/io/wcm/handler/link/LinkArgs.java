@@ -19,13 +19,13 @@
  */
 package io.wcm.handler.link;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
-import io.wcm.handler.url.VanityMode;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.sling.api.resource.ValueMap;
 import org.apache.sling.api.wrappers.ValueMapDecorator;
@@ -35,6 +35,7 @@ import org.osgi.annotation.versioning.ProviderType;
 
 import io.wcm.handler.url.UrlHandler;
 import io.wcm.handler.url.UrlMode;
+import io.wcm.handler.url.VanityMode;
 import io.wcm.wcm.commons.util.ToStringStyle;
 
 /**
@@ -58,6 +59,8 @@ public final class LinkArgs implements Cloneable {
   private String[] linkTargetUrlFallbackProperty;
   private String[] linkTargetWindowTargetFallbackProperty;
 
+  private transient boolean immutable;
+  private transient int snapshotHashCode;
 
   /**
    * Get URL mode.
@@ -81,6 +84,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs urlMode(@Nullable UrlMode value) {
+    checkMutable();
     this.urlMode = value;
     return this;
   }
@@ -91,6 +95,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs vanityMode(@Nullable VanityMode value) {
+    checkMutable();
     this.vanityMode = value;
     return this;
   }
@@ -109,6 +114,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs dummyLink(boolean value) {
+    checkMutable();
     this.dummyLink = value;
     return this;
   }
@@ -127,6 +133,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs dummyLinkUrl(@Nullable String value) {
+    checkMutable();
     this.dummyLinkUrl = value;
     return this;
   }
@@ -145,6 +152,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs selectors(@Nullable String value) {
+    checkMutable();
     this.selectors = value;
     return this;
   }
@@ -163,6 +171,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs extension(@Nullable String value) {
+    checkMutable();
     this.extension = value;
     return this;
   }
@@ -181,6 +190,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs suffix(@Nullable String value) {
+    checkMutable();
     this.suffix = value;
     return this;
   }
@@ -199,6 +209,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs queryString(@Nullable String value) {
+    checkMutable();
     this.queryString = value;
     return this;
   }
@@ -217,6 +228,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs fragment(@Nullable String value) {
+    checkMutable();
     this.fragment = value;
     return this;
   }
@@ -235,6 +247,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs windowTarget(@Nullable String value) {
+    checkMutable();
     this.windowTarget = value;
     return this;
   }
@@ -259,6 +272,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs disableSuffixSelector(boolean value) {
+    checkMutable();
     this.disableSuffixSelector = value;
     return this;
   }
@@ -270,6 +284,7 @@ public final class LinkArgs implements Cloneable {
    */
   @SuppressWarnings({ "null", "unused" })
   public @NotNull LinkArgs properties(@NotNull Map<String, Object> map) {
+    checkMutable();
     if (map == null) {
       throw new IllegalArgumentException("Map argument must not be null.");
     }
@@ -285,6 +300,7 @@ public final class LinkArgs implements Cloneable {
    */
   @SuppressWarnings({ "null", "unused" })
   public @NotNull LinkArgs property(@NotNull String key, @Nullable Object value) {
+    checkMutable();
     if (key == null) {
       throw new IllegalArgumentException("Key argument must not be null.");
     }
@@ -294,9 +310,12 @@ public final class LinkArgs implements Cloneable {
 
   /**
    * Custom properties that my be used by application-specific markup builders or processors.
-   * @return Value map
+   * @return Value map. The map is read-only for immutable snapshots.
    */
   public @NotNull ValueMap getProperties() {
+    if (this.immutable) {
+      return this.properties != null ? this.properties : ValueMap.EMPTY;
+    }
     if (this.properties == null) {
       this.properties = new ValueMapDecorator(new HashMap<>());
     }
@@ -313,6 +332,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs linkTargetUrlFallbackProperty(@NotNull String @Nullable... propertyNames) {
+    checkMutable();
     this.linkTargetUrlFallbackProperty = propertyNames;
     return this;
   }
@@ -334,6 +354,7 @@ public final class LinkArgs implements Cloneable {
    * @return this
    */
   public @NotNull LinkArgs linkTargetWindowTargetFallbackProperty(@NotNull String @Nullable... propertyNames) {
+    checkMutable();
     this.linkTargetWindowTargetFallbackProperty = propertyNames;
     return this;
   }
@@ -347,47 +368,134 @@ public final class LinkArgs implements Cloneable {
   }
 
 
+  /**
+   * Creates an immutable snapshot of the current link arguments. All setter methods of the snapshot throw an
+   * {@link UnsupportedOperationException}, and the hash code is computed only once. This makes snapshots
+   * suitable as cache key components. Use {@link #clone()} to get a mutable copy of the snapshot.
+   * @return Immutable link arguments
+   */
+  public @NotNull LinkArgs snapshot() {
+    if (this.immutable) {
+      return this;
+    }
+    LinkArgs snapshot = copyFields();
+    snapshot.linkTargetUrlFallbackProperty = ArrayUtils.clone(this.linkTargetUrlFallbackProperty);
+    snapshot.linkTargetWindowTargetFallbackProperty = ArrayUtils.clone(this.linkTargetWindowTargetFallbackProperty);
+    if (this.properties != null && !this.properties.isEmpty()) {
+      snapshot.properties = new ValueMapDecorator(Collections.unmodifiableMap(new HashMap<>(this.properties)));
+    }
+    snapshot.immutable = true;
+    snapshot.snapshotHashCode = snapshot.computeHashCode();
+    return snapshot;
+  }
+
+  private void checkMutable() {
+    if (this.immutable) {
+      throw new UnsupportedOperationException("LinkArgs snapshot is immutable.");
+    }
+  }
+
+  private @NotNull Map<String, Object> getPropertiesOrEmpty() {
+    return this.properties != null ? this.properties : Collections.emptyMap();
+  }
+
+  private int computeHashCode() {
+    int result = Objects.hash(urlMode, vanityMode, dummyLink, dummyLinkUrl, selectors, extension, suffix,
+        queryString, fragment, windowTarget, disableSuffixSelector, getPropertiesOrEmpty());
+    result = 31 * result + Arrays.hashCode(linkTargetUrlFallbackProperty);
+    result = 31 * result + Arrays.hashCode(linkTargetWindowTargetFallbackProperty);
+    return result;
+  }
+
   @Override
   public int hashCode() {
-    return HashCodeBuilder.reflectionHashCode(this);
+    if (this.immutable) {
+      return this.snapshotHashCode;
+    }
+    return computeHashCode();
   }
 
   @Override
+  @SuppressWarnings("java:S1067") // ignore complexity
   public boolean equals(Object obj) {
-    return EqualsBuilder.reflectionEquals(this, obj);
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LinkArgs)) {
+      return false;
+    }
+    LinkArgs other = (LinkArgs)obj;
+    if (this.immutable && other.immutable && this.snapshotHashCode != other.snapshotHashCode) {
+      return false;
+    }
+    return this.dummyLink == other.dummyLink
+        && this.disableSuffixSelector == other.disableSuffixSelector
+        && Objects.equals(this.urlMode, other.urlMode)
+        && Objects.equals(this.vanityMode, other.vanityMode)
+        && Objects.equals(this.dummyLinkUrl, other.dummyLinkUrl)
+        && Objects.equals(this.selectors, other.selectors)
+        && Objects.equals(this.extension, other.extension)
+        && Objects.equals(this.suffix, other.suffix)
+        && Objects.equals(this.queryString, other.queryString)
+        && Objects.equals(this.fragment, other.fragment)
+        && Objects.equals(this.windowTarget, other.windowTarget)
+        && Arrays.equals(this.linkTargetUrlFallbackProperty, other.linkTargetUrlFallbackProperty)
+        && Arrays.equals(this.linkTargetWindowTargetFallbackProperty, other.linkTargetWindowTargetFallbackProperty)
+        && getPropertiesOrEmpty().equals(other.getPropertiesOrEmpty());
   }
 
   @Override
   public String toString() {
-    return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_OMIT_NULL_STYLE);
+    // fields in alphabetical order
+    return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_OMIT_NULL_STYLE)
+        .append("disableSuffixSelector", disableSuffixSelector)
+        .append("dummyLink", dummyLink)
+        .append("dummyLinkUrl", dummyLinkUrl)
+        .append("extension", extension)
+        .append("fragment", fragment)
+        .append("linkTargetUrlFallbackProperty", linkTargetUrlFallbackProperty)
+        .append("linkTargetWindowTargetFallbackProperty", linkTargetWindowTargetFallbackProperty)
+        .append("properties", properties)
+        .append("queryString", queryString)
+        .append("selectors", selectors)
+        .append("suffix", suffix)
+        .append("urlMode", urlMode)
+        .append("vanityMode", vanityMode)
+        .append("windowTarget", windowTarget)
+        .build();
   }
 
   /**
-   * Custom clone-method for {@link LinkArgs}
+   * Custom clone-method for {@link LinkArgs}. The clone is always mutable.
+   * The properties map and fallback property arrays are copied, empty properties are not copied at all.
    * @return the cloned {@link LinkArgs}
    */
   @Override
   @SuppressWarnings({ "java:S2975", "java:S1182", "checkstyle:SuperCloneCheck" }) // ignore clone warnings
   public LinkArgs clone() { //NOPMD
-    LinkArgs clone = new LinkArgs();
-
-    clone.urlMode = this.urlMode;
-    clone.dummyLink = this.dummyLink;
-    clone.dummyLinkUrl = this.dummyLinkUrl;
-    clone.selectors = this.selectors;
-    clone.extension = this.extension;
-    clone.suffix = this.suffix;
-    clone.queryString = this.queryString;
-    clone.fragment = this.fragment;
-    clone.windowTarget = this.windowTarget;
-    clone.disableSuffixSelector = this.disableSuffixSelector;
+    LinkArgs clone = copyFields();
     clone.linkTargetUrlFallbackProperty = ArrayUtils.clone(this.linkTargetUrlFallbackProperty);
     clone.linkTargetWindowTargetFallbackProperty = ArrayUtils.clone(this.linkTargetWindowTargetFallbackProperty);
-    if (this.properties != null) {
+    if (this.properties != null && !this.properties.isEmpty()) {
       clone.properties = new ValueMapDecorator(new HashMap<>(this.properties));
     }
-
     return clone;
   }
 
+  private @NotNull LinkArgs copyFields() {
+    LinkArgs copy = new LinkArgs();
+    copy.urlMode = this.urlMode;
+    copy.vanityMode = this.vanityMode;
+    copy.dummyLink = this.dummyLink;
+    copy.dummyLinkUrl = this.dummyLinkUrl;
+    copy.selectors = this.selectors;
+    copy.extension = this.extension;
+    copy.suffix = this.suffix;
+    copy.queryString = this.queryString;
+    copy.fragment = this.fragment;
+    copy.windowTarget = this.windowTarget;
+    copy.disableSuffixSelector = this.disableSuffixSelector;
+    return copy;
+  }
+
 }
@@ -19,6 +19,9 @@
  */
 package io.wcm.handler.link;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import io.wcm.handler.url.VanityMode;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -161,6 +164,22 @@ public interface LinkBuilder {
   @NotNull
   Link build();
 
+  /**
+   * Resolve link asynchronously using the given executor.
+   * Each resolution uses its own clone of the resource resolver, created in the calling thread. The cloned resource
+   * resolvers are closed once the resource resolver of the link handler is no longer referenced. Thus the resolved link
+   * and the pages referenced by it can only be used as long as the original resource resolver is in use.
+   * The properties of the link resource are captured when calling this method.
+   * The link handler configuration is looked up for the current page or resource of the link handler.
+   * The request is not available for asynchronous resolution: URL building does not know the host and protocol of
+   * the current request and behaves as for a link handler adapted from a resource. Set the URL mode explicitly if
+   * the result has to match the synchronous resolution.
+   * @param executor Executor, may use virtual threads
+   * @return Future for resolved link
+   */
+  @NotNull
+  CompletableFuture<Link> buildAsync(@NotNull Executor executor);
+
   /**
    * Resolve link and return directly the markup generated by the link markup builder.
    * @return Link markup (only the opening anchor tag) or null if resolving was not successful.
@@ -19,6 +19,11 @@
  */
 package io.wcm.handler.link;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.apache.sling.api.resource.Resource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -76,6 +81,44 @@ public interface LinkHandler {
   @NotNull
   LinkBuilder get(@NotNull LinkRequest linkRequest);
 
+  /**
+   * Resolves links for all given resources (containing properties e.g. pointing to internal or external link).
+   * Identical link definitions are resolved only once, and link handler component properties are looked up only
+   * once per resource type and content policy.
+   * @param resources Resources containing properties that define the link targets
+   * @return Resolved links in the same order as the given resources
+   */
+  @NotNull
+  List<Link> getAll(@NotNull Collection<Resource> resources);
+
+  /**
+   * Resolves internal links for all given content pages.
+   * Links to the same page are resolved only once.
+   * @param pages Target content pages
+   * @return Resolved links in the same order as the given pages
+   */
+  @NotNull
+  List<Link> getAllPages(@NotNull Collection<Page> pages);
+
+  /**
+   * Resolves links for all given references with auto-detecting the type.
+   * Identical references are resolved only once.
+   * @param references Link references (internal or external)
+   * @return Resolved links in the same order as the given references
+   */
+  @NotNull
+  List<Link> getAllReferences(@NotNull Collection<String> references);
+
+  /**
+   * Resolves links for all given resources asynchronously using the given executor.
+   * See {@link LinkBuilder#buildAsync(Executor)} for details.
+   * @param resources Resources containing properties that define the link targets
+   * @param executor Executor, may use virtual threads
+   * @return Future for resolved links in the same order as the given resources
+   */
+  @NotNull
+  CompletableFuture<List<Link>> getAllAsync(@NotNull Collection<Resource> resources, @NotNull Executor executor);
+
   /**
    * Returns an empty link that is marked as invalid.
    * @return Invalid link
@@ -0,0 +1,72 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link;
+
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * Reverse index of link references: maps target page and asset paths to the paths of the resources linking to them.
+ *
+ * <p>
+ * The index is built from the link reference properties of content resources and the redirect target
+ * of redirect pages, and kept up to date from resource change events. It allows to look up the resources
+ * affected by a change, deletion or move of a page or asset without querying the repository.
+ * </p>
+ *
+ * <p>
+ * The index is available as OSGi service if it is activated via OSGi configuration.
+ * </p>
+ */
+@ProviderType
+public interface LinkReferenceIndex {
+
+  /**
+   * Get the resources linking to the given target.
+   * @param targetPath Target page or asset path
+   * @return Paths of referencing resources
+   */
+  @NotNull
+  Set<String> getReferencingResources(@NotNull String targetPath);
+
+  /**
+   * Get the resources linking to the given target or to any target below it.
+   * @param targetRootPath Root path of the target subtree
+   * @return Paths of referencing resources
+   */
+  @NotNull
+  Set<String> getReferencingResourcesForSubtree(@NotNull String targetRootPath);
+
+  /**
+   * Get the link targets referenced by the given resource.
+   * @param resourcePath Path of the referencing resource
+   * @return Target page or asset paths
+   */
+  @NotNull
+  Set<String> getTargets(@NotNull String resourcePath);
+
+  /**
+   * @return true if the initial build of the index is finished. Until then the results may be incomplete.
+   */
+  boolean isReady();
+
+}
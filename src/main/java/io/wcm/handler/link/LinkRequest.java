@@ -43,6 +43,7 @@ public final class LinkRequest {
   private final Page page;
   private final String reference;
   private final LinkArgs linkArgs;
+  private LinkResolveContext resolveContext;
 
   private ValueMap resourceProperties;
 
@@ -64,10 +65,25 @@ public final class LinkRequest {
    * @param linkArgs Link arguments
    */
   public LinkRequest(@Nullable Resource resource, @Nullable Page page, @Nullable String reference, @Nullable LinkArgs linkArgs) {
+    this(resource, page, reference, linkArgs, null);
+  }
+
+  /**
+   * Constructor.
+   * @param resource Resource containing properties that define the link target
+   * @param page Target content page
+   * @param reference Link reference (internal or external).
+   * @param linkArgs Link arguments
+   * @param resolveContext Resolve context. Pass the context derived from the outer resolution for nested
+   *          link resolutions. If null, a new context for a top-level resolution is created.
+   */
+  public LinkRequest(@Nullable Resource resource, @Nullable Page page, @Nullable String reference, @Nullable LinkArgs linkArgs,
+      @Nullable LinkResolveContext resolveContext) {
     this.resource = resource;
     this.page = page;
     this.reference = reference;
     this.linkArgs = linkArgs != null ? linkArgs : new LinkArgs();
+    this.resolveContext = resolveContext;
 
     // validate parameters
     int linkParamCount = (resource != null ? 1 : 0)
@@ -110,17 +126,30 @@ public final class LinkRequest {
     return this.linkArgs;
   }
 
+  /**
+   * Get resolve context.
+   * @return Resolve context
+   */
+  public @NotNull LinkResolveContext getResolveContext() {
+    if (this.resolveContext == null) {
+      this.resolveContext = new LinkResolveContext();
+    }
+    return this.resolveContext;
+  }
+
   /**
    * Get resource properties.
-   * @return Properties from resource containing target link. The value map is a copy
-   *         of the original map so it is safe to change the property values contained in the map.
+   * @return Properties from resource containing target link. Changes to the value map are not written
+   *         back to the original map so it is safe to change the property values contained in the map.
    */
   public @NotNull ValueMap getResourceProperties() {
     if (this.resourceProperties == null) {
-      // create a copy of the original map
-      this.resourceProperties = new ValueMapDecorator(new HashMap<>());
       if (this.resource != null) {
-        this.resourceProperties.putAll(resource.getValueMap());
+        // read through to original map, copy only changed properties
+        this.resourceProperties = new CopyOnWriteValueMap(resource.getValueMap());
+      }
+      else {
+        this.resourceProperties = new ValueMapDecorator(new HashMap<>());
       }
     }
     return this.resourceProperties;
@@ -0,0 +1,140 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * Context of a link resolution, carried by the {@link LinkRequest}.
+ * Tracks recursion depth and visited targets of nested resolutions (e.g. for redirect pages) to detect endless
+ * loops, an optional deadline, and attributes shared by all nested resolutions.
+ *
+ * <p>
+ * Instances are immutable apart from the shared attributes and not bound to a thread, so a resolution can be
+ * continued in another thread. For each nested resolution a new instance is derived via {@link #nested(String)}.
+ * </p>
+ */
+@ProviderType
+public final class LinkResolveContext {
+
+  /**
+   * Maximum number of "recursion hops" allowed for link resolving.
+   */
+  public static final int MAX_DEPTH = 5;
+
+  private final int depth;
+  private final Set<String> visitedTargets;
+  private final boolean hasDeadline;
+  private final long deadlineNanos;
+  private final Map<Object, Object> attributes;
+
+  /**
+   * Creates a context for a new top-level link resolution without deadline.
+   */
+  public LinkResolveContext() {
+    this(0, Collections.emptySet(), false, 0L, new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Creates a context for a new top-level link resolution with deadline.
+   * @param timeout Maximum time the link resolution including all nested resolutions may take
+   */
+  public LinkResolveContext(@NotNull Duration timeout) {
+    this(0, Collections.emptySet(), true, System.nanoTime() + timeout.toNanos(), new ConcurrentHashMap<>());
+  }
+
+  private LinkResolveContext(int depth, @NotNull Set<String> visitedTargets, boolean hasDeadline, long deadlineNanos,
+      @NotNull Map<Object, Object> attributes) {
+    this.depth = depth;
+    this.visitedTargets = visitedTargets;
+    this.hasDeadline = hasDeadline;
+    this.deadlineNanos = deadlineNanos;
+    this.attributes = attributes;
+  }
+
+  /**
+   * Derives the context for a nested link resolution.
+   * @param target Target that is resolved in the nested resolution (e.g. path of redirect page)
+   * @return New context with increased depth and the given target marked as visited
+   */
+  public @NotNull LinkResolveContext nested(@NotNull String target) {
+    Set<String> nestedVisitedTargets = new HashSet<>(visitedTargets);
+    nestedVisitedTargets.add(target);
+    return new LinkResolveContext(depth + 1, Collections.unmodifiableSet(nestedVisitedTargets),
+        hasDeadline, deadlineNanos, attributes);
+  }
+
+  /**
+   * Get recursion depth.
+   * @return 0 for a top-level resolution, increased by 1 for each nested resolution
+   */
+  public int getDepth() {
+    return this.depth;
+  }
+
+  /**
+   * Check if maximum is reached.
+   * @return true if maximum of allowed recursion steps is reached.
+   */
+  public boolean isMaximumDepthReached() {
+    return this.depth > MAX_DEPTH;
+  }
+
+  /**
+   * Check if the given target was already resolved by one of the outer resolutions.
+   * @param target Target (e.g. path of redirect page)
+   * @return true if the target was visited, which indicates an endless loop
+   */
+  public boolean isVisited(@NotNull String target) {
+    return visitedTargets.contains(target);
+  }
+
+  /**
+   * @return Targets visited by the outer resolutions
+   */
+  public @NotNull Set<String> getVisitedTargets() {
+    return this.visitedTargets;
+  }
+
+  /**
+   * @return true if a deadline was set and is exceeded
+   */
+  public boolean isDeadlineExceeded() {
+    return hasDeadline && System.nanoTime() - deadlineNanos > 0;
+  }
+
+  /**
+   * Attributes shared by the top-level resolution and all nested resolutions, e.g. for caching intermediate results.
+   * The map is thread-safe.
+   * @return Attributes map
+   */
+  public @NotNull Map<Object, Object> getAttributes() {
+    return this.attributes;
+  }
+
+}
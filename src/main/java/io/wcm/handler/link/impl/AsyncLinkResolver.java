@@ -0,0 +1,192 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.io.Closeable;
+import java.lang.ref.Cleaner;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.jetbrains.annotations.NotNull;
+
+import com.day.cq.wcm.api.Page;
+import com.day.cq.wcm.api.PageManager;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkArgs;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.SyntheticLinkResource;
+import io.wcm.sling.commons.adapter.AdaptTo;
+
+/**
+ * Resolves links asynchronously using an executor.
+ *
+ * <p>
+ * Resource resolvers are not thread-safe, so each asynchronous resolution uses its own clone of the original
+ * resource resolver. The clone is created in the calling thread, the worker thread only accesses its own clone.
+ * A clone is never reused for another resolution, because the resolved link keeps pages and resources read via
+ * this clone. The clones are closed when {@link #close()} is called, or when the original resource resolver is no
+ * longer referenced. This keeps pages and resources referenced by the resolved links usable as long as the original
+ * resource resolver is in use.
+ * </p>
+ *
+ * <p>
+ * All data of the link request including the properties of the link resource is captured in the calling thread.
+ * No thread-local state is used, so the executor may use virtual threads.
+ * </p>
+ *
+ * <p>
+ * The link handler in the worker thread is adapted from the content resource of the current page (or the resource
+ * the original link handler was adapted from), not from the request. So URL building does not know the host and
+ * protocol of the current request, e.g. for the default URL mode, and behaves as for link handlers adapted from a
+ * resource.
+ * </p>
+ */
+final class AsyncLinkResolver implements Closeable {
+
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final Queue<ResourceResolver> clonedResourceResolvers = new ConcurrentLinkedQueue<>();
+
+  /**
+   * @param resourceResolver Original resource resolver. The cloned resource resolvers are closed once it is no
+   *          longer referenced.
+   */
+  AsyncLinkResolver(@NotNull ResourceResolver resourceResolver) {
+    // the cleanup action must not reference the original resource resolver
+    CLEANER.register(resourceResolver, new CloseResourceResolvers(clonedResourceResolvers));
+  }
+
+  /**
+   * Resolves link asynchronously.
+   * @param linkRequest Link request
+   * @param resourceResolver Original resource resolver, cloned in the calling thread
+   * @param contextPath Path of the resource the link handler is adapted from in the worker thread
+   * @param executor Executor
+   * @return Future for resolved link
+   */
+  @NotNull
+  CompletableFuture<Link> resolve(@NotNull LinkRequest linkRequest, @NotNull ResourceResolver resourceResolver,
+      @NotNull String contextPath, @NotNull Executor executor) {
+    // capture link request data and clone resource resolver in calling thread
+    Resource resource = linkRequest.getResource();
+    String resourcePath = resource != null ? resource.getPath() : null;
+    Map<String, Object> resourceProperties = resource != null ? new HashMap<>(resource.getValueMap()) : null;
+    Page page = linkRequest.getPage();
+    String pagePath = page != null ? page.getPath() : null;
+    String reference = linkRequest.getReference();
+    LinkArgs linkArgs = linkRequest.getLinkArgs().clone();
+    // the cloned resource resolver stays open as long as the original resource resolver is in use, because
+    // the resolved link references pages and resources read via it
+    ResourceResolver workerResourceResolver = cloneResourceResolver(resourceResolver);
+
+    return CompletableFuture.supplyAsync(() -> {
+      Resource workerResource = null;
+      if (resourcePath != null) {
+        workerResource = new SyntheticLinkResource(workerResourceResolver, resourcePath, resourceProperties);
+      }
+      Page workerPage = null;
+      String workerReference = reference;
+      if (pagePath != null) {
+        PageManager pageManager = AdaptTo.notNull(workerResourceResolver, PageManager.class);
+        workerPage = pageManager.getPage(pagePath);
+        if (workerPage == null) {
+          // page is not visible in repository - resolve by path instead
+          workerReference = pagePath;
+        }
+      }
+      LinkRequest workerLinkRequest = new LinkRequest(workerResource, workerPage, workerReference, linkArgs);
+
+      Resource contextResource = workerResourceResolver.getResource(contextPath);
+      if (contextResource == null) {
+        contextResource = new SyntheticLinkResource(workerResourceResolver, contextPath, new HashMap<>());
+      }
+      LinkHandler linkHandler = AdaptTo.notNull(contextResource, LinkHandler.class);
+      if (linkHandler instanceof LinkHandlerImpl) {
+        // link args are already complete, skip applying component properties once more
+        return ((LinkHandlerImpl)linkHandler).processRequest(workerLinkRequest);
+      }
+      return linkHandler.get(workerLinkRequest).build();
+    }, executor);
+  }
+
+  private @NotNull ResourceResolver cloneResourceResolver(@NotNull ResourceResolver resourceResolver) {
+    ResourceResolver resolver;
+    try {
+      resolver = resourceResolver.clone(null);
+    }
+    catch (LoginException ex) {
+      throw new IllegalStateException("Unable to clone resource resolver for asynchronous link resolution.", ex);
+    }
+    clonedResourceResolvers.add(resolver);
+    return resolver;
+  }
+
+  /**
+   * @return Number of cloned resource resolvers
+   */
+  int getResourceResolverCount() {
+    return clonedResourceResolvers.size();
+  }
+
+  /**
+   * Closes all cloned resource resolvers.
+   */
+  @Override
+  public void close() {
+    closeAll(clonedResourceResolvers);
+  }
+
+  private static void closeAll(@NotNull Queue<ResourceResolver> resourceResolvers) {
+    ResourceResolver resolver;
+    while ((resolver = resourceResolvers.poll()) != null) {
+      if (resolver.isLive()) {
+        resolver.close();
+      }
+    }
+  }
+
+  /**
+   * Closes the cloned resource resolvers once the original resource resolver is no longer referenced.
+   */
+  private static final class CloseResourceResolvers implements Runnable {
+
+    private final Queue<ResourceResolver> resourceResolvers;
+
+    CloseResourceResolvers(@NotNull Queue<ResourceResolver> resourceResolvers) {
+      this.resourceResolvers = resourceResolvers;
+    }
+
+    @Override
+    public void run() {
+      closeAll(resourceResolvers);
+    }
+
+  }
+
+}
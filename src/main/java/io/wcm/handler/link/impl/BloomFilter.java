@@ -0,0 +1,116 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thread-safe Bloom filter for strings. Never returns false negatives, false positives occur with the
+ * configured probability as long as the number of added strings does not exceed the expected number.
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions Expected number of strings
+   * @param falsePositiveProbability False positive probability (0..1)
+   */
+  BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+    long n = Math.max(expectedInsertions, 1);
+    double p = Math.min(Math.max(falsePositiveProbability, Double.MIN_VALUE), 0.5d);
+    long m = (long)Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+    m = Math.max(64, Math.min(m, (long)Integer.MAX_VALUE * Long.SIZE));
+    this.bits = new AtomicLongArray((int)((m + Long.SIZE - 1) / Long.SIZE));
+    this.bitCount = (long)bits.length() * Long.SIZE;
+    this.hashCount = Math.max(1, (int)Math.round((double)bitCount / n * Math.log(2)));
+  }
+
+  /**
+   * Add string to filter.
+   * @param value Value
+   */
+  void add(@NotNull String value) {
+    long hash = hash(value);
+    long hash1 = mix(hash);
+    long hash2 = mix(hash1) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bitIndex = Math.floorMod(hash1 + i * hash2, bitCount);
+      int wordIndex = (int)(bitIndex >>> 6);
+      long mask = 1L << bitIndex;
+      long word = bits.get(wordIndex);
+      while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask)) {
+        word = bits.get(wordIndex);
+      }
+    }
+  }
+
+  /**
+   * Checks if the string may have been added to the filter.
+   * @param value Value
+   * @return false if the string was definitely not added
+   */
+  boolean mightContain(@NotNull String value) {
+    long hash = hash(value);
+    long hash1 = mix(hash);
+    long hash2 = mix(hash1) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bitIndex = Math.floorMod(hash1 + i * hash2, bitCount);
+      if ((bits.get((int)(bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int getHashCount() {
+    return this.hashCount;
+  }
+
+  long getBitCount() {
+    return this.bitCount;
+  }
+
+  // 64-bit FNV-1a
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  // MurmurHash3 64-bit finalizer
+  private static long mix(long value) {
+    long result = value;
+    result ^= result >>> 33;
+    result *= 0xff51afd7ed558ccdL;
+    result ^= result >>> 33;
+    result *= 0xc4ceb9fe1a85ec53L;
+    result ^= result >>> 33;
+    return result;
+  }
+
+}
@@ -0,0 +1,450 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CROSSCONTEXT_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_EXTERNAL_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_MEDIA_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.event.jobs.Job;
+import org.apache.sling.event.jobs.consumer.JobConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.day.cq.wcm.api.Page;
+import com.day.cq.wcm.api.PageManager;
+import com.day.cq.wcm.api.PageManagerFactory;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+
+/**
+ * Sling job that validates all links stored in resources of a content subtree and writes a CSV report
+ * of the broken links to a file.
+ *
+ * <p>
+ * All resources with a link type or link reference property are resolved via the link handler. Links with an
+ * invalid link reference and links with an invalid redirect chain are reported. The subtree is split into
+ * partitions that are traversed in parallel by worker threads, each with its own resource resolver for the
+ * service user mapped to the subservice {@value #SUBSERVICE_NAME}. The traversal keeps only the path from the
+ * partition root to the current resource in memory, report lines are written to the file immediately.
+ * </p>
+ *
+ * <p>
+ * Job properties: {@value #PROPERTY_ROOT_PATH} (content subtree) and {@value #PROPERTY_REPORT_PATH}
+ * (name of the report file). The report file is always written to the report directory configured via OSGi
+ * configuration, report file names resolving to a location outside this directory are rejected. Without configured
+ * report directory all jobs are cancelled.
+ * </p>
+ *
+ * <p>
+ * Links are resolved with a link handler for the page containing the link resource, so they are validated
+ * in the same context as when rendering this page.
+ * </p>
+ */
+@Component(service = JobConsumer.class,
+    property = JobConsumer.PROPERTY_TOPICS + "=" + BrokenLinkReportJob.TOPIC)
+@Designate(ocd = BrokenLinkReportJob.Config.class)
+public final class BrokenLinkReportJob implements JobConsumer {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Broken Link Report",
+      description = "Validates the links of a content subtree and writes a report of broken links.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Threads",
+        description = "Number of worker threads traversing the content subtree in parallel.")
+    int threadCount() default 4;
+
+    @AttributeDefinition(
+        name = "Report directory",
+        description = "Directory in the local file system the reports are written to. "
+            + "Reports are only written if a directory is configured.")
+    String reportDirectory() default "";
+
+  }
+
+  /**
+   * Job topic.
+   */
+  public static final String TOPIC = "io/wcm/handler/link/brokenLinkReport";
+
+  /**
+   * Job property with the root path of the content subtree to validate.
+   */
+  public static final String PROPERTY_ROOT_PATH = "rootPath";
+
+  /**
+   * Job property with the name of the report file, relative to the configured report directory.
+   */
+  public static final String PROPERTY_REPORT_PATH = "reportPath";
+
+  static final String SUBSERVICE_NAME = "link-report";
+
+  static final String REASON_INVALID_REFERENCE = "INVALID_REFERENCE";
+  static final String REASON_INVALID_REDIRECT = "INVALID_REDIRECT";
+
+  private static final String[] LINK_REF_PROPERTIES = {
+      PN_LINK_CONTENT_REF,
+      PN_LINK_CROSSCONTEXT_CONTENT_REF,
+      PN_LINK_MEDIA_REF,
+      PN_LINK_EXTERNAL_REF
+  };
+
+  // split the subtree into more partitions than threads to balance unevenly sized subtrees
+  private static final int PARTITIONS_PER_THREAD = 8;
+  private static final int MAX_PARTITION_DEPTH = 5;
+
+  private static final Logger log = LoggerFactory.getLogger(BrokenLinkReportJob.class);
+
+  @Reference
+  private ResourceResolverFactory resourceResolverFactory;
+  @Reference
+  private PageManagerFactory pageManagerFactory;
+
+  private int threadCount;
+  private Path reportDirectory;
+
+  @Activate
+  void activate(Config config) {
+    this.threadCount = Math.max(1, config.threadCount());
+    if (StringUtils.isNotBlank(config.reportDirectory())) {
+      this.reportDirectory = Paths.get(config.reportDirectory()).toAbsolutePath().normalize();
+    }
+  }
+
+  @Override
+  public JobResult process(Job job) {
+    String rootPath = job.getProperty(PROPERTY_ROOT_PATH, String.class);
+    String reportPath = job.getProperty(PROPERTY_REPORT_PATH, String.class);
+    if (StringUtils.isAnyBlank(rootPath, reportPath)) {
+      log.warn("Broken link report job without {} or {}.", PROPERTY_ROOT_PATH, PROPERTY_REPORT_PATH);
+      return JobResult.CANCEL;
+    }
+    if (reportDirectory == null) {
+      log.warn("Broken link report job cancelled, no report directory configured.");
+      return JobResult.CANCEL;
+    }
+    Path reportFile = reportDirectory.resolve(reportPath).normalize();
+    if (!reportFile.startsWith(reportDirectory) || reportFile.equals(reportDirectory)) {
+      log.warn("Broken link report job cancelled, report path outside of report directory: {}", reportPath);
+      return JobResult.CANCEL;
+    }
+    try {
+      Files.createDirectories(reportDirectory);
+    }
+    catch (IOException ex) {
+      log.warn("Unable to create report directory {}.", reportDirectory, ex);
+      return JobResult.FAILED;
+    }
+    try (Writer writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+      long count = writeReport(rootPath, writer);
+      log.info("Wrote broken link report for {} with {} broken links to {}.", rootPath, count, reportFile);
+      return JobResult.OK;
+    }
+    catch (IOException | LoginException ex) {
+      log.warn("Unable to write broken link report for {} to {}.", rootPath, reportFile, ex);
+      return JobResult.FAILED;
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return JobResult.FAILED;
+    }
+  }
+
+  /**
+   * Validates the links in the given content subtree and writes a CSV report of the broken links.
+   * @param rootPath Root path of content subtree
+   * @param writer Report writer
+   * @return Number of broken links
+   * @throws IOException I/O exception
+   * @throws LoginException Service user not available
+   * @throws InterruptedException Thread was interrupted
+   */
+  long writeReport(@NotNull String rootPath, @NotNull Writer writer)
+      throws IOException, LoginException, InterruptedException {
+    ReportWriter reportWriter = new ReportWriter(writer);
+    reportWriter.writeHeader();
+
+    List<String> partitionPaths = new ArrayList<>();
+    try (ResourceResolver resourceResolver = getServiceResourceResolver()) {
+      Resource root = resourceResolver.getResource(rootPath);
+      if (root == null) {
+        log.warn("Root path for broken link report does not exist: {}", rootPath);
+        return 0;
+      }
+      // resources above the partition roots are validated directly
+      new Worker(resourceResolver, reportWriter).validatePartitionParents(root, partitionPaths);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<?>> futures = new ArrayList<>(partitionPaths.size());
+      for (String partitionPath : partitionPaths) {
+        futures.add(executor.submit(() -> {
+          validatePartition(partitionPath, reportWriter);
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+    catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException)cause;
+      }
+      if (cause instanceof LoginException) {
+        throw (LoginException)cause;
+      }
+      throw new IllegalStateException("Error validating links.", cause);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    return reportWriter.getCount();
+  }
+
+  private void validatePartition(@NotNull String partitionPath, @NotNull ReportWriter reportWriter)
+      throws IOException, LoginException {
+    try (ResourceResolver resourceResolver = getServiceResourceResolver()) {
+      Resource partitionRoot = resourceResolver.getResource(partitionPath);
+      if (partitionRoot != null) {
+        new Worker(resourceResolver, reportWriter).validateSubtree(partitionRoot);
+      }
+    }
+  }
+
+  private @NotNull ResourceResolver getServiceResourceResolver() throws LoginException {
+    return resourceResolverFactory.getServiceResourceResolver(
+        Map.of(ResourceResolverFactory.SUBSERVICE, SUBSERVICE_NAME));
+  }
+
+  /**
+   * Validates the links of resources with the resource resolver of one thread.
+   */
+  private final class Worker {
+
+    private final PageManager pageManager;
+    private final ReportWriter reportWriter;
+    // link handler of the page visited last - the depth-first traversal visits the resources of a page in a row
+    private String linkHandlerPagePath;
+    private LinkHandler linkHandler;
+
+    Worker(@NotNull ResourceResolver resourceResolver, @NotNull ReportWriter reportWriter) {
+      this.pageManager = pageManagerFactory.getPageManager(resourceResolver);
+      this.reportWriter = reportWriter;
+    }
+
+    /**
+     * Splits the subtree breadth-first into partitions and validates the resources above the partition roots.
+     */
+    void validatePartitionParents(@NotNull Resource root, @NotNull List<String> partitionPaths) throws IOException {
+      int targetPartitions = threadCount * PARTITIONS_PER_THREAD;
+      List<Resource> level = List.of(root);
+      int depth = 0;
+      while (depth < MAX_PARTITION_DEPTH && !level.isEmpty() && level.size() < targetPartitions) {
+        List<Resource> nextLevel = new ArrayList<>();
+        for (Resource resource : level) {
+          validate(resource);
+          for (Resource child : resource.getChildren()) {
+            nextLevel.add(child);
+          }
+        }
+        level = nextLevel;
+        depth++;
+      }
+      for (Resource resource : level) {
+        partitionPaths.add(resource.getPath());
+      }
+    }
+
+    /**
+     * Validates all resources of the subtree depth-first, keeping only the child iterators of the current path.
+     */
+    void validateSubtree(@NotNull Resource partitionRoot) throws IOException {
+      validate(partitionRoot);
+      Deque<Iterator<Resource>> stack = new ArrayDeque<>();
+      stack.push(partitionRoot.listChildren());
+      while (!stack.isEmpty()) {
+        Iterator<Resource> children = stack.peek();
+        if (!children.hasNext()) {
+          stack.pop();
+          continue;
+        }
+        Resource resource = children.next();
+        validate(resource);
+        stack.push(resource.listChildren());
+      }
+    }
+
+    private void validate(@NotNull Resource resource) throws IOException {
+      ValueMap props = resource.getValueMap();
+      if (!hasLinkProperty(props)) {
+        return;
+      }
+      LinkHandler linkHandler = getLinkHandler(resource);
+      if (linkHandler == null) {
+        return;
+      }
+      Link link = linkHandler.get(resource).build();
+      String reason = getReason(link);
+      if (reason != null) {
+        reportWriter.write(resource.getPath(), link.getLinkType().getId(), getReference(link, props), reason);
+      }
+    }
+
+    /**
+     * Get link handler for the page containing the resource. It is reused for all resources of the same page.
+     */
+    private @Nullable LinkHandler getLinkHandler(@NotNull Resource resource) {
+      Page page = pageManager.getContainingPage(resource);
+      if (page == null) {
+        return resource.adaptTo(LinkHandler.class);
+      }
+      if (linkHandler == null || !StringUtils.equals(page.getPath(), linkHandlerPagePath)) {
+        linkHandler = resource.adaptTo(LinkHandler.class);
+        linkHandlerPagePath = linkHandler != null ? page.getPath() : null;
+      }
+      return linkHandler;
+    }
+
+  }
+
+  private static boolean hasLinkProperty(@NotNull ValueMap props) {
+    if (props.containsKey(PN_LINK_TYPE)) {
+      return true;
+    }
+    for (String propertyName : LINK_REF_PROPERTIES) {
+      if (props.containsKey(propertyName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static @Nullable String getReason(@NotNull Link link) {
+    if (link.isValid()) {
+      return null;
+    }
+    if (!link.getRedirectPages().isEmpty()) {
+      return REASON_INVALID_REDIRECT;
+    }
+    if (link.isLinkReferenceInvalid()) {
+      return REASON_INVALID_REFERENCE;
+    }
+    return null;
+  }
+
+  private static @Nullable String getReference(@NotNull Link link, @NotNull ValueMap props) {
+    String primaryLinkRefProperty = link.getLinkType().getPrimaryLinkRefProperty();
+    if (primaryLinkRefProperty != null) {
+      String reference = props.get(primaryLinkRefProperty, String.class);
+      if (StringUtils.isNotEmpty(reference)) {
+        return reference;
+      }
+    }
+    for (String propertyName : LINK_REF_PROPERTIES) {
+      String reference = props.get(propertyName, String.class);
+      if (StringUtils.isNotEmpty(reference)) {
+        return reference;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Writes report lines in CSV format, shared by all worker threads.
+   */
+  private static final class ReportWriter {
+
+    private final Writer writer;
+    private final AtomicLong count = new AtomicLong();
+
+    ReportWriter(@NotNull Writer writer) {
+      this.writer = writer;
+    }
+
+    synchronized void writeHeader() throws IOException {
+      writer.write("path,linkType,reference,reason\n");
+    }
+
+    void write(@NotNull String path, @NotNull String linkType, @Nullable String reference, @NotNull String reason)
+        throws IOException {
+      String line = escape(path) + "," + escape(linkType) + "," + escape(reference) + "," + reason + "\n";
+      synchronized (this) {
+        writer.write(line);
+      }
+      count.incrementAndGet();
+    }
+
+    long getCount() {
+      return count.get();
+    }
+
+    private static @NotNull String escape(@Nullable String value) {
+      if (value == null) {
+        return "";
+      }
+      if (StringUtils.containsAny(value, ',', '"', '\n', '\r')) {
+        return "\"" + StringUtils.replace(value, "\"", "\"\"") + "\"";
+      }
+      return value;
+    }
+
+  }
+
+}
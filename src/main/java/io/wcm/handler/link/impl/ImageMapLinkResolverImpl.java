@@ -19,6 +19,11 @@
  */
 package io.wcm.handler.link.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.sling.api.resource.Resource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -26,25 +31,58 @@ import org.osgi.service.component.annotations.Component;
 
 import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.spi.ImageMapLinkBatchResolver;
 import io.wcm.handler.media.spi.ImageMapLinkResolver;
 
 /**
  * Autodetects and resolves a link URL found by wcm.io Media Handler in a Image Map string.
  */
-@Component(service = ImageMapLinkResolver.class, immediate = true)
-public class ImageMapLinkResolverImpl implements ImageMapLinkResolver<Link> {
+@Component(service = { ImageMapLinkResolver.class, ImageMapLinkBatchResolver.class }, immediate = true)
+public class ImageMapLinkResolverImpl implements ImageMapLinkBatchResolver<Link> {
 
   @Override
   public @Nullable Link resolveLink(@NotNull String linkUrl, @Nullable String linkWindowTarget, @NotNull Resource context) {
     LinkHandler linkHandler = context.adaptTo(LinkHandler.class);
     if (linkHandler != null) {
-      return linkHandler.get(linkUrl)
-          .windowTarget(linkWindowTarget)
-          .build();
+      return resolveLink(linkHandler, linkUrl, linkWindowTarget);
     }
     return null;
   }
 
+  /**
+   * Resolves the links of all areas of an image map, adapting the link handler only once for the context resource.
+   * Areas with identical link URL and window target are resolved only once, each further area gets a copy.
+   */
+  @Override
+  public @NotNull List<@Nullable Link> resolveLinks(@NotNull List<Area> areas, @NotNull Resource context) {
+    LinkHandler linkHandler = areas.isEmpty() ? null : context.adaptTo(LinkHandler.class);
+    List<Link> result = new ArrayList<>(areas.size());
+    if (linkHandler == null) {
+      areas.forEach(area -> result.add(null));
+      return result;
+    }
+    Map<Area, Link> resolvedLinks = new HashMap<>();
+    for (Area area : areas) {
+      Link link = resolvedLinks.get(area);
+      if (link == null) {
+        link = resolveLink(linkHandler, area.getLinkUrl(), area.getLinkWindowTarget());
+        resolvedLinks.put(area, link);
+        result.add(link);
+      }
+      else {
+        result.add(link.copy());
+      }
+    }
+    return result;
+  }
+
+  private static @NotNull Link resolveLink(@NotNull LinkHandler linkHandler, @NotNull String linkUrl,
+      @Nullable String linkWindowTarget) {
+    return linkHandler.get(linkUrl)
+        .windowTarget(linkWindowTarget)
+        .build();
+  }
+
   @Override
   public @Nullable String getLinkUrl(@Nullable Link link) {
     if (link != null && link.isValid()) {
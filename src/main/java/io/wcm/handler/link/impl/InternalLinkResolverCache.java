@@ -0,0 +1,233 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+import com.day.cq.commons.jcr.JcrConstants;
+
+/**
+ * Instance-wide cache for results of {@link io.wcm.handler.link.type.helpers.InternalLinkResolver}.
+ * Caches the target page path and URL of internal links not pointing to redirect pages, and internal links
+ * pointing to non-existing pages. Entries are invalidated on content changes affecting the cached paths,
+ * all entries are invalidated on configuration changes.
+ *
+ * <p>
+ * The cache is only active if an OSGi configuration is present.
+ * </p>
+ */
+@Component(service = { InternalLinkResolverCache.class, ResourceChangeListener.class },
+    configurationPolicy = ConfigurationPolicy.REQUIRE,
+    property = {
+        ResourceChangeListener.PATHS + "=/content",
+        ResourceChangeListener.PATHS + "=/conf",
+        ResourceChangeListener.CHANGES + "=ADDED",
+        ResourceChangeListener.CHANGES + "=CHANGED",
+        ResourceChangeListener.CHANGES + "=REMOVED"
+    })
+@Designate(ocd = InternalLinkResolverCache.Config.class)
+public final class InternalLinkResolverCache implements ResourceChangeListener, ExternalResourceChangeListener {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Internal Link Cache",
+      description = "Caches resolved internal links across requests, invalidated on content changes.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Max. entries",
+        description = "Maximum number of cached internal links.")
+    int maxSize() default 10000;
+
+  }
+
+  private static final String CONF_ROOT = "/conf";
+  private static final String JCR_CONTENT_PATH_PART = "/" + JcrConstants.JCR_CONTENT;
+
+  private Map<Key, Entry> cache;
+
+  @Activate
+  void activate(Config config) {
+    int maxSize = config.maxSize();
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, InternalLinkResolverCache.Entry> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Get cached entry.
+   * @param key Cache key
+   * @return Cache entry or null
+   */
+  public @Nullable Entry get(@NotNull Key key) {
+    synchronized (cache) {
+      return cache.get(key);
+    }
+  }
+
+  /**
+   * Put cache entry.
+   * @param key Cache key
+   * @param entry Cache entry
+   */
+  public void put(@NotNull Key key, @NotNull Entry entry) {
+    synchronized (cache) {
+      cache.put(key, entry);
+    }
+  }
+
+  /**
+   * @return Number of cached entries
+   */
+  int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    List<String> changedPaths = new ArrayList<>(changes.size());
+    for (ResourceChange change : changes) {
+      String path = change.getPath();
+      if (StringUtils.equals(path, CONF_ROOT) || StringUtils.startsWith(path, CONF_ROOT + "/")) {
+        // configuration may affect all links (e.g. site URLs)
+        synchronized (cache) {
+          cache.clear();
+        }
+        return;
+      }
+      changedPaths.add(StringUtils.substringBefore(path, JCR_CONTENT_PATH_PART));
+    }
+    synchronized (cache) {
+      Iterator<Entry> entries = cache.values().iterator();
+      while (entries.hasNext()) {
+        if (entries.next().isAffectedBy(changedPaths)) {
+          entries.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * Cache key. Consists of all parameters influencing the result of the internal link resolution.
+   */
+  public static final class Key {
+
+    private final Object[] parts;
+    private final int hashCode;
+
+    /**
+     * @param parts Key parts
+     */
+    public Key(@Nullable Object... parts) {
+      this.parts = parts;
+      this.hashCode = Arrays.hashCode(parts);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key)obj;
+      return hashCode == other.hashCode && Arrays.equals(parts, other.parts);
+    }
+
+  }
+
+  /**
+   * Cached result of internal link resolution.
+   */
+  public static final class Entry {
+
+    private final String targetPagePath;
+    private final String url;
+    private final String[] dependencyPaths;
+
+    /**
+     * @param targetPagePath Path of target page or null if target page does not exist
+     * @param url Link URL or null
+     * @param dependencyPaths Content paths the result depends on
+     */
+    public Entry(@Nullable String targetPagePath, @Nullable String url, @NotNull String @NotNull... dependencyPaths) {
+      this.targetPagePath = targetPagePath;
+      this.url = url;
+      this.dependencyPaths = dependencyPaths;
+    }
+
+    /**
+     * @return Path of target page or null if target page does not exist
+     */
+    public @Nullable String getTargetPagePath() {
+      return this.targetPagePath;
+    }
+
+    /**
+     * @return Link URL or null
+     */
+    public @Nullable String getUrl() {
+      return this.url;
+    }
+
+    boolean isAffectedBy(@NotNull List<String> changedPaths) {
+      for (String dependencyPath : dependencyPaths) {
+        for (String changedPath : changedPaths) {
+          // change of the page itself or removal/move of a parent page
+          if (StringUtils.equals(dependencyPath, changedPath) || StringUtils.startsWith(dependencyPath, changedPath + "/")) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+  }
+
+}
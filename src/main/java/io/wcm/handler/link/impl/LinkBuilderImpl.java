@@ -19,13 +19,14 @@
  */
 package io.wcm.handler.link.impl;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ValueMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.day.cq.wcm.api.Page;
 
@@ -34,12 +35,11 @@ import io.wcm.handler.commons.dom.Anchor;
 import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkArgs;
 import io.wcm.handler.link.LinkBuilder;
-import io.wcm.handler.link.LinkComponentPropertyResolver;
 import io.wcm.handler.link.LinkNameConstants;
 import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.LinkResolveContext;
 import io.wcm.handler.url.UrlMode;
 import io.wcm.handler.url.VanityMode;
-import io.wcm.wcm.commons.component.ComponentPropertyResolverFactory;
 
 /**
  * Default implementation or {@link LinkBuilder}.
@@ -51,34 +51,36 @@ final class LinkBuilderImpl implements LinkBuilder {
   private final Resource resource;
   private final Page page;
   private final String reference;
+  private final LinkResolveContext resolveContext;
   private LinkArgs linkArgs = new LinkArgs();
 
-  private static final Logger log = LoggerFactory.getLogger(LinkBuilderImpl.class);
-
   LinkBuilderImpl(@Nullable Resource resource, @NotNull LinkHandlerImpl linkHandler,
-      @NotNull ComponentPropertyResolverFactory componentPropertyResolverFactory) {
+      @NotNull LinkComponentProperties componentProperties) {
     this.resource = resource;
     this.page = null;
     this.reference = null;
+    this.resolveContext = null;
     this.linkHandler = linkHandler;
-    resolveWindowTargetAndFallbackProperties(componentPropertyResolverFactory);
+    resolveWindowTargetAndFallbackProperties(componentProperties);
   }
 
   LinkBuilderImpl(@NotNull LinkRequest linkRequest, @NotNull LinkHandlerImpl linkHandler,
-      @NotNull ComponentPropertyResolverFactory componentPropertyResolverFactory) {
+      @NotNull LinkComponentProperties componentProperties) {
     this.resource = linkRequest.getResource();
     this.page = linkRequest.getPage();
     this.reference = linkRequest.getReference();
+    this.resolveContext = linkRequest.getResolveContext();
     this.linkHandler = linkHandler;
     // clone link args to make sure the original object is not modified
     this.linkArgs = linkRequest.getLinkArgs().clone();
-    resolveWindowTargetAndFallbackProperties(componentPropertyResolverFactory);
+    resolveWindowTargetAndFallbackProperties(componentProperties);
   }
 
   LinkBuilderImpl(@Nullable Page page, @NotNull LinkHandlerImpl linkHandler) {
     this.resource = null;
     this.page = page;
     this.reference = null;
+    this.resolveContext = null;
     this.linkHandler = linkHandler;
   }
 
@@ -86,22 +88,18 @@ final class LinkBuilderImpl implements LinkBuilder {
     this.resource = null;
     this.page = null;
     this.reference = reference;
+    this.resolveContext = null;
     this.linkHandler = linkHandler;
   }
 
-  private void resolveWindowTargetAndFallbackProperties(@NotNull ComponentPropertyResolverFactory componentPropertyResolverFactory) {
+  private void resolveWindowTargetAndFallbackProperties(@NotNull LinkComponentProperties componentProperties) {
     if (resource == null) {
       return;
     }
 
-    // resolve default settings from content policies and component properties
-    try (LinkComponentPropertyResolver resolver = new LinkComponentPropertyResolver(resource, componentPropertyResolverFactory)) {
-      linkArgs.linkTargetUrlFallbackProperty(resolver.getLinkTargetUrlFallbackProperty());
-      linkArgs.linkTargetWindowTargetFallbackProperty(resolver.getLinkTargetWindowTargetFallbackProperty());
-    }
-    catch (Exception ex) {
-      log.warn("Error closing component property resolver.", ex);
-    }
+    // apply default settings from content policies and component properties
+    linkArgs.linkTargetUrlFallbackProperty(componentProperties.getLinkTargetUrlFallbackProperty());
+    linkArgs.linkTargetWindowTargetFallbackProperty(componentProperties.getLinkTargetWindowTargetFallbackProperty());
 
     // get window target from resource
     linkArgs.windowTarget(getWindowTargetFromResource(resource, linkArgs));
@@ -221,8 +219,20 @@ final class LinkBuilderImpl implements LinkBuilder {
 
   @Override
   public @NotNull Link build() {
-    LinkRequest request = new LinkRequest(this.resource, this.page, this.reference, this.linkArgs);
-    return linkHandler.processRequest(request);
+    return linkHandler.processRequest(buildRequest());
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Link> buildAsync(@NotNull Executor executor) {
+    return linkHandler.processRequestAsync(buildRequest(), executor);
+  }
+
+  /**
+   * @return Link request with the current builder state
+   */
+  @NotNull
+  LinkRequest buildRequest() {
+    return new LinkRequest(this.resource, this.page, this.reference, this.linkArgs, this.resolveContext);
   }
 
   @Override
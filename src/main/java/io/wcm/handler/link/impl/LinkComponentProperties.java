@@ -0,0 +1,89 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import org.apache.sling.api.resource.Resource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.wcm.handler.link.LinkComponentPropertyResolver;
+import io.wcm.wcm.commons.component.ComponentPropertyResolverFactory;
+
+/**
+ * Link handler component properties resolved from content policies and component definition
+ * for a link resource.
+ */
+final class LinkComponentProperties {
+
+  static final LinkComponentProperties EMPTY = new LinkComponentProperties(null, null);
+
+  private final String[] linkTargetUrlFallbackProperty;
+  private final String[] linkTargetWindowTargetFallbackProperty;
+
+  private static final Logger log = LoggerFactory.getLogger(LinkComponentProperties.class);
+
+  LinkComponentProperties(@NotNull String @Nullable [] linkTargetUrlFallbackProperty,
+      @NotNull String @Nullable [] linkTargetWindowTargetFallbackProperty) {
+    this.linkTargetUrlFallbackProperty = linkTargetUrlFallbackProperty;
+    this.linkTargetWindowTargetFallbackProperty = linkTargetWindowTargetFallbackProperty;
+  }
+
+  /**
+   * @return Link target URL fallback property name(s)
+   */
+  @NotNull
+  String @Nullable [] getLinkTargetUrlFallbackProperty() {
+    return this.linkTargetUrlFallbackProperty;
+  }
+
+  /**
+   * @return Link target window target fallback property name(s)
+   */
+  @NotNull
+  String @Nullable [] getLinkTargetWindowTargetFallbackProperty() {
+    return this.linkTargetWindowTargetFallbackProperty;
+  }
+
+  /**
+   * Resolve link handler component properties for the given resource.
+   * @param resource Link resource
+   * @param componentPropertyResolverFactory Component property resolver factory
+   * @return Component properties
+   */
+  static @NotNull LinkComponentProperties resolve(@NotNull Resource resource,
+      @NotNull ComponentPropertyResolverFactory componentPropertyResolverFactory) {
+    LinkComponentPropertyResolver resolver = new LinkComponentPropertyResolver(resource, componentPropertyResolverFactory);
+    try {
+      return new LinkComponentProperties(resolver.getLinkTargetUrlFallbackProperty(),
+          resolver.getLinkTargetWindowTargetFallbackProperty());
+    }
+    finally {
+      try {
+        resolver.close();
+      }
+      catch (Exception ex) {
+        log.warn("Error closing component property resolver.", ex);
+      }
+    }
+  }
+
+}
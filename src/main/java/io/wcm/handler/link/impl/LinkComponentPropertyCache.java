@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.osgi.service.component.annotations.Component;
+
+import com.day.cq.wcm.api.policies.ContentPolicy;
+import com.day.cq.wcm.api.policies.ContentPolicyManager;
+
+import io.wcm.wcm.commons.component.ComponentPropertyResolverFactory;
+
+/**
+ * Caches link handler component properties (fallback property names) resolved from content policies and
+ * component definitions. They are identical for all resources with the same resource type and content policy,
+ * so they are cached by this combination. The cache is cleared on any change of configurations, templates,
+ * policies or component definitions.
+ */
+@Component(service = { LinkComponentPropertyCache.class, ResourceChangeListener.class },
+    property = {
+        ResourceChangeListener.PATHS + "=/conf",
+        ResourceChangeListener.PATHS + "=/apps",
+        ResourceChangeListener.PATHS + "=/libs",
+        ResourceChangeListener.CHANGES + "=ADDED",
+        ResourceChangeListener.CHANGES + "=CHANGED",
+        ResourceChangeListener.CHANGES + "=REMOVED"
+    })
+public final class LinkComponentPropertyCache implements ResourceChangeListener, ExternalResourceChangeListener {
+
+  // safeguard against unexpected high number of resource type/policy combinations
+  static final int MAX_SIZE = 10000;
+
+  private final Map<String, LinkComponentProperties> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Get link handler component properties for the given resource.
+   * @param resource Link resource
+   * @param componentPropertyResolverFactory Component property resolver factory
+   * @return Component properties
+   */
+  @NotNull
+  LinkComponentProperties get(@NotNull Resource resource,
+      @NotNull ComponentPropertyResolverFactory componentPropertyResolverFactory) {
+    String key = resource.getResourceType() + "|" + getContentPolicyPath(resource);
+    LinkComponentProperties componentProperties = cache.get(key);
+    if (componentProperties == null) {
+      componentProperties = LinkComponentProperties.resolve(resource, componentPropertyResolverFactory);
+      if (cache.size() >= MAX_SIZE) {
+        cache.clear();
+      }
+      cache.put(key, componentProperties);
+    }
+    return componentProperties;
+  }
+
+  /**
+   * @return Number of cached entries
+   */
+  int size() {
+    return cache.size();
+  }
+
+  private static @NotNull String getContentPolicyPath(@NotNull Resource resource) {
+    ContentPolicyManager contentPolicyManager = resource.getResourceResolver().adaptTo(ContentPolicyManager.class);
+    if (contentPolicyManager != null) {
+      ContentPolicy contentPolicy = contentPolicyManager.getPolicy(resource);
+      if (contentPolicy != null) {
+        return contentPolicy.getPath();
+      }
+    }
+    return "";
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    cache.clear();
+  }
+
+}
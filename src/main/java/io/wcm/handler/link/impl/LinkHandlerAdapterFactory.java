@@ -19,11 +19,20 @@
  */
 package io.wcm.handler.link.impl;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.sling.api.SlingHttpServletRequest;
 import org.apache.sling.api.adapter.Adaptable;
 import org.apache.sling.api.adapter.AdapterFactory;
 import org.apache.sling.api.resource.Resource;
+import org.jetbrains.annotations.NotNull;
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
 
 import io.wcm.handler.link.LinkComponentPropertyResolver;
 import io.wcm.handler.link.spi.LinkHandlerConfig;
@@ -32,6 +41,9 @@ import io.wcm.wcm.commons.component.ComponentPropertyResolverFactory;
 
 /**
  * Adapts resources or requests to {@link LinkHandlerConfig} via {@link ContextAwareServiceResolver}.
+ * The resolved link handler configuration is cached per resource path, as context-aware services are matched against
+ * the resource path. The cache is cleared whenever a link handler configuration service is registered, modified or
+ * unregistered.
  */
 @Component(service = AdapterFactory.class,
     property = {
@@ -42,16 +54,23 @@ import io.wcm.wcm.commons.component.ComponentPropertyResolverFactory;
     })
 public class LinkHandlerAdapterFactory implements AdapterFactory {
 
+  // safeguard against unexpected high number of resource paths
+  static final int MAX_CACHE_SIZE = 10000;
+
   @Reference
   private ContextAwareServiceResolver serviceResolver;
   @Reference
   private ComponentPropertyResolverFactory componentPropertyResolverFactory;
 
+  private final Map<String, LinkHandlerConfig> linkHandlerConfigCache = new ConcurrentHashMap<>();
+  // incremented on each service change, guarded by linkHandlerConfigCache
+  private long cacheGeneration;
+
   @SuppressWarnings({ "unchecked", "null" })
   @Override
   public <AdapterType> AdapterType getAdapter(Object adaptable, Class<AdapterType> type) {
     if (type == LinkHandlerConfig.class) {
-      return (AdapterType)serviceResolver.resolve(LinkHandlerConfig.class, (Adaptable)adaptable);
+      return (AdapterType)getLinkHandlerConfig((Adaptable)adaptable);
     }
     if (type == LinkComponentPropertyResolver.class && adaptable instanceof Resource) {
       return (AdapterType)new LinkComponentPropertyResolver((Resource)adaptable, componentPropertyResolverFactory);
@@ -59,4 +78,72 @@ public class LinkHandlerAdapterFactory implements AdapterFactory {
     return null;
   }
 
+  private LinkHandlerConfig getLinkHandlerConfig(@NotNull Adaptable adaptable) {
+    Resource resource = null;
+    if (adaptable instanceof Resource) {
+      resource = (Resource)adaptable;
+    }
+    else if (adaptable instanceof SlingHttpServletRequest) {
+      resource = ((SlingHttpServletRequest)adaptable).getResource();
+    }
+    if (resource == null) {
+      return serviceResolver.resolve(LinkHandlerConfig.class, adaptable);
+    }
+    String resourcePath = resource.getPath();
+    LinkHandlerConfig linkHandlerConfig = linkHandlerConfigCache.get(resourcePath);
+    if (linkHandlerConfig == null) {
+      long generation = getCacheGeneration();
+      linkHandlerConfig = serviceResolver.resolve(LinkHandlerConfig.class, adaptable);
+      if (linkHandlerConfig != null) {
+        putCache(resourcePath, linkHandlerConfig, generation);
+      }
+    }
+    return linkHandlerConfig;
+  }
+
+  private long getCacheGeneration() {
+    synchronized (linkHandlerConfigCache) {
+      return cacheGeneration;
+    }
+  }
+
+  /**
+   * Puts the link handler configuration to the cache, unless a service was changed since resolving it.
+   */
+  private void putCache(@NotNull String resourcePath, @NotNull LinkHandlerConfig linkHandlerConfig, long generation) {
+    synchronized (linkHandlerConfigCache) {
+      if (generation != cacheGeneration) {
+        return;
+      }
+      if (linkHandlerConfigCache.size() >= MAX_CACHE_SIZE) {
+        linkHandlerConfigCache.clear();
+      }
+      linkHandlerConfigCache.put(resourcePath, linkHandlerConfig);
+    }
+  }
+
+  private void clearCache() {
+    synchronized (linkHandlerConfigCache) {
+      cacheGeneration++;
+      linkHandlerConfigCache.clear();
+    }
+  }
+
+  @Reference(service = LinkHandlerConfig.class,
+      cardinality = ReferenceCardinality.MULTIPLE,
+      policy = ReferencePolicy.DYNAMIC,
+      policyOption = ReferencePolicyOption.GREEDY,
+      updated = "updatedLinkHandlerConfig")
+  void bindLinkHandlerConfig(ServiceReference<LinkHandlerConfig> serviceReference) {
+    clearCache();
+  }
+
+  void updatedLinkHandlerConfig(ServiceReference<LinkHandlerConfig> serviceReference) {
+    clearCache();
+  }
+
+  void unbindLinkHandlerConfig(ServiceReference<LinkHandlerConfig> serviceReference) {
+    clearCache();
+  }
+
 }
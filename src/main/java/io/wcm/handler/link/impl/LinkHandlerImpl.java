@@ -19,12 +19,22 @@
  */
 package io.wcm.handler.link.impl;
 
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.SlingHttpServletRequest;
 import org.apache.sling.api.adapter.Adaptable;
 import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.models.annotations.Model;
 import org.apache.sling.models.annotations.injectorspecific.InjectionStrategy;
 import org.apache.sling.models.annotations.injectorspecific.OSGiService;
@@ -34,6 +44,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.day.cq.commons.jcr.JcrConstants;
 import com.day.cq.wcm.api.Page;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -42,6 +53,7 @@ import io.wcm.handler.link.LinkArgs;
 import io.wcm.handler.link.LinkBuilder;
 import io.wcm.handler.link.LinkHandler;
 import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.LinkResolveContext;
 import io.wcm.handler.link.spi.LinkHandlerConfig;
 import io.wcm.handler.link.spi.LinkMarkupBuilder;
 import io.wcm.handler.link.spi.LinkProcessor;
@@ -67,12 +79,24 @@ public final class LinkHandlerImpl implements LinkHandler {
   private Page currentPage;
   @OSGiService
   private ComponentPropertyResolverFactory componentPropertyResolverFactory;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private LinkComponentPropertyCache componentPropertyCache;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private LinkHandlerMetrics metrics;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private LinkPrecomputer linkPrecomputer;
+
+  // instances of link types, processors and markup builders - created only once per link handler instance
+  private final Map<Class<?>, Object> instances = new HashMap<>();
+  private LinkTypeIndex linkTypeIndex;
+  private LinkReferenceClassifier linkReferenceClassifier;
+  private AsyncLinkResolver asyncLinkResolver;
 
   private static final Logger log = LoggerFactory.getLogger(LinkHandlerImpl.class);
 
   @Override
   public @NotNull LinkBuilder get(@Nullable Resource resource) {
-    return new LinkBuilderImpl(resource, this, componentPropertyResolverFactory);
+    return new LinkBuilderImpl(resource, this, getComponentProperties(resource));
   }
 
   @Override
@@ -87,71 +111,215 @@ public final class LinkHandlerImpl implements LinkHandler {
 
   @Override
   public @NotNull LinkBuilder get(@NotNull LinkRequest linkRequest) {
-    return new LinkBuilderImpl(linkRequest, this, componentPropertyResolverFactory);
+    return new LinkBuilderImpl(linkRequest, this, getComponentProperties(linkRequest.getResource()));
+  }
+
+  @Override
+  public @NotNull List<Link> getAll(@NotNull Collection<Resource> resources) {
+    List<LinkBuilderImpl> builders = new ArrayList<>(resources.size());
+    for (Resource resource : resources) {
+      builders.add(new LinkBuilderImpl(resource, this, getComponentProperties(resource)));
+    }
+    return buildAll(builders);
+  }
+
+  @Override
+  public @NotNull List<Link> getAllPages(@NotNull Collection<Page> pages) {
+    List<LinkBuilderImpl> builders = new ArrayList<>(pages.size());
+    for (Page page : pages) {
+      builders.add(new LinkBuilderImpl(page, this));
+    }
+    return buildAll(builders);
+  }
+
+  @Override
+  public @NotNull List<Link> getAllReferences(@NotNull Collection<String> references) {
+    List<LinkBuilderImpl> builders = new ArrayList<>(references.size());
+    for (String reference : references) {
+      builders.add(new LinkBuilderImpl(reference, this));
+    }
+    return buildAll(builders);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull CompletableFuture<List<Link>> getAllAsync(@NotNull Collection<Resource> resources,
+      @NotNull Executor executor) {
+    List<CompletableFuture<Link>> futures = new ArrayList<>(resources.size());
+    for (Resource resource : resources) {
+      futures.add(get(resource).buildAsync(executor));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        .thenApply(result -> futures.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList()));
   }
 
   /**
-   * Resolves the link
+   * Resolves all links, identical link requests within the batch are resolved only once.
+   * @param builders Link builders
+   * @return Links in the order of the builders
+   */
+  private @NotNull List<Link> buildAll(@NotNull List<LinkBuilderImpl> builders) {
+    LinkRequestCache batchCache = new LinkRequestCache();
+    List<Link> links = new ArrayList<>(builders.size());
+    for (LinkBuilderImpl builder : builders) {
+      LinkRequest linkRequest = builder.buildRequest();
+      Link link = batchCache.get(linkRequest, currentPage, linkHandlerConfig);
+      if (link == null) {
+        link = processRequest(linkRequest);
+        batchCache.put(linkRequest, currentPage, linkHandlerConfig, link);
+      }
+      links.add(link);
+    }
+    return links;
+  }
+
+  private @NotNull LinkComponentProperties getComponentProperties(@Nullable Resource resource) {
+    if (resource == null) {
+      return LinkComponentProperties.EMPTY;
+    }
+    if (componentPropertyCache != null) {
+      return componentPropertyCache.get(resource, componentPropertyResolverFactory);
+    }
+    return LinkComponentProperties.resolve(resource, componentPropertyResolverFactory);
+  }
+
+  /**
+   * Resolves the link. If the request cache is enabled, links already resolved within the current request are
+   * served from the cache.
    * @param linkRequest Link request
    * @return Link metadata (never null)
    */
   @NotNull
-  @SuppressWarnings({
-      "null", "unused",
-      "java:S6541", "java:S3776", "java:S2589", // ignore complexity
-      "java:S112", // runtime exception
-      "java:S1192" // redundant string literals
-  })
-  @SuppressFBWarnings({ "STYLE" })
   Link processRequest(@NotNull LinkRequest linkRequest) {
+    LinkResolveContext resolveContext = linkRequest.getResolveContext();
+    if (resolveContext.getDepth() > 0) {
+      // nested resolution (e.g. of redirect pages) - recursion is tracked by the resolve context
+      if (resolveContext.isMaximumDepthReached()) {
+        log.warn("Max. number of nested link resolutions reached, stop resolving: {}", linkRequest);
+        Link link = new Link(getInstance(InvalidLinkType.class), linkRequest);
+        link.setLinkReferenceInvalid(true);
+        return link;
+      }
+      return getCachedOrResolve(linkRequest, false);
+    }
 
-    // detect link type - first accepting wins
-    LinkType linkType = null;
-    List<Class<? extends LinkType>> linkTypes = linkHandlerConfig.getLinkTypes();
-    if (linkTypes == null || linkTypes.isEmpty()) {
-      throw new RuntimeException("No link types defined.");
+    // top-level resolution - each link request without explicit resolve context starts a fresh one
+    boolean recordMetrics = isMetricsEnabled();
+    Link link = getCachedOrResolve(linkRequest, recordMetrics);
+    if (recordMetrics) {
+      metrics.recordLink(link);
     }
-    for (Class<? extends LinkType> candidateLinkTypeClass : linkTypes) {
-      LinkType candidateLinkType = AdaptTo.notNull(adaptable, candidateLinkTypeClass);
-      if (candidateLinkType.accepts(linkRequest)) {
-        linkType = candidateLinkType;
-        break;
-      }
+    return link;
+  }
+
+  private @NotNull Link getCachedOrResolve(@NotNull LinkRequest linkRequest, boolean recordMetrics) {
+    LinkRequestCache requestCache = getRequestCache(linkRequest);
+    if (requestCache == null) {
+      return resolveRequest(linkRequest, recordMetrics);
     }
-    if (linkType == null) {
-      linkType = AdaptTo.notNull(adaptable, InvalidLinkType.class);
+    Link link = requestCache.get(linkRequest, currentPage, linkHandlerConfig);
+    if (recordMetrics) {
+      metrics.recordRequestCacheLookup(link != null);
     }
-    Link link = new Link(linkType, linkRequest);
+    if (link == null) {
+      link = resolveRequest(linkRequest, recordMetrics);
+      requestCache.put(linkRequest, currentPage, linkHandlerConfig, link);
+    }
+    return link;
+  }
 
-    if (log.isTraceEnabled()) {
-      log.trace("Start processing link request (linkType={}): {}", linkType.getId(), linkRequest);
+  /**
+   * Resolves the link asynchronously in the given executor.
+   * @param linkRequest Link request
+   * @param executor Executor
+   * @return Future for link metadata
+   */
+  @NotNull
+  CompletableFuture<Link> processRequestAsync(@NotNull LinkRequest linkRequest, @NotNull Executor executor) {
+    Resource contextResource;
+    if (adaptable instanceof SlingHttpServletRequest) {
+      contextResource = ((SlingHttpServletRequest)adaptable).getResource();
+    }
+    else {
+      contextResource = (Resource)adaptable;
     }
+    ResourceResolver resourceResolver = contextResource.getResourceResolver();
+    // use current page as context in the worker threads to look up the same link handler configuration
+    String contextPath = contextResource.getPath();
+    if (currentPage != null) {
+      contextPath = currentPage.getPath() + "/" + JcrConstants.JCR_CONTENT;
+    }
+    return getAsyncLinkResolver(resourceResolver).resolve(linkRequest, resourceResolver, contextPath, executor);
+  }
 
-    // preprocess link before resolving
-    List<Class<? extends LinkProcessor>> linkPreProcessors = linkHandlerConfig.getPreProcessors();
-    if (linkPreProcessors != null) {
-      for (Class<? extends LinkProcessor> processorClass : linkPreProcessors) {
-        log.trace("Apply pre processor ({}): {}", processorClass, linkRequest);
-        LinkProcessor processor = AdaptTo.notNull(adaptable, processorClass);
-        link = processor.process(link);
-        if (link == null) {
-          throw new RuntimeException("LinkPreProcessor '" + processor + "' returned null, page '" + (currentPage != null ? currentPage.getPath() : "-") + "'.");
-        }
-      }
+  /**
+   * @param resourceResolver Resource resolver of the link handler
+   * @return Async link resolver holding the cloned resource resolvers of this link handler instance
+   */
+  @NotNull
+  AsyncLinkResolver getAsyncLinkResolver(@NotNull ResourceResolver resourceResolver) {
+    if (asyncLinkResolver == null) {
+      asyncLinkResolver = new AsyncLinkResolver(resourceResolver);
     }
+    return asyncLinkResolver;
+  }
 
-    // resolve link
-    link = linkType.resolveLink(link);
+  private boolean isMetricsEnabled() {
+    return metrics != null && metrics.isEnabled();
+  }
+
+  /**
+   * Get request cache if enabled.
+   * Nested link resolutions of redirect pages are never cached, because their result depends on the recursion depth.
+   * @param linkRequest Link request
+   * @return Request cache or null
+   */
+  private @Nullable LinkRequestCache getRequestCache(@NotNull LinkRequest linkRequest) {
+    if (adaptable instanceof SlingHttpServletRequest
+        && linkHandlerConfig.isRequestCacheEnabled()
+        && linkRequest.getResolveContext().getDepth() == 0) {
+      return LinkRequestCache.get((SlingHttpServletRequest)adaptable);
+    }
+    return null;
+  }
+
+  /**
+   * Resolves the link
+   * @param linkRequest Link request
+   * @param recordMetrics Record stage metrics - only for top-level links, nested resolutions are part of the
+   *          stage that triggered them
+   * @return Link metadata (never null)
+   */
+  @NotNull
+  @SuppressWarnings({
+      "null", "unused",
+      "java:S6541", "java:S3776", "java:S2589", // ignore complexity
+      "java:S112", // runtime exception
+      "java:S1192" // redundant string literals
+  })
+  @SuppressFBWarnings({ "STYLE" })
+  private Link resolveRequest(@NotNull LinkRequest linkRequest, boolean recordMetrics) {
+
+    // use link resolved at content write time if still up to date, otherwise resolve link target
+    Link link = getPrecomputedLink(linkRequest);
     if (link == null) {
-      throw new RuntimeException("LinkType '" + linkType + "' returned null, page '" + (currentPage != null ? currentPage.getPath() : "-") + "'.");
+      link = resolveLinkTarget(linkRequest, recordMetrics);
     }
+    String linkTypeId = link.getLinkType().getId();
+    long stageStart = recordMetrics ? System.nanoTime() : 0L;
 
     // if link is invalid - check if a fallback link property is set and try resolution with it
     if (!link.isValid()) {
       LinkRequest fallbackLinkRequest = getFallbackLinkRequest(linkRequest);
       if (fallbackLinkRequest != null) {
         log.trace("Link is invalid ({}) - process fallback link request: {}", link, fallbackLinkRequest);
-        Link fallbackLink = processRequest(fallbackLinkRequest);
+        // fallback resolution is recorded as part of the fallback property stage only, not as separate link
+        Link fallbackLink = getCachedOrResolve(fallbackLinkRequest, false);
+        if (recordMetrics) {
+          stageStart = metrics.recordStage(linkTypeId, LinkHandlerMetrics.STAGE_FALLBACK_PROPERTY, stageStart);
+        }
         if (fallbackLink.isValid()) {
           return fallbackLink;
         }
@@ -162,14 +330,22 @@ public final class LinkHandlerImpl implements LinkHandler {
     List<Class<? extends LinkMarkupBuilder>> linkMarkupBuilders = linkHandlerConfig.getMarkupBuilders();
     if (linkMarkupBuilders != null) {
       link.setAnchorBuilder(l -> {
-        for (Class<? extends LinkMarkupBuilder> linkMarkupBuilderClass : linkMarkupBuilders) {
-          LinkMarkupBuilder linkMarkupBuilder = AdaptTo.notNull(adaptable, linkMarkupBuilderClass);
-          if (linkMarkupBuilder.accepts(l)) {
-            log.trace("Apply link markup builder ({}): {}", linkMarkupBuilderClass, linkRequest);
-            return linkMarkupBuilder.build(l);
+        long anchorBuilderStart = recordMetrics ? System.nanoTime() : 0L;
+        try {
+          for (Class<? extends LinkMarkupBuilder> linkMarkupBuilderClass : linkMarkupBuilders) {
+            LinkMarkupBuilder linkMarkupBuilder = getInstance(linkMarkupBuilderClass);
+            if (linkMarkupBuilder.accepts(l)) {
+              log.trace("Apply link markup builder ({}): {}", linkMarkupBuilderClass, linkRequest);
+              return linkMarkupBuilder.build(l);
+            }
+          }
+          return null;
+        }
+        finally {
+          if (recordMetrics) {
+            metrics.recordStage(linkTypeId, LinkHandlerMetrics.STAGE_ANCHOR_BUILDER, anchorBuilderStart);
           }
         }
-        return null;
       });
     }
 
@@ -178,11 +354,14 @@ public final class LinkHandlerImpl implements LinkHandler {
     if (linkPostProcessors != null) {
       for (Class<? extends LinkProcessor> processorClass : linkPostProcessors) {
         log.trace("Apply post processor ({}): {}", processorClass, linkRequest);
-        LinkProcessor processor = AdaptTo.notNull(adaptable, processorClass);
+        LinkProcessor processor = getInstance(processorClass);
         link = processor.process(link);
         if (link == null) {
           throw new RuntimeException("LinkPostProcessor '" + processor + "' returned null, page '" + (currentPage != null ? currentPage.getPath() : "-") + "'.");
         }
+        if (recordMetrics) {
+          stageStart = metrics.recordStage(linkTypeId, LinkHandlerMetrics.postProcessorStage(processorClass), stageStart);
+        }
       }
     }
 
@@ -191,12 +370,193 @@ public final class LinkHandlerImpl implements LinkHandler {
     return link;
   }
 
+  /**
+   * Detects the link type, applies the pre processors and resolves the link target.
+   * Fallback link properties, markup builders and post processors are not applied.
+   * @param linkRequest Link request
+   * @param recordMetrics Record stage metrics
+   * @return Link metadata (never null)
+   */
+  @NotNull
+  @SuppressWarnings({
+      "null",
+      "java:S112", // runtime exception
+      "java:S1192" // redundant string literals
+  })
+  Link resolveLinkTarget(@NotNull LinkRequest linkRequest, boolean recordMetrics) {
+    long stageStart = recordMetrics ? System.nanoTime() : 0L;
+
+    // detect link type
+    LinkType linkType = detectLinkType(linkRequest);
+    Link link = new Link(linkType, linkRequest);
+    String linkTypeId = linkType.getId();
+    if (recordMetrics) {
+      stageStart = metrics.recordStage(linkTypeId, LinkHandlerMetrics.STAGE_DETECT_LINK_TYPE, stageStart);
+    }
+
+    if (log.isTraceEnabled()) {
+      log.trace("Start processing link request (linkType={}): {}", linkType.getId(), linkRequest);
+    }
+
+    // preprocess link before resolving
+    List<Class<? extends LinkProcessor>> linkPreProcessors = linkHandlerConfig.getPreProcessors();
+    if (linkPreProcessors != null) {
+      for (Class<? extends LinkProcessor> processorClass : linkPreProcessors) {
+        log.trace("Apply pre processor ({}): {}", processorClass, linkRequest);
+        LinkProcessor processor = getInstance(processorClass);
+        link = processor.process(link);
+        if (link == null) {
+          throw new RuntimeException("LinkPreProcessor '" + processor + "' returned null, page '" + (currentPage != null ? currentPage.getPath() : "-") + "'.");
+        }
+        if (recordMetrics) {
+          stageStart = metrics.recordStage(linkTypeId, LinkHandlerMetrics.preProcessorStage(processorClass), stageStart);
+        }
+      }
+    }
+
+    // resolve link
+    link = linkType.resolveLink(link);
+    if (link == null) {
+      throw new RuntimeException("LinkType '" + linkType + "' returned null, page '" + (currentPage != null ? currentPage.getPath() : "-") + "'.");
+    }
+    if (recordMetrics) {
+      metrics.recordStage(linkTypeId, LinkHandlerMetrics.STAGE_RESOLVE_LINK, stageStart);
+    }
+    return link;
+  }
+
+  /**
+   * Get link resolved at content write time. Only top-level links defined in a link resource are precomputed.
+   * The precomputed link was resolved in the context of the page containing the link resource, so it is only used
+   * if this page is the current page - e.g. not for experience fragments or paragraphs included from other pages.
+   * It is also not used if pre processors are configured, as they may influence the link resolution.
+   * @param linkRequest Link request
+   * @return Link metadata or null if no up-to-date precomputed link is available
+   */
+  private @Nullable Link getPrecomputedLink(@NotNull LinkRequest linkRequest) {
+    Resource resource = linkRequest.getResource();
+    if (linkPrecomputer == null
+        || resource == null
+        || linkRequest.getPage() != null
+        || linkRequest.getReference() != null
+        || linkRequest.getResolveContext().getDepth() > 0
+        || !isCurrentPageContent(resource)) {
+      return null;
+    }
+    List<Class<? extends LinkProcessor>> linkPreProcessors = linkHandlerConfig.getPreProcessors();
+    if (linkPreProcessors != null && !linkPreProcessors.isEmpty()) {
+      return null;
+    }
+    return linkPrecomputer.getPrecomputedLink(linkRequest, this::getLinkTypeById);
+  }
+
+  /**
+   * @return true if the resource is located in the content of the current page
+   */
+  private boolean isCurrentPageContent(@NotNull Resource resource) {
+    if (currentPage == null) {
+      return false;
+    }
+    String contentPath = currentPage.getPath() + "/" + JcrConstants.JCR_CONTENT;
+    String path = resource.getPath();
+    return StringUtils.equals(path, contentPath) || StringUtils.startsWith(path, contentPath + "/");
+  }
+
+  /**
+   * Get instance of configured link type by its ID.
+   * @param linkTypeId Link type ID
+   * @return Link type or null if no link type with this ID is configured
+   */
+  private @Nullable LinkType getLinkTypeById(@NotNull String linkTypeId) {
+    List<Class<? extends LinkType>> linkTypes = linkHandlerConfig.getLinkTypes();
+    if (linkTypes == null || linkTypes.isEmpty()) {
+      return null;
+    }
+    if (linkTypeIndex == null) {
+      linkTypeIndex = new LinkTypeIndex(linkTypes, this::getInstance);
+    }
+    Class<? extends LinkType> linkTypeClass = linkTypeIndex.get(linkTypeId);
+    if (linkTypeClass == null) {
+      return null;
+    }
+    return getInstance(linkTypeClass);
+  }
+
   @Override
   public Link invalid() {
-    LinkType linkType = AdaptTo.notNull(adaptable, InvalidLinkType.class);
+    LinkType linkType = getInstance(InvalidLinkType.class);
     return new Link(linkType, new LinkRequest(null, null, null));
   }
 
+  /**
+   * Detects the link type. The configured link types are asked in order - first accepting wins. If a link type ID
+   * is stored in the link resource, link types that cannot match this ID are skipped without instantiating them.
+   * @param linkRequest Link request
+   * @return Link type (never null)
+   */
+  @SuppressWarnings({ "null", "java:S112" })
+  private @NotNull LinkType detectLinkType(@NotNull LinkRequest linkRequest) {
+    List<Class<? extends LinkType>> linkTypes = linkHandlerConfig.getLinkTypes();
+    if (linkTypes == null || linkTypes.isEmpty()) {
+      throw new RuntimeException("No link types defined.");
+    }
+
+    // explicit link type ID set in link resource - first accepting wins, skip link types that cannot match the ID
+    String linkTypeId = linkRequest.getResourceProperties().get(PN_LINK_TYPE, String.class);
+    if (StringUtils.isNotEmpty(linkTypeId)) {
+      if (linkTypeIndex == null) {
+        linkTypeIndex = new LinkTypeIndex(linkTypes, this::getInstance);
+      }
+      for (Class<? extends LinkType> candidateLinkTypeClass : linkTypes) {
+        if (linkTypeIndex.mayAccept(candidateLinkTypeClass, linkTypeId)) {
+          LinkType candidateLinkType = getInstance(candidateLinkTypeClass);
+          if (candidateLinkType.accepts(linkRequest)) {
+            return candidateLinkType;
+          }
+        }
+      }
+      return getInstance(InvalidLinkType.class);
+    }
+
+    // auto-detection of plain link references - classify in a single pass using the declared link reference patterns
+    String reference = linkRequest.getReference();
+    if (reference != null && linkRequest.getResource() == null && linkRequest.getPage() == null) {
+      if (linkReferenceClassifier == null) {
+        linkReferenceClassifier = new LinkReferenceClassifier(linkTypes);
+      }
+      Class<? extends LinkType> linkTypeClass = linkReferenceClassifier.classify(reference,
+          candidateLinkTypeClass -> getInstance(candidateLinkTypeClass).accepts(linkRequest));
+      if (linkTypeClass != null) {
+        return getInstance(linkTypeClass);
+      }
+      return getInstance(InvalidLinkType.class);
+    }
+
+    // auto-detection - first accepting wins
+    for (Class<? extends LinkType> candidateLinkTypeClass : linkTypes) {
+      LinkType candidateLinkType = getInstance(candidateLinkTypeClass);
+      if (candidateLinkType.accepts(linkRequest)) {
+        return candidateLinkType;
+      }
+    }
+    return getInstance(InvalidLinkType.class);
+  }
+
+  /**
+   * Get instance of link type, processor or markup builder. Each class is instantiated via Sling Models
+   * only once for this link handler instance and then reused.
+   * @param clazz Class
+   * @return Instance
+   */
+  private <T> @NotNull T getInstance(@NotNull Class<T> clazz) {
+    Object instance = instances.get(clazz);
+    if (instance == null) {
+      instance = AdaptTo.notNull(adaptable, clazz);
+      instances.put(clazz, instance);
+    }
+    return clazz.cast(instance);
+  }
+
   /**
    * Checks if a link target URL is defined in a fallback property and prepare a link request
    * to try to resolve this as link instead.
@@ -233,7 +593,7 @@ public final class LinkHandlerImpl implements LinkHandler {
     @NotNull
     String @Nullable [] nullArray = null;
     fallbackLinkArgs.linkTargetUrlFallbackProperty(nullArray);
-    return new LinkRequest(null, null, linkTargetUrl, fallbackLinkArgs);
+    return new LinkRequest(null, null, linkTargetUrl, fallbackLinkArgs, linkRequest.getResolveContext());
   }
 
 }
@@ -0,0 +1,340 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.DynamicMBean;
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.jetbrains.annotations.NotNull;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+import io.wcm.handler.link.Link;
+
+/**
+ * Records counters and latency histograms of the link resolution pipeline per link type and stage.
+ * Recording is disabled by default. Metrics are exposed via JMX.
+ */
+@Component(service = { LinkHandlerMetrics.class, DynamicMBean.class },
+    property = "jmx.objectname=io.wcm.handler.link:type=LinkHandlerMetrics")
+@Designate(ocd = LinkHandlerMetrics.Config.class)
+public final class LinkHandlerMetrics extends StandardMBean implements LinkHandlerMetricsMBean {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Metrics",
+      description = "Records link resolution metrics per link type and stage, exposed via JMX.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Enabled",
+        description = "Record link resolution metrics.")
+    boolean enabled() default false;
+
+  }
+
+  static final String STAGE_DETECT_LINK_TYPE = "detectLinkType";
+  static final String STAGE_RESOLVE_LINK = "resolveLink";
+  static final String STAGE_FALLBACK_PROPERTY = "fallbackProperty";
+  static final String STAGE_ANCHOR_BUILDER = "anchorBuilder";
+
+  private static final ClassValue<String> PRE_PROCESSOR_STAGES = new ClassValue<String>() {
+    @Override
+    protected String computeValue(Class<?> type) {
+      return "preProcessor:" + type.getName();
+    }
+  };
+  private static final ClassValue<String> POST_PROCESSOR_STAGES = new ClassValue<String>() {
+    @Override
+    protected String computeValue(Class<?> type) {
+      return "postProcessor:" + type.getName();
+    }
+  };
+
+  private static final String[] STAGE_STATISTICS_ITEMS = {
+      "linkType", "stage", "count", "totalMicros", "meanMicros", "p50Micros", "p99Micros", "maxMicros"
+  };
+
+  private volatile boolean enabled;
+
+  // link type ID -> stage -> histogram
+  private final Map<String, Map<String, LatencyHistogram>> stageHistograms = new ConcurrentHashMap<>();
+
+  private final LongAdder linkCount = new LongAdder();
+  private final LongAdder invalidLinkCount = new LongAdder();
+  private final LongAdder redirectedLinkCount = new LongAdder();
+  private final LongAdder redirectHopCount = new LongAdder();
+  private final LongAccumulator maxRedirectHops = new LongAccumulator(Math::max, 0);
+  private final LongAdder requestCacheHitCount = new LongAdder();
+  private final LongAdder requestCacheMissCount = new LongAdder();
+
+  /**
+   * @throws NotCompliantMBeanException Not compliant MBean exception
+   */
+  public LinkHandlerMetrics() throws NotCompliantMBeanException {
+    super(LinkHandlerMetricsMBean.class);
+  }
+
+  @Activate
+  @Modified
+  void activate(Config config) {
+    this.enabled = config.enabled();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   * Record duration of a resolution stage.
+   * @param linkTypeId Link type ID
+   * @param stage Stage name
+   * @param startNanos Start time of the stage (from {@link System#nanoTime()})
+   * @return Current time (from {@link System#nanoTime()}) - can be used as start time for the next stage
+   */
+  long recordStage(@NotNull String linkTypeId, @NotNull String stage, long startNanos) {
+    long now = System.nanoTime();
+    stageHistograms.computeIfAbsent(linkTypeId, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(stage, key -> new LatencyHistogram())
+        .record(now - startNanos);
+    return now;
+  }
+
+  /**
+   * @param processorClass Link pre processor class
+   * @return Stage name
+   */
+  static @NotNull String preProcessorStage(@NotNull Class<?> processorClass) {
+    return PRE_PROCESSOR_STAGES.get(processorClass);
+  }
+
+  /**
+   * @param processorClass Link post processor class
+   * @return Stage name
+   */
+  static @NotNull String postProcessorStage(@NotNull Class<?> processorClass) {
+    return POST_PROCESSOR_STAGES.get(processorClass);
+  }
+
+  /**
+   * Record outcome of a top-level link resolution.
+   * @param link Resolved link
+   */
+  void recordLink(@NotNull Link link) {
+    linkCount.increment();
+    if (!link.isValid()) {
+      invalidLinkCount.increment();
+    }
+    int redirectHops = link.getRedirectPages().size();
+    if (redirectHops > 0) {
+      redirectedLinkCount.increment();
+      redirectHopCount.add(redirectHops);
+      maxRedirectHops.accumulate(redirectHops);
+    }
+  }
+
+  /**
+   * Record request cache lookup.
+   * @param hit true if link was found in cache
+   */
+  void recordRequestCacheLookup(boolean hit) {
+    if (hit) {
+      requestCacheHitCount.increment();
+    }
+    else {
+      requestCacheMissCount.increment();
+    }
+  }
+
+  @Override
+  public long getLinkCount() {
+    return linkCount.sum();
+  }
+
+  @Override
+  public long getInvalidLinkCount() {
+    return invalidLinkCount.sum();
+  }
+
+  @Override
+  public double getInvalidLinkRatio() {
+    long count = linkCount.sum();
+    if (count == 0) {
+      return 0d;
+    }
+    return (double)invalidLinkCount.sum() / count;
+  }
+
+  @Override
+  public long getRedirectedLinkCount() {
+    return redirectedLinkCount.sum();
+  }
+
+  @Override
+  public long getRedirectHopCount() {
+    return redirectHopCount.sum();
+  }
+
+  @Override
+  public long getMaxRedirectHops() {
+    return maxRedirectHops.get();
+  }
+
+  @Override
+  public long getRequestCacheHitCount() {
+    return requestCacheHitCount.sum();
+  }
+
+  @Override
+  public long getRequestCacheMissCount() {
+    return requestCacheMissCount.sum();
+  }
+
+  @Override
+  public TabularData getStageStatistics() throws OpenDataException {
+    CompositeType rowType = new CompositeType("StageStatistics", "Link resolution stage statistics",
+        STAGE_STATISTICS_ITEMS, STAGE_STATISTICS_ITEMS,
+        new OpenType<?>[] {
+            SimpleType.STRING, SimpleType.STRING, SimpleType.LONG, SimpleType.LONG,
+            SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG
+        });
+    TabularType tabularType = new TabularType("StageStatisticsTable", "Link resolution stage statistics",
+        rowType, new String[] { "linkType", "stage" });
+    TabularDataSupport result = new TabularDataSupport(tabularType);
+    for (Map.Entry<String, Map<String, LatencyHistogram>> linkTypeEntry : stageHistograms.entrySet()) {
+      for (Map.Entry<String, LatencyHistogram> stageEntry : linkTypeEntry.getValue().entrySet()) {
+        LatencyHistogram histogram = stageEntry.getValue();
+        result.put(new CompositeDataSupport(rowType, STAGE_STATISTICS_ITEMS, new Object[] {
+            linkTypeEntry.getKey(),
+            stageEntry.getKey(),
+            histogram.getCount(),
+            toMicros(histogram.getTotalNanos()),
+            toMicros(histogram.getMeanNanos()),
+            toMicros(histogram.getPercentileNanos(0.5d)),
+            toMicros(histogram.getPercentileNanos(0.99d)),
+            toMicros(histogram.getMaxNanos())
+        }));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void reset() {
+    stageHistograms.clear();
+    linkCount.reset();
+    invalidLinkCount.reset();
+    redirectedLinkCount.reset();
+    redirectHopCount.reset();
+    maxRedirectHops.reset();
+    requestCacheHitCount.reset();
+    requestCacheMissCount.reset();
+  }
+
+  private static long toMicros(long nanos) {
+    return nanos / 1000;
+  }
+
+  /**
+   * Lock-free latency histogram with power-of-two buckets.
+   * Percentiles are estimated with the upper bound of the matching bucket.
+   */
+  static final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+      long value = Math.max(nanos, 0);
+      count.increment();
+      totalNanos.add(value);
+      maxNanos.accumulate(value);
+      buckets.incrementAndGet(Math.min(BUCKETS - Long.numberOfLeadingZeros(value), BUCKETS - 1));
+    }
+
+    long getCount() {
+      return count.sum();
+    }
+
+    long getTotalNanos() {
+      return totalNanos.sum();
+    }
+
+    long getMaxNanos() {
+      return maxNanos.get();
+    }
+
+    long getMeanNanos() {
+      long currentCount = count.sum();
+      if (currentCount == 0) {
+        return 0;
+      }
+      return totalNanos.sum() / currentCount;
+    }
+
+    long getPercentileNanos(double percentile) {
+      long[] snapshot = new long[BUCKETS];
+      long total = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        snapshot[i] = buckets.get(i);
+        total += snapshot[i];
+      }
+      if (total == 0) {
+        return 0;
+      }
+      long threshold = (long)Math.ceil(total * percentile);
+      long sum = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        sum += snapshot[i];
+        if (sum >= threshold) {
+          // bucket i holds values < 2^i
+          long upperBound = i < BUCKETS - 1 ? (1L << i) - 1 : Long.MAX_VALUE;
+          return Math.min(upperBound, getMaxNanos());
+        }
+      }
+      return getMaxNanos();
+    }
+
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.TabularData;
+
+/**
+ * JMX interface of {@link LinkHandlerMetrics}.
+ */
+public interface LinkHandlerMetricsMBean {
+
+  /**
+   * @return true if metrics are recorded
+   */
+  boolean isEnabled();
+
+  /**
+   * @return Number of links resolved (excluding nested resolutions of redirect pages and fallback properties)
+   */
+  long getLinkCount();
+
+  /**
+   * @return Number of links resolved to an invalid link
+   */
+  long getInvalidLinkCount();
+
+  /**
+   * @return Ratio of invalid links (0..1)
+   */
+  double getInvalidLinkRatio();
+
+  /**
+   * @return Number of links that were resolved via at least one redirect page
+   */
+  long getRedirectedLinkCount();
+
+  /**
+   * @return Total number of redirect page hops
+   */
+  long getRedirectHopCount();
+
+  /**
+   * @return Max. number of redirect page hops of a single link
+   */
+  long getMaxRedirectHops();
+
+  /**
+   * @return Number of links served from the request cache
+   */
+  long getRequestCacheHitCount();
+
+  /**
+   * @return Number of links not found in the request cache
+   */
+  long getRequestCacheMissCount();
+
+  /**
+   * @return Count and latency statistics per link type and resolution stage
+   * @throws OpenDataException Open data exception
+   */
+  TabularData getStageStatistics() throws OpenDataException;
+
+  /**
+   * Resets all metrics.
+   */
+  void reset();
+
+}
@@ -0,0 +1,451 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CROSSCONTEXT_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_EXTERNAL_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_MEDIA_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.apache.sling.commons.scheduler.Scheduler;
+import org.apache.sling.settings.SlingSettingsService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.day.cq.wcm.api.Page;
+import com.day.cq.wcm.api.PageManager;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkArgs;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkReferenceIndex;
+import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.spi.LinkType;
+
+/**
+ * Resolves links at content write time and stores the result in hidden properties of the link resource,
+ * so the link handler can serve it without resolving the link again.
+ *
+ * <p>
+ * Links of added or changed resources are resolved with default link arguments using the service user mapped to
+ * the subservice {@value #SUBSERVICE_NAME}, in the context of the page containing the link resource. Only the link
+ * target is precomputed - fallback link properties, markup builders and post processors are still applied on each
+ * resolution. The precomputed result is stored together with the link properties of the resource it was computed from,
+ * the last modified date of the target page and the Sling ID of the instance. It is used only on the same instance and
+ * as long as link properties and target page are unchanged, the target page is accessible and the link is rendered as
+ * part of the page containing the link resource without pre processors; otherwise the link is resolved live.
+ * This way results precomputed on author and replicated with the content are never served on publish. If a {@link LinkReferenceIndex} is available, links pointing to a changed page
+ * are precomputed again as well.
+ * </p>
+ *
+ * <p>
+ * The links are precomputed in a Sling scheduler job, so the resource change events are not blocked by the
+ * resolution and the writes. Resources changed in quick succession are precomputed only once.
+ * </p>
+ *
+ * <p>
+ * The URLs are resolved without request context. Enable it only if the link URLs do not depend on the request,
+ * e.g. on host-specific resource resolver mappings. Changes of the configuration are not detected.
+ * </p>
+ *
+ * <p>
+ * The precomputation is only active if an OSGi configuration is present.
+ * </p>
+ */
+@Component(service = { LinkPrecomputer.class, ResourceChangeListener.class },
+    configurationPolicy = ConfigurationPolicy.REQUIRE,
+    property = {
+        ResourceChangeListener.PATHS + "=" + LinkPrecomputer.CONTENT_ROOT,
+        ResourceChangeListener.CHANGES + "=ADDED",
+        ResourceChangeListener.CHANGES + "=CHANGED"
+    })
+@Designate(ocd = LinkPrecomputer.Config.class)
+public final class LinkPrecomputer implements ResourceChangeListener {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Link Precomputation",
+      description = "Resolves links at content write time and stores the result in the link resources.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Root path",
+        description = "Root path of the content resources with links to precompute.")
+    String rootPath() default CONTENT_ROOT;
+
+  }
+
+  static final String CONTENT_ROOT = "/content";
+  static final String SUBSERVICE_NAME = "link-precompute";
+
+  static final String PN_RESOLVED_SLING_ID = "wcmio:linkResolvedSlingId";
+  static final String PN_RESOLVED_LINK_PROPERTIES = "wcmio:linkResolvedLinkProperties";
+  static final String PN_RESOLVED_LINK_TYPE = "wcmio:linkResolvedLinkType";
+  static final String PN_RESOLVED_URL = "wcmio:linkResolvedUrl";
+  static final String PN_RESOLVED_TARGET_PATH = "wcmio:linkResolvedTargetPath";
+  static final String PN_RESOLVED_TARGET_LAST_MODIFIED = "wcmio:linkResolvedTargetLastModified";
+
+  private static final String[] RESOLVED_PROPERTIES = {
+      PN_RESOLVED_SLING_ID,
+      PN_RESOLVED_LINK_PROPERTIES,
+      PN_RESOLVED_LINK_TYPE,
+      PN_RESOLVED_URL,
+      PN_RESOLVED_TARGET_PATH,
+      PN_RESOLVED_TARGET_LAST_MODIFIED
+  };
+
+  private static final String[] LINK_REF_PROPERTIES = {
+      PN_LINK_CONTENT_REF,
+      PN_LINK_CROSSCONTEXT_CONTENT_REF,
+      PN_LINK_MEDIA_REF,
+      PN_LINK_EXTERNAL_REF
+  };
+
+  // all link properties defined in LinkNameConstants use this prefix
+  private static final String LINK_PROPERTY_PREFIX = "link";
+
+  private static final Logger log = LoggerFactory.getLogger(LinkPrecomputer.class);
+
+  @Reference
+  private ResourceResolverFactory resourceResolverFactory;
+  @Reference
+  private Scheduler scheduler;
+  @Reference
+  private SlingSettingsService slingSettings;
+  @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC,
+      policyOption = ReferencePolicyOption.GREEDY)
+  private volatile LinkReferenceIndex linkReferenceIndex;
+
+  private String rootPath;
+  private String slingId;
+  // paths of resources to precompute in background, guarded by this instance
+  private final Set<String> pendingPaths = new LinkedHashSet<>();
+  private boolean jobScheduled;
+  private volatile boolean active;
+
+  @Activate
+  void activate(Config config) {
+    this.rootPath = StringUtils.defaultIfBlank(StringUtils.removeEnd(config.rootPath(), "/"), CONTENT_ROOT);
+    this.slingId = slingSettings.getSlingId();
+    this.active = true;
+  }
+
+  @Deactivate
+  void deactivate() {
+    // a running job stops with the next batch of paths
+    this.active = false;
+  }
+
+  /**
+   * Get link precomputed at content write time.
+   * @param linkRequest Link request with link resource
+   * @param linkTypeProvider Provides configured link type instances by link type ID
+   * @return Link with resolved link target or null if no up-to-date precomputed result is available
+   */
+  @Nullable
+  @SuppressWarnings("null")
+  Link getPrecomputedLink(@NotNull LinkRequest linkRequest, @NotNull Function<String, LinkType> linkTypeProvider) {
+    Resource resource = linkRequest.getResource();
+    if (resource == null || !hasDefaultUrlArgs(linkRequest.getLinkArgs())) {
+      return null;
+    }
+    ValueMap props = resource.getValueMap();
+    // precomputed on another instance, e.g. on author and replicated to publish
+    if (!StringUtils.equals(slingId, props.get(PN_RESOLVED_SLING_ID, String.class))) {
+      return null;
+    }
+    String linkTypeId = props.get(PN_RESOLVED_LINK_TYPE, String.class);
+    String url = props.get(PN_RESOLVED_URL, String.class);
+    String[] linkProperties = props.get(PN_RESOLVED_LINK_PROPERTIES, String[].class);
+    if (linkTypeId == null || url == null || linkProperties == null || !isLinkPropertiesUnchanged(linkProperties, props)) {
+      return null;
+    }
+    LinkType linkType = linkTypeProvider.apply(linkTypeId);
+    if (linkType == null) {
+      return null;
+    }
+
+    // check target page is still accessible and unchanged
+    Page targetPage = null;
+    String targetPath = props.get(PN_RESOLVED_TARGET_PATH, String.class);
+    if (targetPath != null) {
+      PageManager pageManager = resource.getResourceResolver().adaptTo(PageManager.class);
+      targetPage = pageManager != null ? pageManager.getPage(targetPath) : null;
+      Long targetLastModified = props.get(PN_RESOLVED_TARGET_LAST_MODIFIED, Long.class);
+      if (targetPage == null || targetLastModified == null
+          || !targetLastModified.equals(getLastModified(targetPage))) {
+        return null;
+      }
+    }
+
+    Link link = new Link(linkType, linkRequest);
+    link.setUrl(url);
+    link.setTargetPage(targetPage);
+    return link;
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    Set<String> paths = new LinkedHashSet<>();
+    LinkReferenceIndex referenceIndex = this.linkReferenceIndex;
+    for (ResourceChange change : changes) {
+      String path = change.getPath();
+      if (StringUtils.equals(path, rootPath) || StringUtils.startsWith(path, rootPath + "/")) {
+        paths.add(path);
+        // links pointing to the changed page may have to be precomputed again
+        if (referenceIndex != null) {
+          paths.addAll(referenceIndex.getReferencingResources(path));
+        }
+      }
+    }
+    if (paths.isEmpty()) {
+      return;
+    }
+    synchronized (this) {
+      pendingPaths.addAll(paths);
+      if (jobScheduled) {
+        return;
+      }
+      jobScheduled = true;
+    }
+    // only one job is scheduled at a time, guarded by jobScheduled
+    if (!scheduler.schedule((Runnable)this::runJob, scheduler.NOW())) {
+      log.warn("Unable to schedule link precomputation job.");
+      synchronized (this) {
+        jobScheduled = false;
+      }
+    }
+  }
+
+  /**
+   * Precomputes the pending paths until there is nothing left to do.
+   */
+  private void runJob() {
+    try {
+      while (active) {
+        Set<String> paths;
+        synchronized (this) {
+          if (pendingPaths.isEmpty()) {
+            jobScheduled = false;
+            return;
+          }
+          paths = new LinkedHashSet<>(pendingPaths);
+          pendingPaths.clear();
+        }
+        precomputePaths(paths);
+      }
+    }
+    catch (RuntimeException ex) {
+      synchronized (this) {
+        jobScheduled = false;
+      }
+      throw ex;
+    }
+  }
+
+  private void precomputePaths(@NotNull Set<String> paths) {
+    try (ResourceResolver resourceResolver = resourceResolverFactory.getServiceResourceResolver(
+        Map.of(ResourceResolverFactory.SUBSERVICE, SUBSERVICE_NAME))) {
+      for (String path : paths) {
+        Resource resource = resourceResolver.getResource(path);
+        if (resource != null) {
+          precompute(resource);
+        }
+      }
+      if (resourceResolver.hasChanges()) {
+        resourceResolver.commit();
+      }
+    }
+    catch (LoginException ex) {
+      log.warn("Unable to precompute links, service user for subservice '{}' not available.", SUBSERVICE_NAME, ex);
+    }
+    catch (PersistenceException ex) {
+      log.warn("Unable to store precomputed links.", ex);
+    }
+  }
+
+  private void precompute(@NotNull Resource resource) {
+    ValueMap props = resource.getValueMap();
+    if (!hasLinkProperty(props)) {
+      return;
+    }
+    LinkHandler linkHandler = resource.adaptTo(LinkHandler.class);
+    if (!(linkHandler instanceof LinkHandlerImpl)) {
+      return;
+    }
+    Link link = ((LinkHandlerImpl)linkHandler).resolveLinkTarget(new LinkRequest(resource, null, new LinkArgs()), false);
+    Map<String, Object> values = getPrecomputedValues(link, props);
+
+    // write only if something has changed - this also stops the change events caused by the precomputation itself
+    ModifiableValueMap modifiableProps = resource.adaptTo(ModifiableValueMap.class);
+    if (modifiableProps == null) {
+      return;
+    }
+    for (String propertyName : RESOLVED_PROPERTIES) {
+      Object value = values.get(propertyName);
+      if (value == null) {
+        if (modifiableProps.containsKey(propertyName)) {
+          modifiableProps.remove(propertyName);
+        }
+      }
+      else if (!Objects.equals(value, modifiableProps.get(propertyName, value.getClass()))) {
+        modifiableProps.put(propertyName, value);
+      }
+    }
+  }
+
+  /**
+   * Get values to store for the resolved link. Links whose validity may change without a change of the
+   * link resource or the target page are not precomputed.
+   * @return Values, empty if the link is not precomputed
+   */
+  private @NotNull Map<String, Object> getPrecomputedValues(@NotNull Link link, @NotNull ValueMap props) {
+    Map<String, Object> values = new HashMap<>();
+    if (!link.isValid() || !link.getRedirectPages().isEmpty()
+        || link.getTargetAsset() != null || link.getTargetRendition() != null) {
+      return values;
+    }
+    Page targetPage = link.getTargetPage();
+    if (targetPage != null) {
+      Long lastModified = getLastModified(targetPage);
+      if (lastModified == null || targetPage.getOnTime() != null || targetPage.getOffTime() != null) {
+        return values;
+      }
+      values.put(PN_RESOLVED_TARGET_PATH, targetPage.getPath());
+      values.put(PN_RESOLVED_TARGET_LAST_MODIFIED, lastModified);
+    }
+    values.put(PN_RESOLVED_SLING_ID, slingId);
+    values.put(PN_RESOLVED_LINK_PROPERTIES, getLinkProperties(props));
+    values.put(PN_RESOLVED_LINK_TYPE, link.getLinkType().getId());
+    values.put(PN_RESOLVED_URL, link.getUrl());
+    return values;
+  }
+
+  /**
+   * Get all link properties of the resource as sorted "name=value" entries.
+   */
+  private static @NotNull String[] getLinkProperties(@NotNull ValueMap props) {
+    Map<String, String> linkProps = new TreeMap<>();
+    for (Map.Entry<String, Object> entry : props.entrySet()) {
+      if (StringUtils.startsWith(entry.getKey(), LINK_PROPERTY_PREFIX)) {
+        linkProps.put(entry.getKey(), toString(entry.getValue()));
+      }
+    }
+    return linkProps.entrySet().stream()
+        .map(entry -> entry.getKey() + "=" + entry.getValue())
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Checks if the link properties of the resource are the same as the stored ones, without building and sorting
+   * the entries again.
+   */
+  private static boolean isLinkPropertiesUnchanged(@NotNull String[] linkProperties, @NotNull ValueMap props) {
+    int count = 0;
+    for (String name : props.keySet()) {
+      if (StringUtils.startsWith(name, LINK_PROPERTY_PREFIX)) {
+        count++;
+      }
+    }
+    if (count != linkProperties.length) {
+      return false;
+    }
+    for (String linkProperty : linkProperties) {
+      int separator = linkProperty.indexOf('=');
+      if (separator < 0) {
+        return false;
+      }
+      String name = linkProperty.substring(0, separator);
+      if (!props.containsKey(name)
+          || !linkProperty.substring(separator + 1).equals(toString(props.get(name)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static @NotNull String toString(@Nullable Object value) {
+    return value instanceof Object[] ? Arrays.toString((Object[])value) : String.valueOf(value);
+  }
+
+  private static boolean hasLinkProperty(@NotNull ValueMap props) {
+    if (props.containsKey(PN_LINK_TYPE)) {
+      return true;
+    }
+    for (String propertyName : LINK_REF_PROPERTIES) {
+      if (props.containsKey(propertyName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the link arguments influencing the link target are set to their defaults.
+   * Window target and fallback properties are applied after resolving the link target.
+   */
+  private static boolean hasDefaultUrlArgs(@NotNull LinkArgs linkArgs) {
+    LinkArgs defaultArgs = new LinkArgs()
+        .windowTarget(linkArgs.getWindowTarget())
+        .linkTargetUrlFallbackProperty(linkArgs.getLinkTargetUrlFallbackProperty())
+        .linkTargetWindowTargetFallbackProperty(linkArgs.getLinkTargetWindowTargetFallbackProperty());
+    return defaultArgs.equals(linkArgs);
+  }
+
+  private static @Nullable Long getLastModified(@NotNull Page page) {
+    Calendar lastModified = page.getLastModified();
+    return lastModified != null ? lastModified.getTimeInMillis() : null;
+  }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.wcm.handler.link.spi.LinkReferencePatterns;
+import io.wcm.handler.link.spi.LinkType;
+
+/**
+ * Detects the link type for a link reference string in a single pass over its characters.
+ * The prefixes declared via {@link LinkReferencePatterns} of all link types are compiled into a prefix trie,
+ * external references are detected with a scanner equivalent to the pattern used by
+ * {@link io.wcm.handler.link.type.ExternalLinkType}. Link types without this annotation are asked directly
+ * via {@link LinkType#accepts(String)}, respecting the configured order of link types.
+ */
+final class LinkReferenceClassifier {
+
+  private final List<Class<? extends LinkType>> linkTypes;
+  private final boolean[] declarative;
+  private final boolean[] externalReferences;
+  private final TrieNode root = new TrieNode();
+
+  /**
+   * @param linkTypes Configured link types
+   */
+  LinkReferenceClassifier(@NotNull List<Class<? extends LinkType>> linkTypes) {
+    this.linkTypes = List.copyOf(linkTypes);
+    this.declarative = new boolean[linkTypes.size()];
+    this.externalReferences = new boolean[linkTypes.size()];
+    for (int i = 0; i < linkTypes.size(); i++) {
+      LinkReferencePatterns patterns = linkTypes.get(i).getAnnotation(LinkReferencePatterns.class);
+      if (patterns != null) {
+        declarative[i] = true;
+        externalReferences[i] = patterns.externalReferences();
+        for (String prefix : patterns.prefixes()) {
+          root.insert(prefix, 0).addMarker(i, false);
+        }
+        for (String prefix : patterns.excludedPrefixes()) {
+          root.insert(prefix, 0).addMarker(i, true);
+        }
+      }
+    }
+  }
+
+  /**
+   * Detect link type for given link reference.
+   * @param linkRef Link reference
+   * @param acceptsFallback Checks if link types without declared patterns accept the link reference
+   * @return First link type in configured order accepting the link reference, or null if none accepts it
+   */
+  @Nullable
+  Class<? extends LinkType> classify(@NotNull String linkRef,
+      @NotNull Predicate<Class<? extends LinkType>> acceptsFallback) {
+    int size = linkTypes.size();
+    boolean[] included = new boolean[size];
+    boolean[] excluded = new boolean[size];
+
+    // walk prefix trie
+    TrieNode node = root;
+    node.applyMarkers(included, excluded);
+    for (int i = 0; i < linkRef.length() && node != null; i++) {
+      node = node.getChild(linkRef.charAt(i));
+      if (node != null) {
+        node.applyMarkers(included, excluded);
+      }
+    }
+
+    Boolean external = null;
+    for (int i = 0; i < size; i++) {
+      Class<? extends LinkType> linkType = linkTypes.get(i);
+      boolean accepted;
+      if (declarative[i]) {
+        accepted = included[i] && !excluded[i];
+        if (!accepted && externalReferences[i]) {
+          if (external == null) {
+            external = isExternalReference(linkRef);
+          }
+          accepted = external;
+        }
+      }
+      else {
+        accepted = acceptsFallback.test(linkType);
+      }
+      if (accepted) {
+        return linkType;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Equivalent to matching the pattern <code>^([^/]+:|//|#).+?</code> against the whole string.
+   * @param linkRef Link reference
+   * @return true if the link reference has an URL scheme, is protocol-relative or an anchor reference
+   */
+  static boolean isExternalReference(@NotNull String linkRef) {
+    int length = linkRef.length();
+    int firstSlash = -1;
+    int lastSchemeColon = -1;
+    int lastLineTerminator = -1;
+    for (int i = 0; i < length; i++) {
+      char c = linkRef.charAt(i);
+      if (c == '/') {
+        if (firstSlash < 0) {
+          firstSlash = i;
+        }
+      }
+      else if (c == ':') {
+        // scheme must have at least one char, and at least one char has to follow the colon
+        if (firstSlash < 0 && i > 0 && i < length - 1) {
+          lastSchemeColon = i;
+        }
+      }
+      else if (isLineTerminator(c)) {
+        lastLineTerminator = i;
+      }
+    }
+    // the part after scheme, "//" or "#" must not contain line terminators (not matched by ".")
+    if (lastSchemeColon > 0 && lastLineTerminator < lastSchemeColon) {
+      return true;
+    }
+    if (lastLineTerminator >= 0) {
+      return false;
+    }
+    return (length > 2 && linkRef.startsWith("//"))
+        || (length > 1 && linkRef.charAt(0) == '#');
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == 0x0085 || c == 0x2028 || c == 0x2029;
+  }
+
+  /**
+   * Node of prefix trie. Children are stored in small sorted arrays, markers store which link types
+   * include or exclude references with the prefix ending at this node.
+   */
+  private static final class TrieNode {
+
+    private char[] childChars = new char[0];
+    private TrieNode[] children = new TrieNode[0];
+    private int[] markerLinkTypes = new int[0];
+    private boolean[] markerExcluded = new boolean[0];
+
+    TrieNode insert(@NotNull String prefix, int index) {
+      if (index == prefix.length()) {
+        return this;
+      }
+      char c = prefix.charAt(index);
+      int pos = Arrays.binarySearch(childChars, c);
+      TrieNode child;
+      if (pos >= 0) {
+        child = children[pos];
+      }
+      else {
+        int insertPos = -pos - 1;
+        child = new TrieNode();
+        char[] newChildChars = new char[childChars.length + 1];
+        TrieNode[] newChildren = new TrieNode[children.length + 1];
+        System.arraycopy(childChars, 0, newChildChars, 0, insertPos);
+        System.arraycopy(children, 0, newChildren, 0, insertPos);
+        newChildChars[insertPos] = c;
+        newChildren[insertPos] = child;
+        System.arraycopy(childChars, insertPos, newChildChars, insertPos + 1, childChars.length - insertPos);
+        System.arraycopy(children, insertPos, newChildren, insertPos + 1, children.length - insertPos);
+        childChars = newChildChars;
+        children = newChildren;
+      }
+      return child.insert(prefix, index + 1);
+    }
+
+    void addMarker(int linkTypeIndex, boolean excluded) {
+      markerLinkTypes = Arrays.copyOf(markerLinkTypes, markerLinkTypes.length + 1);
+      markerExcluded = Arrays.copyOf(markerExcluded, markerExcluded.length + 1);
+      markerLinkTypes[markerLinkTypes.length - 1] = linkTypeIndex;
+      markerExcluded[markerExcluded.length - 1] = excluded;
+    }
+
+    @Nullable
+    TrieNode getChild(char c) {
+      int pos = Arrays.binarySearch(childChars, c);
+      return pos >= 0 ? children[pos] : null;
+    }
+
+    void applyMarkers(boolean @NotNull [] included, boolean @NotNull [] excluded) {
+      for (int i = 0; i < markerLinkTypes.length; i++) {
+        if (markerExcluded[i]) {
+          excluded[markerLinkTypes[i]] = true;
+        }
+        else {
+          included[markerLinkTypes[i]] = true;
+        }
+      }
+    }
+
+  }
+
+}
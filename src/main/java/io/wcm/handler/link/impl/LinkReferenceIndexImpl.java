@@ -0,0 +1,464 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static com.day.cq.wcm.api.NameConstants.PN_REDIRECT_TARGET;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CROSSCONTEXT_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_MEDIA_REF;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.jcr.query.Query;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.apache.sling.commons.scheduler.Scheduler;
+import org.jetbrains.annotations.NotNull;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.day.cq.commons.jcr.JcrConstants;
+
+import io.wcm.handler.link.LinkReferenceIndex;
+
+/**
+ * Implements {@link LinkReferenceIndex}.
+ *
+ * <p>
+ * The index is built in background on activation using a query with the service user mapped to the
+ * subservice {@value #SUBSERVICE_NAME}, until then the results are incomplete. Afterwards it is maintained
+ * incrementally from resource change events: changed resources are re-indexed and removed resources are dropped
+ * from the index including their subtree. Added resources are indexed including their subtree in background,
+ * to not block the event delivery e.g. when a large subtree is copied.
+ * </p>
+ *
+ * <p>
+ * The initial build and the subtree indexing are executed in a Sling scheduler job, one after another. Their results
+ * are not applied for resources updated from change events since the job started reading the repository, as they
+ * may be outdated.
+ * </p>
+ *
+ * <p>
+ * The index is only active if an OSGi configuration is present.
+ * </p>
+ */
+@Component(service = { LinkReferenceIndex.class, ResourceChangeListener.class },
+    configurationPolicy = ConfigurationPolicy.REQUIRE,
+    property = {
+        ResourceChangeListener.PATHS + "=" + LinkReferenceIndexImpl.CONTENT_ROOT,
+        ResourceChangeListener.CHANGES + "=ADDED",
+        ResourceChangeListener.CHANGES + "=CHANGED",
+        ResourceChangeListener.CHANGES + "=REMOVED"
+    })
+@Designate(ocd = LinkReferenceIndexImpl.Config.class)
+public final class LinkReferenceIndexImpl implements LinkReferenceIndex, ResourceChangeListener, ExternalResourceChangeListener {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Link Reference Index",
+      description = "Reverse index from link targets to the resources referencing them.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Root path",
+        description = "Root path of the content resources to index.")
+    String rootPath() default CONTENT_ROOT;
+
+  }
+
+  static final String CONTENT_ROOT = "/content";
+  static final String SUBSERVICE_NAME = "link-reference-index";
+
+  private static final String[] REFERENCE_PROPERTIES = {
+      PN_LINK_CONTENT_REF,
+      PN_LINK_CROSSCONTEXT_CONTENT_REF,
+      PN_LINK_MEDIA_REF,
+      PN_REDIRECT_TARGET
+  };
+
+  private static final String JCR_CONTENT_PATH_PART = "/" + JcrConstants.JCR_CONTENT;
+  private static final long NO_SEQUENCE = -1;
+
+  private static final Logger log = LoggerFactory.getLogger(LinkReferenceIndexImpl.class);
+
+  @Reference
+  private ResourceResolverFactory resourceResolverFactory;
+  @Reference
+  private Scheduler scheduler;
+
+  private String rootPath;
+  // all following maps and counters are guarded by this instance
+  private final NavigableMap<String, Set<String>> referencesByTarget = new TreeMap<>();
+  private final NavigableMap<String, Set<String>> targetsByReference = new TreeMap<>();
+  // sequence number of the last update from change events, per updated path - only tracked while a job is pending
+  private final NavigableMap<String, Long> changedPaths = new TreeMap<>();
+  private long changeSequence;
+  private boolean jobScheduled;
+  // root paths of added subtrees to be indexed in background
+  private final Queue<String> pendingSubtrees = new ConcurrentLinkedQueue<>();
+  private volatile boolean buildPending;
+  private volatile boolean active;
+  private volatile boolean ready;
+
+  @Activate
+  void activate(Config config) {
+    this.rootPath = StringUtils.defaultIfBlank(StringUtils.removeEnd(config.rootPath(), "/"), CONTENT_ROOT);
+    this.active = true;
+    this.buildPending = true;
+    scheduleJob();
+  }
+
+  @Deactivate
+  void deactivate() {
+    // a running job stops at the next resource
+    this.active = false;
+  }
+
+  @Override
+  public synchronized @NotNull Set<String> getReferencingResources(@NotNull String targetPath) {
+    Set<String> references = referencesByTarget.get(normalizeTargetPath(targetPath));
+    if (references == null) {
+      return Collections.emptySet();
+    }
+    return Set.copyOf(references);
+  }
+
+  @Override
+  public synchronized @NotNull Set<String> getReferencingResourcesForSubtree(@NotNull String targetRootPath) {
+    Set<String> result = new HashSet<>();
+    for (String target : getSubtreeKeys(referencesByTarget, normalizeTargetPath(targetRootPath))) {
+      result.addAll(referencesByTarget.get(target));
+    }
+    return result;
+  }
+
+  @Override
+  public synchronized @NotNull Set<String> getTargets(@NotNull String resourcePath) {
+    Set<String> targets = targetsByReference.get(resourcePath);
+    if (targets == null) {
+      return Collections.emptySet();
+    }
+    return Set.copyOf(targets);
+  }
+
+  @Override
+  public boolean isReady() {
+    return this.ready;
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    // events are also processed while the initial build is running
+    ResourceResolver resourceResolver = null;
+    try {
+      for (ResourceChange change : changes) {
+        String path = change.getPath();
+        if (!isSameOrDescendant(path, rootPath)) {
+          continue;
+        }
+        if (change.getType() == ChangeType.REMOVED) {
+          removeSubtree(path);
+          continue;
+        }
+        if (resourceResolver == null) {
+          resourceResolver = getServiceResourceResolver();
+        }
+        Resource resource = resourceResolver.getResource(path);
+        if (resource == null) {
+          removeSubtree(path);
+        }
+        else if (change.getType() == ChangeType.ADDED) {
+          // added resources may be the root of a copied or moved subtree - index in background
+          pendingSubtrees.add(path);
+          scheduleJob();
+        }
+        else {
+          indexResource(resource, NO_SEQUENCE);
+        }
+      }
+    }
+    catch (LoginException ex) {
+      log.warn("Unable to update link reference index, service user for subservice '{}' not available.", SUBSERVICE_NAME, ex);
+    }
+    finally {
+      if (resourceResolver != null) {
+        resourceResolver.close();
+      }
+    }
+  }
+
+  /**
+   * Schedules the background job for the initial build and pending subtrees, if not scheduled already.
+   */
+  private void scheduleJob() {
+    synchronized (this) {
+      if (jobScheduled) {
+        return;
+      }
+      jobScheduled = true;
+    }
+    // only one job is scheduled at a time, guarded by jobScheduled
+    if (!scheduler.schedule((Runnable)this::runJob, scheduler.NOW())) {
+      log.warn("Unable to schedule link reference index job.");
+      synchronized (this) {
+        jobScheduled = false;
+      }
+    }
+  }
+
+  /**
+   * Executes the initial build and indexes pending subtrees until there is nothing left to do.
+   */
+  private void runJob() {
+    try {
+      while (active) {
+        if (buildPending) {
+          buildPending = false;
+          buildIndex();
+          continue;
+        }
+        String subtreePath = pendingSubtrees.poll();
+        if (subtreePath == null) {
+          synchronized (this) {
+            // check again while holding the lock so no subtree is added without scheduling a new job
+            if (pendingSubtrees.isEmpty()) {
+              jobScheduled = false;
+              changedPaths.clear();
+              return;
+            }
+          }
+          continue;
+        }
+        indexSubtree(subtreePath);
+      }
+    }
+    catch (RuntimeException ex) {
+      synchronized (this) {
+        jobScheduled = false;
+        changedPaths.clear();
+      }
+      throw ex;
+    }
+  }
+
+  void buildIndex() {
+    long startTime = System.currentTimeMillis();
+    long count = 0;
+    // updates from change events with a higher sequence number may not be visible to this job
+    long sequence = getChangeSequence();
+    try (ResourceResolver resourceResolver = getServiceResourceResolver()) {
+      Iterator<Resource> resources = resourceResolver.findResources(buildQuery(), Query.JCR_SQL2);
+      while (resources.hasNext()) {
+        if (!active) {
+          return;
+        }
+        indexResource(resources.next(), sequence);
+        count++;
+      }
+      ready = true;
+      log.info("Built link reference index with {} referencing resources in {} ms.", count, System.currentTimeMillis() - startTime);
+    }
+    catch (LoginException ex) {
+      log.warn("Unable to build link reference index, service user for subservice '{}' not available.", SUBSERVICE_NAME, ex);
+    }
+    catch (RuntimeException ex) {
+      log.warn("Unable to build link reference index.", ex);
+    }
+  }
+
+  private @NotNull String buildQuery() {
+    StringBuilder query = new StringBuilder()
+        .append("SELECT [jcr:path] FROM [nt:base] AS r WHERE ISDESCENDANTNODE(r, '")
+        .append(StringUtils.replace(rootPath, "'", "''"))
+        .append("') AND (");
+    for (int i = 0; i < REFERENCE_PROPERTIES.length; i++) {
+      if (i > 0) {
+        query.append(" OR ");
+      }
+      query.append('[').append(REFERENCE_PROPERTIES[i]).append("] IS NOT NULL");
+    }
+    return query.append(')').toString();
+  }
+
+  private @NotNull ResourceResolver getServiceResourceResolver() throws LoginException {
+    return resourceResolverFactory.getServiceResourceResolver(
+        Map.of(ResourceResolverFactory.SUBSERVICE, SUBSERVICE_NAME));
+  }
+
+  private void indexSubtree(@NotNull String path) {
+    long sequence = getChangeSequence();
+    try (ResourceResolver resourceResolver = getServiceResourceResolver()) {
+      Resource root = resourceResolver.getResource(path);
+      if (root == null) {
+        return;
+      }
+      Deque<Resource> stack = new ArrayDeque<>();
+      stack.push(root);
+      while (!stack.isEmpty() && active) {
+        Resource resource = stack.pop();
+        indexResource(resource, sequence);
+        for (Resource child : resource.getChildren()) {
+          stack.push(child);
+        }
+      }
+    }
+    catch (LoginException ex) {
+      log.warn("Unable to update link reference index, service user for subservice '{}' not available.", SUBSERVICE_NAME, ex);
+    }
+  }
+
+  /**
+   * Indexes the references of the resource.
+   * @param resource Resource
+   * @param sequence Change sequence number when the background job started reading the repository,
+   *          or {@link #NO_SEQUENCE} if called for a change event
+   */
+  private void indexResource(@NotNull Resource resource, long sequence) {
+    ValueMap props = resource.getValueMap();
+    Set<String> targets = new HashSet<>();
+    for (String propertyName : REFERENCE_PROPERTIES) {
+      String target = props.get(propertyName, String.class);
+      // only absolute repository paths, external URLs are not indexed
+      if (StringUtils.startsWith(target, "/")) {
+        targets.add(normalizeTargetPath(target));
+      }
+    }
+    update(resource.getPath(), targets, sequence);
+  }
+
+  private synchronized long getChangeSequence() {
+    return changeSequence;
+  }
+
+  /**
+   * Updates the index for the given resource.
+   * @param resourcePath Resource path
+   * @param targets Current targets of the resource
+   * @param sequence Change sequence number when the background job started reading the repository,
+   *          or {@link #NO_SEQUENCE} if called for a change event
+   */
+  private synchronized void update(@NotNull String resourcePath, @NotNull Set<String> targets, long sequence) {
+    if (sequence == NO_SEQUENCE) {
+      if (jobScheduled) {
+        changedPaths.put(resourcePath, ++changeSequence);
+      }
+    }
+    else if (isChangedSince(resourcePath, sequence)) {
+      // resource was updated from a change event after the background job read it - keep the newer data
+      return;
+    }
+    Set<String> previousTargets = targets.isEmpty()
+        ? targetsByReference.remove(resourcePath)
+        : targetsByReference.put(resourcePath, targets);
+    if (previousTargets != null) {
+      for (String target : previousTargets) {
+        removeReference(target, resourcePath);
+      }
+    }
+    for (String target : targets) {
+      referencesByTarget.computeIfAbsent(target, key -> new HashSet<>()).add(resourcePath);
+    }
+  }
+
+  private synchronized void removeSubtree(@NotNull String path) {
+    if (jobScheduled) {
+      changedPaths.put(path, ++changeSequence);
+    }
+    for (String resourcePath : getSubtreeKeys(targetsByReference, path)) {
+      update(resourcePath, Collections.emptySet(), NO_SEQUENCE);
+    }
+  }
+
+  /**
+   * @return true if the resource or one of its ancestors was updated from a change event after the given sequence
+   */
+  private boolean isChangedSince(@NotNull String resourcePath, long sequence) {
+    String path = resourcePath;
+    while (StringUtils.isNotEmpty(path)) {
+      Long changed = changedPaths.get(path);
+      if (changed != null && changed > sequence) {
+        return true;
+      }
+      path = StringUtils.substringBeforeLast(path, "/");
+    }
+    return false;
+  }
+
+  private void removeReference(@NotNull String target, @NotNull String resourcePath) {
+    Set<String> references = referencesByTarget.get(target);
+    if (references != null) {
+      references.remove(resourcePath);
+      if (references.isEmpty()) {
+        referencesByTarget.remove(target);
+      }
+    }
+  }
+
+  /**
+   * @return Keys of the map that are equal to the given path or below it
+   */
+  private static @NotNull List<String> getSubtreeKeys(@NotNull NavigableMap<String, Set<String>> map, @NotNull String path) {
+    List<String> keys = new ArrayList<>();
+    // "0" is the character following "/", so the range contains all descendants
+    for (String key : map.subMap(path, true, path + "0", false).keySet()) {
+      if (isSameOrDescendant(key, path)) {
+        keys.add(key);
+      }
+    }
+    return keys;
+  }
+
+  private static boolean isSameOrDescendant(@NotNull String path, @NotNull String rootPath) {
+    return StringUtils.equals(path, rootPath) || StringUtils.startsWith(path, rootPath + "/");
+  }
+
+  private static @NotNull String normalizeTargetPath(@NotNull String path) {
+    return StringUtils.removeEnd(StringUtils.substringBefore(path, JCR_CONTENT_PATH_PART), "/");
+  }
+
+}
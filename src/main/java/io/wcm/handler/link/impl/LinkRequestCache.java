@@ -0,0 +1,190 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.sling.api.SlingHttpServletRequest;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ValueMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkArgs;
+import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.spi.LinkHandlerConfig;
+
+/**
+ * Caches resolved links for the lifetime of a request.
+ * The cache instance is stored as request attribute and shared by all link handler instances adapted from the same
+ * request. The current page and link handler configuration of the link handler are part of the cache key.
+ */
+final class LinkRequestCache {
+
+  private static final String REQUEST_ATTRIBUTE = LinkRequestCache.class.getName();
+
+  private final Map<Key, Link> links = new HashMap<>();
+
+  private static final Logger log = LoggerFactory.getLogger(LinkRequestCache.class);
+
+  /**
+   * Get cached link.
+   * Hit and miss counts are recorded by {@link LinkHandlerMetrics} and exposed via JMX.
+   * @param linkRequest Link request
+   * @param currentPage Current page of the link handler
+   * @param linkHandlerConfig Link handler configuration of the link handler
+   * @return Copy of the cached link or null if link was not resolved before within this request
+   */
+  @Nullable
+  Link get(@NotNull LinkRequest linkRequest, @Nullable Page currentPage, @NotNull LinkHandlerConfig linkHandlerConfig) {
+    Link link = links.get(new Key(linkRequest, currentPage, linkHandlerConfig));
+    if (link == null) {
+      return null;
+    }
+    log.trace("Link request cache hit: {}", linkRequest);
+    return link.copy();
+  }
+
+  /**
+   * Put resolved link to cache.
+   * A copy of the link is stored, so modifications of the returned link by the caller do not affect the cache.
+   * @param linkRequest Link request
+   * @param currentPage Current page of the link handler
+   * @param linkHandlerConfig Link handler configuration of the link handler
+   * @param link Resolved link
+   */
+  void put(@NotNull LinkRequest linkRequest, @Nullable Page currentPage, @NotNull LinkHandlerConfig linkHandlerConfig,
+      @NotNull Link link) {
+    links.put(new Key(linkRequest, currentPage, linkHandlerConfig), link.copy());
+  }
+
+  /**
+   * Get link request cache for given request. Creates a new one if none exists yet.
+   * @param request Request
+   * @return Link request cache
+   */
+  static @NotNull LinkRequestCache get(@NotNull SlingHttpServletRequest request) {
+    LinkRequestCache cache = (LinkRequestCache)request.getAttribute(REQUEST_ATTRIBUTE);
+    if (cache == null) {
+      cache = new LinkRequestCache();
+      request.setAttribute(REQUEST_ATTRIBUTE, cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Fingerprint of a link request: resource path and properties, page path or reference plus link arguments,
+   * and the context of the link handler.
+   *
+   * <p>
+   * The resource properties are not copied, the key reads through to the (copy-on-write) resource properties of the
+   * link request. Their hash code is calculated once. If the properties are changed afterwards, the key does no longer
+   * equal a key with the same properties, so it is never matched with outdated properties.
+   * </p>
+   */
+  private static final class Key {
+
+    private final String resourcePath;
+    private final ValueMap resourceProperties;
+    private final String pagePath;
+    private final String reference;
+    private final LinkArgs linkArgs;
+    private final String currentPagePath;
+    private final LinkHandlerConfig linkHandlerConfig;
+    private final int hashCode;
+
+    Key(@NotNull LinkRequest linkRequest, @Nullable Page currentPage, @NotNull LinkHandlerConfig linkHandlerConfig) {
+      Resource resource = linkRequest.getResource();
+      Page page = linkRequest.getPage();
+      this.resourcePath = resource != null ? resource.getPath() : null;
+      this.resourceProperties = resource != null ? linkRequest.getResourceProperties() : null;
+      this.pagePath = page != null ? page.getPath() : null;
+      this.reference = linkRequest.getReference();
+      // immutable snapshot of link args to make sure the key is not modified afterwards
+      this.linkArgs = linkRequest.getLinkArgs().snapshot();
+      this.currentPagePath = currentPage != null ? currentPage.getPath() : null;
+      this.linkHandlerConfig = linkHandlerConfig;
+      this.hashCode = Objects.hash(resourcePath, propertiesHashCode(resourceProperties), pagePath, reference, linkArgs,
+          currentPagePath, System.identityHashCode(linkHandlerConfig));
+    }
+
+    private static int propertiesHashCode(@Nullable Map<String, Object> props) {
+      if (props == null) {
+        return 0;
+      }
+      int result = 0;
+      for (Map.Entry<String, Object> entry : props.entrySet()) {
+        // same as Map.Entry.hashCode, but with content-based hash code for arrays
+        result += Objects.hashCode(entry.getKey()) ^ Arrays.deepHashCode(new Object[] { entry.getValue() });
+      }
+      return result;
+    }
+
+    private static boolean propertiesEquals(@Nullable Map<String, Object> props, @Nullable Map<String, Object> otherProps) {
+      if (props == otherProps) {
+        return true;
+      }
+      if (props == null || otherProps == null || props.size() != otherProps.size()) {
+        return false;
+      }
+      for (Map.Entry<String, Object> entry : props.entrySet()) {
+        if (!otherProps.containsKey(entry.getKey())
+            || !Objects.deepEquals(entry.getValue(), otherProps.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key)obj;
+      return hashCode == other.hashCode
+          && linkHandlerConfig == other.linkHandlerConfig
+          && Objects.equals(resourcePath, other.resourcePath)
+          && Objects.equals(pagePath, other.pagePath)
+          && Objects.equals(reference, other.reference)
+          && Objects.equals(currentPagePath, other.currentPagePath)
+          && Objects.equals(linkArgs, other.linkArgs)
+          && propertiesEquals(resourceProperties, other.resourceProperties);
+    }
+
+  }
+
+}
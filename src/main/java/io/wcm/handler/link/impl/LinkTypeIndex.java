@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.spi.LinkType;
+
+/**
+ * Maps link type IDs to the configured link type classes.
+ * The ID of each link type class is detected once by instantiating it and then remembered per class,
+ * so building the index for further link handler instances requires no link type instantiation at all.
+ */
+final class LinkTypeIndex {
+
+  // ID slot attached to each link type class - lock-free, and released together with the class when its bundle is
+  // unloaded
+  private static final ClassValue<AtomicReference<String>> LINK_TYPE_IDS = new ClassValue<AtomicReference<String>>() {
+    @Override
+    protected AtomicReference<String> computeValue(Class<?> type) {
+      return new AtomicReference<>();
+    }
+  };
+
+  // true if the link type class does not override accepts(LinkRequest), so it accepts link resources with a stored
+  // link type ID only if the ID matches its own
+  private static final ClassValue<Boolean> ACCEPTS_MATCHING_ID_ONLY = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        return type.getMethod("accepts", LinkRequest.class).getDeclaringClass() == LinkType.class;
+      }
+      catch (NoSuchMethodException ex) {
+        return false;
+      }
+    }
+  };
+
+  private final Map<Class<? extends LinkType>, String> idsByLinkType = new HashMap<>();
+  private final Map<String, Class<? extends LinkType>> linkTypesById = new HashMap<>();
+
+  /**
+   * @param linkTypes Configured link types
+   * @param instanceProvider Provides link type instances for detecting link type IDs not known yet
+   */
+  LinkTypeIndex(@NotNull List<Class<? extends LinkType>> linkTypes,
+      @NotNull Function<Class<? extends LinkType>, LinkType> instanceProvider) {
+    for (Class<? extends LinkType> linkTypeClass : linkTypes) {
+      AtomicReference<String> idSlot = LINK_TYPE_IDS.get(linkTypeClass);
+      String id = idSlot.get();
+      if (id == null) {
+        id = instanceProvider.apply(linkTypeClass).getId();
+        idSlot.set(id);
+      }
+      idsByLinkType.put(linkTypeClass, id);
+      // if multiple link types share the same ID the first one wins
+      linkTypesById.putIfAbsent(id, linkTypeClass);
+    }
+  }
+
+  /**
+   * Get link type class for ID.
+   * @param linkTypeId Link type ID
+   * @return Link type class or null if no link type with this ID is configured
+   */
+  @Nullable
+  Class<? extends LinkType> get(@NotNull String linkTypeId) {
+    return linkTypesById.get(linkTypeId);
+  }
+
+  /**
+   * Checks if the given link type may accept a link resource with the given stored link type ID.
+   * Returns false only for link types that use the default ID check of {@link LinkType#accepts(LinkRequest)}
+   * and have a different ID - all other link types have to be asked.
+   * @param linkTypeClass Configured link type class
+   * @param linkTypeId Link type ID stored in link resource
+   * @return false if the link type cannot accept the link resource
+   */
+  boolean mayAccept(@NotNull Class<? extends LinkType> linkTypeClass, @NotNull String linkTypeId) {
+    if (!ACCEPTS_MATCHING_ID_ONLY.get(linkTypeClass)) {
+      return true;
+    }
+    return linkTypeId.equals(idsByLinkType.get(linkTypeClass));
+  }
+
+}
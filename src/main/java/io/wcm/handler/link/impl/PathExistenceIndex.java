@@ -0,0 +1,295 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.jcr.query.Query;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.LoginException;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.apache.sling.commons.scheduler.Scheduler;
+import org.jetbrains.annotations.NotNull;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.day.cq.commons.jcr.JcrConstants;
+
+/**
+ * Probabilistic index (Bloom filter) of the page and asset paths below /content.
+ * Used to skip page and asset lookups for link references that definitely do not exist.
+ *
+ * <p>
+ * The index is built in background on activation using a query with the service user mapped to the
+ * subservice {@value #SUBSERVICE_NAME}, until then all paths are reported as possibly existing.
+ * Afterwards it is maintained incrementally from resource change events. Added resources are indexed including their
+ * subtree in a Sling scheduler job, as they may be the root of a copied or moved subtree. Until then all paths in an
+ * added subtree are reported as possibly existing. Removed paths stay in the index, they only increase the false
+ * positive rate - so do more paths than expected.
+ * </p>
+ *
+ * <p>
+ * The index is only active if an OSGi configuration is present.
+ * </p>
+ */
+@Component(service = { PathExistenceIndex.class, ResourceChangeListener.class },
+    configurationPolicy = ConfigurationPolicy.REQUIRE,
+    property = {
+        ResourceChangeListener.PATHS + "=" + PathExistenceIndex.CONTENT_ROOT,
+        ResourceChangeListener.CHANGES + "=ADDED"
+    })
+@Designate(ocd = PathExistenceIndex.Config.class)
+public final class PathExistenceIndex implements ResourceChangeListener, ExternalResourceChangeListener {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Path Existence Index",
+      description = "Probabilistic index of existing page and asset paths to skip lookups of broken link references.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Expected paths",
+        description = "Expected number of page and asset paths.")
+    int expectedPaths() default 1000000;
+
+    @AttributeDefinition(
+        name = "False positive probability",
+        description = "Probability that a non-existing path is reported as possibly existing.")
+    double falsePositiveProbability() default 0.01d;
+
+  }
+
+  static final String CONTENT_ROOT = "/content";
+  static final String SUBSERVICE_NAME = "link-existence-index";
+
+  private static final String JCR_CONTENT_PATH_PART = "/" + JcrConstants.JCR_CONTENT;
+  private static final String PAGE_QUERY = "SELECT [jcr:path] FROM [cq:Page] AS p WHERE ISDESCENDANTNODE(p, '/content')";
+  private static final String ASSET_QUERY = "SELECT [jcr:path] FROM [dam:Asset] AS a WHERE ISDESCENDANTNODE(a, '/content')";
+
+  private static final Logger log = LoggerFactory.getLogger(PathExistenceIndex.class);
+
+  @Reference
+  private ResourceResolverFactory resourceResolverFactory;
+  @Reference
+  private Scheduler scheduler;
+
+  private BloomFilter filter;
+  private volatile boolean ready;
+  private volatile boolean active;
+  private Thread buildThread;
+  // root paths of added subtrees, removed after the subtree is indexed
+  private final Queue<String> pendingSubtrees = new ConcurrentLinkedQueue<>();
+  private boolean jobScheduled;
+
+  @Activate
+  void activate(Config config) {
+    this.filter = new BloomFilter(config.expectedPaths(), config.falsePositiveProbability());
+    this.active = true;
+    this.buildThread = new Thread(this::buildIndex, "wcm.io Link Handler Path Existence Index");
+    this.buildThread.setDaemon(true);
+    this.buildThread.start();
+  }
+
+  @Deactivate
+  void deactivate() {
+    // a running subtree job stops at the next resource
+    this.active = false;
+    buildThread.interrupt();
+  }
+
+  /**
+   * Checks if a page or asset may exist at the given path.
+   * @param path Page or asset path
+   * @return false if no page or asset exists at this path for sure. Paths outside /content and all paths
+   *         while the index is not built yet are reported as possibly existing.
+   */
+  public boolean mightExist(@NotNull String path) {
+    if (!ready || !StringUtils.startsWith(path, CONTENT_ROOT + "/")) {
+      return true;
+    }
+    String normalizedPath = normalizePath(path);
+    return filter.mightContain(normalizedPath) || isInPendingSubtree(normalizedPath);
+  }
+
+  private boolean isInPendingSubtree(@NotNull String path) {
+    for (String subtreePath : pendingSubtrees) {
+      if (isSameOrDescendant(path, subtreePath)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return true if the initial index build is finished
+   */
+  boolean isReady() {
+    return this.ready;
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    // events are also recorded while the initial build is running
+    boolean subtreeAdded = false;
+    for (ResourceChange change : changes) {
+      String path = normalizePath(change.getPath());
+      filter.add(path);
+      // added resources outside page or asset content may be the root of a copied or moved subtree
+      if (!StringUtils.contains(change.getPath(), JCR_CONTENT_PATH_PART) && !isInPendingSubtree(path)) {
+        pendingSubtrees.add(path);
+        subtreeAdded = true;
+      }
+    }
+    if (subtreeAdded) {
+      scheduleJob();
+    }
+  }
+
+  /**
+   * Schedules the background job for pending subtrees, if not scheduled already.
+   */
+  private void scheduleJob() {
+    synchronized (this) {
+      if (jobScheduled) {
+        return;
+      }
+      jobScheduled = true;
+    }
+    // only one job is scheduled at a time, guarded by jobScheduled
+    if (!scheduler.schedule((Runnable)this::runJob, scheduler.NOW())) {
+      log.warn("Unable to schedule path existence index job.");
+      synchronized (this) {
+        jobScheduled = false;
+      }
+    }
+  }
+
+  /**
+   * Indexes pending subtrees until there is nothing left to do.
+   */
+  private void runJob() {
+    try {
+      while (active) {
+        String subtreePath = pendingSubtrees.peek();
+        if (subtreePath == null) {
+          synchronized (this) {
+            // check again while holding the lock so no subtree is added without scheduling a new job
+            if (pendingSubtrees.isEmpty()) {
+              jobScheduled = false;
+              return;
+            }
+          }
+          continue;
+        }
+        indexSubtree(subtreePath);
+        // remove only after indexing, the subtree is reported as possibly existing until then
+        pendingSubtrees.remove(subtreePath);
+      }
+    }
+    catch (RuntimeException ex) {
+      synchronized (this) {
+        jobScheduled = false;
+      }
+      throw ex;
+    }
+  }
+
+  private void indexSubtree(@NotNull String path) {
+    try (ResourceResolver resourceResolver = getServiceResourceResolver()) {
+      Resource root = resourceResolver.getResource(path);
+      if (root == null) {
+        return;
+      }
+      Deque<Resource> stack = new ArrayDeque<>();
+      stack.push(root);
+      while (!stack.isEmpty() && active) {
+        Resource resource = stack.pop();
+        filter.add(resource.getPath());
+        for (Resource child : resource.getChildren()) {
+          // page and asset content is not indexed
+          if (!StringUtils.equals(child.getName(), JcrConstants.JCR_CONTENT)) {
+            stack.push(child);
+          }
+        }
+      }
+    }
+    catch (LoginException ex) {
+      log.warn("Unable to update path existence index, service user for subservice '{}' not available.", SUBSERVICE_NAME, ex);
+    }
+  }
+
+  private @NotNull ResourceResolver getServiceResourceResolver() throws LoginException {
+    return resourceResolverFactory.getServiceResourceResolver(
+        Map.of(ResourceResolverFactory.SUBSERVICE, SUBSERVICE_NAME));
+  }
+
+  void buildIndex() {
+    long startTime = System.currentTimeMillis();
+    long count = 0;
+    try (ResourceResolver resourceResolver = getServiceResourceResolver()) {
+      for (String query : new String[] { PAGE_QUERY, ASSET_QUERY }) {
+        Iterator<Resource> resources = resourceResolver.findResources(query, Query.JCR_SQL2);
+        while (resources.hasNext()) {
+          if (Thread.currentThread().isInterrupted()) {
+            return;
+          }
+          filter.add(resources.next().getPath());
+          count++;
+        }
+      }
+      ready = true;
+      log.info("Built path existence index with {} paths in {} ms.", count, System.currentTimeMillis() - startTime);
+    }
+    catch (LoginException ex) {
+      log.warn("Unable to build path existence index, service user for subservice '{}' not available.", SUBSERVICE_NAME, ex);
+    }
+    catch (RuntimeException ex) {
+      log.warn("Unable to build path existence index.", ex);
+    }
+  }
+
+  private static @NotNull String normalizePath(@NotNull String path) {
+    return StringUtils.removeEnd(StringUtils.substringBefore(path, JCR_CONTENT_PATH_PART), "/");
+  }
+
+  private static boolean isSameOrDescendant(@NotNull String path, @NotNull String rootPath) {
+    return StringUtils.equals(path, rootPath) || StringUtils.startsWith(path, rootPath + "/");
+  }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.day.cq.commons.jcr.JcrConstants;
+
+/**
+ * Instance-wide graph of redirect and integrator page chains.
+ * For each redirect page the chain of redirect pages (hops) up to the final link target is stored, separated
+ * by resolution context (e.g. site root). Chains are collected from the link resolution results of
+ * {@link io.wcm.handler.link.type.helpers.InternalLinkResolver}. Cyclic chains are flagged once when they are
+ * added, so further links pointing into such a chain are detected as invalid without resolving each hop again.
+ * Chains are removed on content changes affecting one of their pages, all chains are removed on configuration
+ * changes.
+ *
+ * <p>
+ * The graph is only active if an OSGi configuration is present.
+ * </p>
+ */
+@Component(service = { RedirectGraph.class, ResourceChangeListener.class },
+    configurationPolicy = ConfigurationPolicy.REQUIRE,
+    property = {
+        ResourceChangeListener.PATHS + "=/content",
+        ResourceChangeListener.PATHS + "=/conf",
+        ResourceChangeListener.CHANGES + "=ADDED",
+        ResourceChangeListener.CHANGES + "=CHANGED",
+        ResourceChangeListener.CHANGES + "=REMOVED"
+    })
+@Designate(ocd = RedirectGraph.Config.class)
+public final class RedirectGraph implements ResourceChangeListener, ExternalResourceChangeListener {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Redirect Graph",
+      description = "Remembers chains of redirect and integrator pages and detects cyclic chains.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Max. entries",
+        description = "Maximum number of redirect pages stored in the graph.")
+    int maxSize() default 10000;
+
+  }
+
+  private static final String CONF_ROOT = "/conf";
+  private static final String JCR_CONTENT_PATH_PART = "/" + JcrConstants.JCR_CONTENT;
+
+  private static final Logger log = LoggerFactory.getLogger(RedirectGraph.class);
+
+  private final Map<String, Chain> chains = new ConcurrentHashMap<>();
+  private int maxSize;
+
+  @Activate
+  void activate(Config config) {
+    this.maxSize = config.maxSize();
+  }
+
+  /**
+   * Get redirect chain starting with the given redirect page.
+   * @param context Resolution context
+   * @param redirectPagePath Path of redirect or integrator page
+   * @return Redirect chain or null if not known
+   */
+  public @Nullable Chain get(@NotNull String context, @NotNull String redirectPagePath) {
+    return chains.get(toKey(context, redirectPagePath));
+  }
+
+  /**
+   * Add a redirect chain resolved for a link. A chain containing the same redirect page twice is flagged as cyclic.
+   * All sub chains are added as well, so the chain can be looked up starting from each of the redirect pages.
+   * @param context Resolution context
+   * @param hopPaths Paths of the redirect pages in the order they were resolved
+   * @param targetPath Path of the final link target page, or null if the link does not point to a page
+   */
+  public void put(@NotNull String context, @NotNull List<String> hopPaths, @Nullable String targetPath) {
+    if (hopPaths.isEmpty()) {
+      return;
+    }
+    if (chains.size() + hopPaths.size() > maxSize) {
+      // safeguard against unexpected high number of redirect pages
+      chains.clear();
+    }
+
+    int cycleEnd = getCycleEnd(hopPaths);
+    if (cycleEnd >= 0) {
+      List<String> cyclicHops = hopPaths.subList(0, cycleEnd);
+      int cycleStart = hopPaths.indexOf(hopPaths.get(cycleEnd));
+      log.warn("Detected cyclic redirect chain: {}", cyclicHops);
+      for (int i = 0; i < cyclicHops.size(); i++) {
+        // pages inside the cycle depend on all pages of the cycle
+        List<String> hops = new ArrayList<>(cyclicHops.subList(i, cyclicHops.size()));
+        if (i > cycleStart) {
+          hops.addAll(cyclicHops.subList(cycleStart, i));
+        }
+        chains.put(toKey(context, hops.get(0)), new Chain(List.copyOf(hops), null, true));
+      }
+    }
+    else {
+      for (int i = 0; i < hopPaths.size(); i++) {
+        List<String> hops = List.copyOf(hopPaths.subList(i, hopPaths.size()));
+        chains.put(toKey(context, hops.get(0)), new Chain(hops, targetPath, false));
+      }
+    }
+  }
+
+  /**
+   * @return Index of the first redirect page that was already visited before in the chain, or -1 if none
+   */
+  private static int getCycleEnd(@NotNull List<String> hopPaths) {
+    Set<String> visited = new HashSet<>();
+    for (int i = 0; i < hopPaths.size(); i++) {
+      if (!visited.add(hopPaths.get(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return Number of redirect pages stored in the graph
+   */
+  int size() {
+    return chains.size();
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    List<String> changedPaths = new ArrayList<>(changes.size());
+    for (ResourceChange change : changes) {
+      String path = change.getPath();
+      if (StringUtils.equals(path, CONF_ROOT) || StringUtils.startsWith(path, CONF_ROOT + "/")) {
+        // configuration may affect redirect detection of all pages
+        chains.clear();
+        return;
+      }
+      changedPaths.add(StringUtils.substringBefore(path, JCR_CONTENT_PATH_PART));
+    }
+    chains.values().removeIf(chain -> chain.isAffectedBy(changedPaths));
+  }
+
+  private static String toKey(@NotNull String context, @NotNull String path) {
+    return context + "\n" + path;
+  }
+
+  /**
+   * Chain of redirect pages starting with a redirect or integrator page.
+   */
+  public static final class Chain {
+
+    private final List<String> hopPaths;
+    private final String targetPath;
+    private final boolean cyclic;
+
+    Chain(@NotNull List<String> hopPaths, @Nullable String targetPath, boolean cyclic) {
+      this.hopPaths = Collections.unmodifiableList(hopPaths);
+      this.targetPath = targetPath;
+      this.cyclic = cyclic;
+    }
+
+    /**
+     * @return Paths of redirect pages in the order they are resolved, starting with the redirect page the chain
+     *         was looked up for.
+     */
+    public @NotNull List<String> getHopPaths() {
+      return this.hopPaths;
+    }
+
+    /**
+     * @return Path of final link target page, or null if the link does not point to a page or the chain is cyclic
+     */
+    public @Nullable String getTargetPath() {
+      return this.targetPath;
+    }
+
+    /**
+     * @return true if the redirect pages point to each other in a cycle and the link can never be resolved
+     */
+    public boolean isCyclic() {
+      return this.cyclic;
+    }
+
+    boolean isAffectedBy(@NotNull List<String> changedPaths) {
+      for (String changedPath : changedPaths) {
+        for (String hopPath : hopPaths) {
+          if (isAffectedBy(hopPath, changedPath)) {
+            return true;
+          }
+        }
+        if (targetPath != null && isAffectedBy(targetPath, changedPath)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isAffectedBy(@NotNull String dependencyPath, @NotNull String changedPath) {
+      // change of the page itself or removal/move of a parent page
+      return StringUtils.equals(dependencyPath, changedPath) || StringUtils.startsWith(dependencyPath, changedPath + "/");
+    }
+
+  }
+
+}
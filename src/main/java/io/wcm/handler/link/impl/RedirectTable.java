@@ -0,0 +1,275 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CROSSCONTEXT_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_MEDIA_REF;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.SlingHttpServletRequest;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+import com.day.cq.commons.jcr.JcrConstants;
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+
+/**
+ * Instance-wide table of server-side redirects answered by the {@link io.wcm.handler.link.ui.Redirect} model.
+ * Stores HTTP status and location per redirect page, separated by user, request host and query string.
+ * Entries are invalidated on content changes affecting the redirect page, the redirect pages it points to,
+ * the link target or the referenced target paths, all entries are invalidated on configuration changes.
+ *
+ * <p>
+ * The table is only active if an OSGi configuration is present.
+ * </p>
+ */
+@Component(service = { RedirectTable.class, ResourceChangeListener.class },
+    configurationPolicy = ConfigurationPolicy.REQUIRE,
+    property = {
+        ResourceChangeListener.PATHS + "=/content",
+        ResourceChangeListener.PATHS + "=/conf",
+        ResourceChangeListener.CHANGES + "=ADDED",
+        ResourceChangeListener.CHANGES + "=CHANGED",
+        ResourceChangeListener.CHANGES + "=REMOVED"
+    })
+@Designate(ocd = RedirectTable.Config.class)
+public final class RedirectTable implements ResourceChangeListener, ExternalResourceChangeListener {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler Redirect Table",
+      description = "Caches HTTP status and location of redirect pages, invalidated on content changes.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Max. entries",
+        description = "Maximum number of cached redirects.")
+    int maxSize() default 10000;
+
+  }
+
+  private static final String CONF_ROOT = "/conf";
+  private static final String JCR_CONTENT_PATH_PART = "/" + JcrConstants.JCR_CONTENT;
+
+  private static final String[] REFERENCE_PROPERTIES = {
+      PN_LINK_CONTENT_REF,
+      PN_LINK_CROSSCONTEXT_CONTENT_REF,
+      PN_LINK_MEDIA_REF
+  };
+
+  private Map<String, CacheEntry> table;
+
+  @Activate
+  void activate(Config config) {
+    int maxSize = config.maxSize();
+    this.table = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Get redirect for the redirect page requested.
+   * @param request Request to redirect page
+   * @return Redirect or null if not known
+   */
+  public @Nullable Entry get(@NotNull SlingHttpServletRequest request) {
+    String key = toKey(request);
+    synchronized (table) {
+      CacheEntry cacheEntry = table.get(key);
+      return cacheEntry != null ? cacheEntry.entry : null;
+    }
+  }
+
+  /**
+   * Put redirect for the redirect page requested. Redirects to pages with on/off time are not stored,
+   * because their validity may change without content changes.
+   * @param request Request to redirect page
+   * @param link Resolved link of the redirect page
+   * @param entry Redirect
+   */
+  public void put(@NotNull SlingHttpServletRequest request, @NotNull Link link, @NotNull Entry entry) {
+    List<String> dependencyPaths = getDependencyPaths(request.getResource(), link);
+    if (dependencyPaths == null) {
+      return;
+    }
+    String key = toKey(request);
+    synchronized (table) {
+      table.put(key, new CacheEntry(entry, dependencyPaths));
+    }
+  }
+
+  /**
+   * @return Number of stored redirects
+   */
+  int size() {
+    synchronized (table) {
+      return table.size();
+    }
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    List<String> changedPaths = new ArrayList<>(changes.size());
+    for (ResourceChange change : changes) {
+      String path = change.getPath();
+      if (StringUtils.equals(path, CONF_ROOT) || StringUtils.startsWith(path, CONF_ROOT + "/")) {
+        // configuration may affect all redirects (e.g. site URLs)
+        synchronized (table) {
+          table.clear();
+        }
+        return;
+      }
+      changedPaths.add(StringUtils.substringBefore(path, JCR_CONTENT_PATH_PART));
+    }
+    synchronized (table) {
+      Iterator<CacheEntry> entries = table.values().iterator();
+      while (entries.hasNext()) {
+        if (entries.next().isAffectedBy(changedPaths)) {
+          entries.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * Collects the paths the redirect depends on.
+   * @return Dependency paths or null if the redirect must not be stored
+   */
+  private static @Nullable List<String> getDependencyPaths(@NotNull Resource resource, @NotNull Link link) {
+    List<String> dependencyPaths = new ArrayList<>();
+    dependencyPaths.add(StringUtils.substringBefore(resource.getPath(), JCR_CONTENT_PATH_PART));
+    for (Page redirectPage : link.getRedirectPages()) {
+      if (redirectPage.getOnTime() != null || redirectPage.getOffTime() != null) {
+        return null;
+      }
+      dependencyPaths.add(redirectPage.getPath());
+    }
+    Page targetPage = link.getTargetPage();
+    if (targetPage != null) {
+      if (targetPage.getOnTime() != null || targetPage.getOffTime() != null) {
+        return null;
+      }
+      dependencyPaths.add(targetPage.getPath());
+    }
+    if (link.getTargetAsset() != null) {
+      dependencyPaths.add(link.getTargetAsset().getPath());
+    }
+    // referenced paths, so creating a missing target invalidates the redirect as well
+    ValueMap props = resource.getValueMap();
+    for (String propertyName : REFERENCE_PROPERTIES) {
+      String reference = props.get(propertyName, String.class);
+      if (StringUtils.startsWith(reference, "/")) {
+        dependencyPaths.add(StringUtils.substringBefore(reference, JCR_CONTENT_PATH_PART));
+      }
+    }
+    return dependencyPaths;
+  }
+
+  /**
+   * Builds key from all request parameters influencing the redirect location.
+   */
+  private static @NotNull String toKey(@NotNull SlingHttpServletRequest request) {
+    return request.getResource().getPath()
+        + "\n" + StringUtils.defaultString(request.getResourceResolver().getUserID())
+        + "\n" + request.getScheme() + "://" + request.getServerName() + ":" + request.getServerPort()
+        + "\n" + StringUtils.defaultString(request.getQueryString());
+  }
+
+  /**
+   * HTTP status and location of a redirect.
+   */
+  public static final class Entry {
+
+    private final int status;
+    private final String location;
+
+    /**
+     * @param status HTTP status
+     * @param location Redirect location or null if the redirect target is not valid
+     */
+    public Entry(int status, @Nullable String location) {
+      this.status = status;
+      this.location = location;
+    }
+
+    /**
+     * @return HTTP status
+     */
+    public int getStatus() {
+      return this.status;
+    }
+
+    /**
+     * @return Redirect location or null if the redirect target is not valid
+     */
+    public @Nullable String getLocation() {
+      return this.location;
+    }
+
+  }
+
+  private static final class CacheEntry {
+
+    private final Entry entry;
+    private final List<String> dependencyPaths;
+
+    CacheEntry(@NotNull Entry entry, @NotNull List<String> dependencyPaths) {
+      this.entry = entry;
+      this.dependencyPaths = dependencyPaths;
+    }
+
+    boolean isAffectedBy(@NotNull List<String> changedPaths) {
+      for (String changedPath : changedPaths) {
+        for (String dependencyPath : dependencyPaths) {
+          // change of the page itself or removal/move of a parent page
+          if (StringUtils.equals(dependencyPath, changedPath) || StringUtils.startsWith(dependencyPath, changedPath + "/")) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+  }
+
+}
@@ -19,15 +19,26 @@
  */
 package io.wcm.handler.link.impl;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.SlingHttpServletRequest;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.caconfig.resource.ConfigurationResourceResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +47,9 @@ import com.day.cq.wcm.api.Page;
 import com.day.cq.wcm.api.PageManager;
 import com.day.cq.wcm.api.PageManagerFactory;
 
+import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.media.Asset;
 import io.wcm.handler.url.UrlHandler;
 import io.wcm.handler.url.UrlModes;
 import io.wcm.sling.commons.adapter.AdaptTo;
@@ -51,6 +64,19 @@ import io.wcm.sling.commons.adapter.AdaptTo;
  * not succeed, or does not result in an externalized link, the request is passed over to the AEM default implementation
  * to externalize it.
  * </p>
+ *
+ * <p>
+ * Link handler and URL handler instances are reused for all pages of the same context-aware configuration context
+ * as long as the resource resolver is open, so generating a sitemap with a single resource resolver does not adapt
+ * new handler instances for each page. All pages of the same configuration context share the same link handler and
+ * URL handler configuration, so the result does not depend on which page of the context was externalized first.
+ * </p>
+ *
+ * <p>
+ * The externalized URL of each page - or the information that the page cannot be externalized by the Link Handler -
+ * is cached in the {@link SeoSitemapUrlCache}, if this cache is configured. Redirect and integrator targets of the page
+ * are recorded as dependencies of the cache entry, so the entry is invalidated when one of them changes.
+ * </p>
  */
 @Component(
     service = {
@@ -64,6 +90,8 @@ import io.wcm.sling.commons.adapter.AdaptTo;
 public class SeoSitemapLinkExternalizerImpl implements SitemapLinkExternalizer {
 
   private static final String HTML_EXTENSION = ".html";
+  // cached value for pages that cannot be externalized by the link handler
+  private static final String NOT_EXTERNALIZED = "";
 
   // custom service property to get AEM SitemapLinkExternalizer as fallback implementation of this service
   static final String TARGET_FILTER_PROPERTY = "seoSitemapLinkExternalizer";
@@ -73,10 +101,19 @@ public class SeoSitemapLinkExternalizerImpl implements SitemapLinkExternalizer {
 
   @Reference
   private PageManagerFactory pageManagerFactory;
+  @Reference
+  private ConfigurationResourceResolver configurationResourceResolver;
 
   @Reference(target = "(!(" + TARGET_FILTER_PROPERTY + "=" + TARGET_FILTER_VALUE + "))")
   private SitemapLinkExternalizer aemSitemapLinkExternalizer;
 
+  @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC,
+      policyOption = ReferencePolicyOption.GREEDY)
+  private volatile SeoSitemapUrlCache urlCache;
+
+  // link handler and URL handler instances per configuration context path for each open resource resolver
+  private final Map<ResourceResolver, Map<String, SiteHandlers>> siteHandlersByResourceResolver = new WeakHashMap<>();
+
   @Override
   public @NotNull String externalize(SlingHttpServletRequest request, String path) {
     // not used by AEM, use default implementation
@@ -90,7 +127,10 @@ public class SeoSitemapLinkExternalizerImpl implements SitemapLinkExternalizer {
   @Override
   public @NotNull String externalize(Resource resource) {
     Page page = getPageForResource(resource);
-    String externalizedUrl = externalizePageLink(page);
+    String externalizedUrl = null;
+    if (page != null) {
+      externalizedUrl = externalizePagePath(resource.getResourceResolver(), page.getPath(), page);
+    }
     if (externalizedUrl != null) {
       log.debug("Externalize {} to {}", resource, externalizedUrl);
       // remove ".html" extension, it's added automatically by AEM
@@ -109,8 +149,7 @@ public class SeoSitemapLinkExternalizerImpl implements SitemapLinkExternalizer {
   public @NotNull String externalize(ResourceResolver resourceResolver, String path) {
     // html extension is added implicitly by AEM, remove it to get the targeted page instance
     String pagePath = StringUtils.removeEnd(path, HTML_EXTENSION);
-    Page page = getPageForPath(resourceResolver, pagePath);
-    String externalizedUrl = externalizePageLink(page);
+    String externalizedUrl = externalizePagePath(resourceResolver, pagePath, null);
     if (externalizedUrl != null) {
       log.debug("Externalize {} to {}", path, externalizedUrl);
       return externalizedUrl;
@@ -121,9 +160,29 @@ public class SeoSitemapLinkExternalizerImpl implements SitemapLinkExternalizer {
     return aemSitemapLinkExternalizer.externalize(resourceResolver, path);
   }
 
-  private @Nullable Page getPageForPath(ResourceResolver resourceResolver, String path) {
-    PageManager pageManager = pageManagerFactory.getPageManager(resourceResolver);
-    return pageManager.getPage(path);
+  /**
+   * Externalizes page link using the cache.
+   * @param resourceResolver Resource resolver
+   * @param pagePath Page path
+   * @param page Page if already known, otherwise it is looked up from the page path on cache miss
+   * @return Externalized URL or null if the page cannot be externalized by the link handler
+   */
+  private @Nullable String externalizePagePath(@NotNull ResourceResolver resourceResolver, @NotNull String pagePath,
+      @Nullable Page page) {
+    SeoSitemapUrlCache cache = this.urlCache;
+    String externalizedUrl = cache != null ? cache.get(resourceResolver, pagePath) : null;
+    if (externalizedUrl == null) {
+      Page targetPage = page;
+      if (targetPage == null) {
+        targetPage = pageManagerFactory.getPageManager(resourceResolver).getPage(pagePath);
+      }
+      Set<String> dependencyPaths = new HashSet<>();
+      externalizedUrl = StringUtils.defaultString(externalizePageLink(targetPage, dependencyPaths), NOT_EXTERNALIZED);
+      if (cache != null) {
+        cache.put(resourceResolver, pagePath, externalizedUrl, dependencyPaths);
+      }
+    }
+    return StringUtils.defaultIfEmpty(externalizedUrl, null);
   }
 
   private @Nullable Page getPageForResource(Resource resource) {
@@ -135,15 +194,21 @@ public class SeoSitemapLinkExternalizerImpl implements SitemapLinkExternalizer {
     return page;
   }
 
-  private @Nullable String externalizePageLink(@Nullable Page page) {
+  /**
+   * @param page Page
+   * @param dependencyPaths Collects the paths of other pages or assets the link depends on
+   * @return Externalized URL or null
+   */
+  private @Nullable String externalizePageLink(@Nullable Page page, @NotNull Set<String> dependencyPaths) {
     if (page != null && page.hasContent()) {
-      LinkHandler linkHandler = AdaptTo.notNull(page.getContentResource(), LinkHandler.class);
-      String url = linkHandler.get(page).urlMode(UrlModes.FULL_URL).buildUrl();
+      SiteHandlers siteHandlers = getSiteHandlers(page);
+      Link link = siteHandlers.linkHandler.get(page).urlMode(UrlModes.FULL_URL).build();
+      collectDependencyPaths(link, page, dependencyPaths);
+      String url = link.getUrl();
       if (url != null) {
         // double-check that the URL was really externalized
         // this may not the case if e.g. the site config is missing - ignore the URL then
-        UrlHandler urlHandler = AdaptTo.notNull(page.getContentResource(), UrlHandler.class);
-        if (urlHandler.isExternalized(url)) {
+        if (siteHandlers.urlHandler.isExternalized(url)) {
           return url;
         }
       }
@@ -151,4 +216,69 @@ public class SeoSitemapLinkExternalizerImpl implements SitemapLinkExternalizer {
     return null;
   }
 
+  /**
+   * Collects the paths of redirect pages and the link target if it differs from the page itself,
+   * e.g. for redirect and integrator pages.
+   */
+  private static void collectDependencyPaths(@NotNull Link link, @NotNull Page page, @NotNull Set<String> dependencyPaths) {
+    for (Page redirectPage : link.getRedirectPages()) {
+      dependencyPaths.add(redirectPage.getPath());
+    }
+    Page targetPage = link.getTargetPage();
+    if (targetPage != null) {
+      dependencyPaths.add(targetPage.getPath());
+    }
+    Asset targetAsset = link.getTargetAsset();
+    if (targetAsset != null) {
+      dependencyPaths.add(targetAsset.getPath());
+    }
+    dependencyPaths.remove(page.getPath());
+  }
+
+  /**
+   * Get link handler and URL handler for the configuration context of the given page. The instances are adapted from
+   * the content resource of the first page of a configuration context and reused for the other pages of the same
+   * context as long as the resource resolver is open.
+   * If the page has no configuration context, new instances are adapted from the page itself.
+   */
+  private @NotNull SiteHandlers getSiteHandlers(@NotNull Page page) {
+    Resource pageContentResource = page.getContentResource();
+    String contextPath = configurationResourceResolver.getContextPath(pageContentResource);
+    if (contextPath == null) {
+      return new SiteHandlers(pageContentResource);
+    }
+    ResourceResolver resourceResolver = pageContentResource.getResourceResolver();
+    synchronized (siteHandlersByResourceResolver) {
+      removeClosedResourceResolvers();
+      return siteHandlersByResourceResolver
+          .computeIfAbsent(resourceResolver, key -> new HashMap<>())
+          .computeIfAbsent(contextPath, key -> new SiteHandlers(pageContentResource));
+    }
+  }
+
+  /**
+   * The handlers reference the resource resolver they were adapted from, so the entries of closed resource resolvers
+   * have to be removed explicitly.
+   */
+  private void removeClosedResourceResolvers() {
+    Iterator<ResourceResolver> resourceResolvers = siteHandlersByResourceResolver.keySet().iterator();
+    while (resourceResolvers.hasNext()) {
+      if (!resourceResolvers.next().isLive()) {
+        resourceResolvers.remove();
+      }
+    }
+  }
+
+  private static final class SiteHandlers {
+
+    private final LinkHandler linkHandler;
+    private final UrlHandler urlHandler;
+
+    SiteHandlers(@NotNull Resource resource) {
+      this.linkHandler = AdaptTo.notNull(resource, LinkHandler.class);
+      this.urlHandler = AdaptTo.notNull(resource, UrlHandler.class);
+    }
+
+  }
+
 }
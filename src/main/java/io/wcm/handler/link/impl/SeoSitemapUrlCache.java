@@ -0,0 +1,298 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.observation.ExternalResourceChangeListener;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChangeListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+import com.day.cq.commons.jcr.JcrConstants;
+
+/**
+ * Instance-wide cache for page URLs externalized by {@link SeoSitemapLinkExternalizerImpl}.
+ * Caches the externalized URL of each page - or the information that the page cannot be externalized by the
+ * Link Handler - per resource resolver identity. Entries are invalidated on changes of the page, its parent pages or
+ * their access control policies, and on changes of the pages the URL depends on (e.g. redirect or integrator targets).
+ * All entries are invalidated on configuration or group changes.
+ *
+ * <p>
+ * Entries are only shared between resource resolvers with the same user ID and service name. Resource resolvers
+ * without user ID are not cached.
+ * </p>
+ *
+ * <p>
+ * The cache is only active if an OSGi configuration is present.
+ * </p>
+ */
+@Component(service = { SeoSitemapUrlCache.class, ResourceChangeListener.class },
+    configurationPolicy = ConfigurationPolicy.REQUIRE,
+    property = {
+        ResourceChangeListener.PATHS + "=/content",
+        ResourceChangeListener.PATHS + "=/conf",
+        ResourceChangeListener.PATHS + "=" + SeoSitemapUrlCache.GROUPS_ROOT,
+        ResourceChangeListener.CHANGES + "=ADDED",
+        ResourceChangeListener.CHANGES + "=CHANGED",
+        ResourceChangeListener.CHANGES + "=REMOVED"
+    })
+@Designate(ocd = SeoSitemapUrlCache.Config.class)
+public final class SeoSitemapUrlCache implements ResourceChangeListener, ExternalResourceChangeListener {
+
+  @ObjectClassDefinition(
+      name = "wcm.io Link Handler SEO Sitemap URL Cache",
+      description = "Caches page URLs externalized for sitemaps and SEO tags, invalidated on content changes.")
+  @interface Config {
+
+    @AttributeDefinition(
+        name = "Max. entries",
+        description = "Maximum number of cached externalized page URLs.")
+    int maxSize() default 10000;
+
+  }
+
+  // group memberships are stored in the group nodes - user nodes are not observed, as login tokens are stored there
+  static final String GROUPS_ROOT = "/home/groups";
+  private static final String CONF_ROOT = "/conf";
+  private static final String JCR_CONTENT_PATH_PART = "/" + JcrConstants.JCR_CONTENT;
+  private static final String POLICY_PATH_PART = "/rep:policy";
+
+  private Map<Key, CacheEntry> cache;
+  // cache keys by page path, for invalidating the entries of a page and its child pages without scanning all keys
+  private final NavigableMap<String, Set<Key>> keysByPagePath = new TreeMap<>();
+  // cache keys by paths the cached URLs depend on, e.g. redirect targets
+  private final NavigableMap<String, Set<Key>> keysByDependencyPath = new TreeMap<>();
+
+  @Activate
+  void activate(Config config) {
+    int maxSize = config.maxSize();
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, CacheEntry> eldest) {
+        if (size() > maxSize) {
+          removeFromIndex(eldest.getKey(), eldest.getValue());
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Get cached externalized URL.
+   * @param resourceResolver Resource resolver
+   * @param pagePath Page path
+   * @return Externalized URL, empty string if the page cannot be externalized, or null if nothing is cached
+   */
+  public @Nullable String get(@NotNull ResourceResolver resourceResolver, @NotNull String pagePath) {
+    Key key = toKey(resourceResolver, pagePath);
+    if (key == null) {
+      return null;
+    }
+    synchronized (cache) {
+      CacheEntry entry = cache.get(key);
+      return entry != null ? entry.externalizedUrl : null;
+    }
+  }
+
+  /**
+   * Put externalized URL to cache.
+   * @param resourceResolver Resource resolver
+   * @param pagePath Page path
+   * @param externalizedUrl Externalized URL, or empty string if the page cannot be externalized
+   */
+  public void put(@NotNull ResourceResolver resourceResolver, @NotNull String pagePath, @NotNull String externalizedUrl) {
+    put(resourceResolver, pagePath, externalizedUrl, Collections.emptySet());
+  }
+
+  /**
+   * Put externalized URL to cache.
+   * @param resourceResolver Resource resolver
+   * @param pagePath Page path
+   * @param externalizedUrl Externalized URL, or empty string if the page cannot be externalized
+   * @param dependencyPaths Paths of other pages or assets the externalized URL depends on,
+   *          e.g. redirect or integrator targets
+   */
+  public void put(@NotNull ResourceResolver resourceResolver, @NotNull String pagePath, @NotNull String externalizedUrl,
+      @NotNull Collection<String> dependencyPaths) {
+    Key key = toKey(resourceResolver, pagePath);
+    if (key == null) {
+      return;
+    }
+    CacheEntry entry = new CacheEntry(externalizedUrl, Set.copyOf(dependencyPaths));
+    synchronized (cache) {
+      CacheEntry previousEntry = cache.put(key, entry);
+      if (previousEntry != null) {
+        removeFromIndex(key, previousEntry);
+      }
+      keysByPagePath.computeIfAbsent(pagePath, path -> new HashSet<>()).add(key);
+      for (String dependencyPath : entry.dependencyPaths) {
+        keysByDependencyPath.computeIfAbsent(dependencyPath, path -> new HashSet<>()).add(key);
+      }
+    }
+  }
+
+  /**
+   * @return Number of cached entries
+   */
+  int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  @Override
+  public void onChange(@NotNull List<ResourceChange> changes) {
+    synchronized (cache) {
+      for (ResourceChange change : changes) {
+        String path = change.getPath();
+        if (isPathOrChild(path, CONF_ROOT) || isPathOrChild(path, GROUPS_ROOT)) {
+          // configuration may affect all URLs (e.g. site URLs), group changes may affect permissions
+          cache.clear();
+          keysByPagePath.clear();
+          keysByDependencyPath.clear();
+          return;
+        }
+        invalidate(StringUtils.substringBefore(StringUtils.substringBefore(path, JCR_CONTENT_PATH_PART), POLICY_PATH_PART));
+      }
+    }
+  }
+
+  /**
+   * Removes all entries of the given page and its child pages, and all entries depending on them.
+   */
+  private void invalidate(@NotNull String changedPath) {
+    Set<Key> keys = new HashSet<>();
+    collectKeys(keysByPagePath, changedPath, keys);
+    collectKeys(keysByDependencyPath, changedPath, keys);
+    for (Key key : keys) {
+      CacheEntry entry = cache.remove(key);
+      if (entry != null) {
+        removeFromIndex(key, entry);
+      }
+    }
+  }
+
+  private static void collectKeys(@NotNull NavigableMap<String, Set<Key>> keysByPath, @NotNull String path,
+      @NotNull Set<Key> result) {
+    Set<Key> keys = keysByPath.get(path);
+    if (keys != null) {
+      result.addAll(keys);
+    }
+    // '0' is the character following '/', so this sub map contains all descendant paths
+    keysByPath.subMap(path + "/", true, path + "0", false).values().forEach(result::addAll);
+  }
+
+  private void removeFromIndex(@NotNull Key key, @NotNull CacheEntry entry) {
+    removeFromIndex(keysByPagePath, key.pagePath, key);
+    for (String dependencyPath : entry.dependencyPaths) {
+      removeFromIndex(keysByDependencyPath, dependencyPath, key);
+    }
+  }
+
+  private static void removeFromIndex(@NotNull Map<String, Set<Key>> keysByPath, @NotNull String path, @NotNull Key key) {
+    Set<Key> keys = keysByPath.get(path);
+    if (keys != null) {
+      keys.remove(key);
+      if (keys.isEmpty()) {
+        keysByPath.remove(path);
+      }
+    }
+  }
+
+  private static boolean isPathOrChild(@NotNull String path, @NotNull String rootPath) {
+    return StringUtils.equals(path, rootPath) || StringUtils.startsWith(path, rootPath + "/");
+  }
+
+  private static @Nullable Key toKey(@NotNull ResourceResolver resourceResolver, @NotNull String pagePath) {
+    String userId = resourceResolver.getUserID();
+    if (userId == null) {
+      // identity of resource resolver is unknown - do not share cache entries
+      return null;
+    }
+    Object subService = resourceResolver.getAttribute(ResourceResolverFactory.SUBSERVICE);
+    return new Key(userId, subService != null ? subService.toString() : null, pagePath);
+  }
+
+  private static final class CacheEntry {
+
+    private final String externalizedUrl;
+    private final Set<String> dependencyPaths;
+
+    CacheEntry(@NotNull String externalizedUrl, @NotNull Set<String> dependencyPaths) {
+      this.externalizedUrl = externalizedUrl;
+      this.dependencyPaths = dependencyPaths;
+    }
+
+  }
+
+  private static final class Key {
+
+    private final String userId;
+    private final String subService;
+    private final String pagePath;
+
+    Key(@NotNull String userId, @Nullable String subService, @NotNull String pagePath) {
+      this.userId = userId;
+      this.subService = subService;
+      this.pagePath = pagePath;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, subService, pagePath);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key)obj;
+      return userId.equals(other.userId) && Objects.equals(subService, other.subService) && pagePath.equals(other.pagePath);
+    }
+
+  }
+
+}
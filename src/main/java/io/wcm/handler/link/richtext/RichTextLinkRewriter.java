@@ -0,0 +1,494 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.richtext;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sling.api.SlingHttpServletRequest;
+import org.apache.sling.api.adapter.Adaptable;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.models.annotations.Model;
+import org.apache.sling.models.annotations.injectorspecific.Self;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.annotation.versioning.ProviderType;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.SyntheticLinkResource;
+import io.wcm.handler.link.spi.LinkHandlerConfig;
+import io.wcm.handler.link.spi.LinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+
+/**
+ * Rewrites the <code>href</code> attributes of anchors in rich text markup using the link handler.
+ *
+ * <p>
+ * The markup is tokenized in a single pass without building a DOM, and the rewritten markup is written
+ * directly to the given writer. All other markup is passed through unchanged.
+ * </p>
+ *
+ * <p>
+ * Only hrefs accepted by a link type with rich text plugin ({@link LinkType#hasRichTextPlugin()}) are resolved,
+ * each distinct href only once per text block and always with the link type that accepted it. Valid links get the
+ * resolved URL as href, anchors with an invalid link are removed keeping their content. Anchors with an invalid link
+ * whose href is not a plain path - e.g. it contains an extension, selectors, a query or a fragment - are left
+ * unchanged, as they may point to a valid target the link type cannot resolve.
+ * </p>
+ *
+ * <p>
+ * Adapt from {@link SlingHttpServletRequest} or {@link Resource} to get a context-specific instance.
+ * </p>
+ */
+@Model(adaptables = { SlingHttpServletRequest.class, Resource.class })
+@ProviderType
+public final class RichTextLinkRewriter {
+
+  @Self
+  private Adaptable adaptable;
+  @Self
+  private LinkHandler linkHandler;
+  @Self
+  private LinkHandlerConfig linkHandlerConfig;
+
+  private final List<LinkType> richTextLinkTypes = new ArrayList<>();
+  private ResourceResolver resourceResolver;
+  private String contextPath;
+
+  @PostConstruct
+  private void activate() {
+    Resource contextResource;
+    if (adaptable instanceof SlingHttpServletRequest) {
+      SlingHttpServletRequest request = (SlingHttpServletRequest)adaptable;
+      resourceResolver = request.getResourceResolver();
+      contextResource = request.getResource();
+    }
+    else {
+      contextResource = (Resource)adaptable;
+      resourceResolver = contextResource.getResourceResolver();
+    }
+    contextPath = contextResource != null ? contextResource.getPath() : "/";
+
+    List<Class<? extends LinkType>> linkTypes = linkHandlerConfig.getLinkTypes();
+    if (linkTypes != null) {
+      for (Class<? extends LinkType> linkTypeClass : linkTypes) {
+        LinkType linkType = AdaptTo.notNull(adaptable, linkTypeClass);
+        if (linkType.hasRichTextPlugin()) {
+          richTextLinkTypes.add(linkType);
+        }
+      }
+    }
+  }
+
+  /**
+   * Rewrites the links in the given rich text markup.
+   * @param html Rich text markup
+   * @return Rewritten markup or null if the given markup is null
+   */
+  public @Nullable String rewrite(@Nullable String html) {
+    if (html == null) {
+      return null;
+    }
+    StringWriter writer = new StringWriter(html.length());
+    try {
+      rewrite(html, writer);
+    }
+    catch (IOException ex) {
+      // cannot happen with string writer
+      throw new UncheckedIOException(ex);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Rewrites the links in the given rich text markup and writes the result to the given writer.
+   * @param html Rich text markup
+   * @param writer Writer for the rewritten markup
+   * @throws IOException I/O exception from writer
+   */
+  @SuppressWarnings({ "null", "java:S3776" })
+  public void rewrite(@Nullable CharSequence html, @NotNull Writer writer) throws IOException {
+    if (html == null) {
+      return;
+    }
+    Map<String, Optional<Link>> resolvedLinks = new HashMap<>();
+    int length = html.length();
+    // start of markup not written yet
+    int pending = 0;
+    boolean removeAnchorEndTag = false;
+    int index = 0;
+    while (index < length) {
+      int tagStart = indexOf(html, "<", index);
+      if (tagStart < 0) {
+        break;
+      }
+
+      // comment
+      if (startsWith(html, tagStart, "<!--")) {
+        int commentEnd = indexOf(html, "-->", tagStart + 4);
+        index = commentEnd < 0 ? length : commentEnd + 3;
+        continue;
+      }
+
+      // tag name
+      boolean endTag = tagStart + 1 < length && html.charAt(tagStart + 1) == '/';
+      int nameStart = endTag ? tagStart + 2 : tagStart + 1;
+      int nameEnd = nameStart;
+      while (nameEnd < length && isTagNameChar(html.charAt(nameEnd))) {
+        nameEnd++;
+      }
+      if (nameEnd == nameStart) {
+        // no tag, e.g. a "<" in text
+        index = tagStart + 1;
+        continue;
+      }
+      int tagEnd = getTagEnd(html, nameEnd);
+      String tagName = html.subSequence(nameStart, nameEnd).toString();
+
+      if (StringUtils.equalsIgnoreCase(tagName, "a")) {
+        if (endTag) {
+          if (removeAnchorEndTag) {
+            writer.append(html, pending, tagStart);
+            pending = tagEnd;
+            removeAnchorEndTag = false;
+          }
+        }
+        else {
+          removeAnchorEndTag = false;
+          Attribute href = getHrefAttribute(html, nameEnd, tagEnd);
+          Link link = href != null ? resolveLink(href.getValue(), resolvedLinks) : null;
+          if (link != null && (link.isValid() || isPlainPath(href.getValue()))) {
+            if (link.isValid()) {
+              writer.append(html, pending, href.getStart());
+              writer.append(html, href.getStart(), href.getNameEnd());
+              writer.append("=\"").append(escapeAttributeValue(StringUtils.defaultString(link.getUrl()))).append('"');
+              pending = href.getEnd();
+            }
+            else {
+              writer.append(html, pending, tagStart);
+              pending = tagEnd;
+              removeAnchorEndTag = true;
+            }
+          }
+        }
+      }
+      else if (!endTag && isRawTextElement(tagName)) {
+        // skip content of script and style elements
+        int rawTextEnd = indexOfIgnoreCase(html, "</" + tagName, tagEnd);
+        index = rawTextEnd < 0 ? length : rawTextEnd;
+        continue;
+      }
+      index = tagEnd;
+    }
+    writer.append(html, pending, length);
+  }
+
+  /**
+   * Resolves the link for the given href. Each distinct href is resolved only once.
+   * @return Link or null if no link type with rich text plugin accepts the href
+   */
+  private @Nullable Link resolveLink(@NotNull String href, @NotNull Map<String, Optional<Link>> resolvedLinks) {
+    if (StringUtils.isBlank(href)) {
+      return null;
+    }
+    return resolvedLinks.computeIfAbsent(href, key -> {
+      for (LinkType linkType : richTextLinkTypes) {
+        if (linkType.accepts(key)) {
+          return Optional.ofNullable(resolveLink(key, linkType));
+        }
+      }
+      return Optional.empty();
+    }).orElse(null);
+  }
+
+  /**
+   * Resolves the href with the given link type, bypassing auto-detection over all configured link types.
+   * @return Link or null if the link type has no primary link reference property
+   */
+  private @Nullable Link resolveLink(@NotNull String href, @NotNull LinkType linkType) {
+    String primaryLinkRefProperty = linkType.getPrimaryLinkRefProperty();
+    if (primaryLinkRefProperty == null) {
+      return null;
+    }
+    Map<String, Object> props = new HashMap<>();
+    props.put(LinkNameConstants.PN_LINK_TYPE, linkType.getId());
+    props.put(primaryLinkRefProperty, href);
+    return linkHandler.get(new SyntheticLinkResource(resourceResolver, contextPath, props)).build();
+  }
+
+  /**
+   * @return true if the href is a plain path without extension, selectors, query or fragment
+   */
+  private static boolean isPlainPath(@NotNull String href) {
+    return StringUtils.containsNone(href, '#', '?')
+        && !StringUtils.contains(StringUtils.substringAfterLast(href, "/"), '.');
+  }
+
+  /**
+   * Parses the attributes of a start tag and returns the href attribute.
+   * @param html Markup
+   * @param start Index after the tag name
+   * @param tagEnd Index after the end of the tag
+   * @return Href attribute or null
+   */
+  private static @Nullable Attribute getHrefAttribute(@NotNull CharSequence html, int start, int tagEnd) {
+    int limit = tagEnd > start && html.charAt(tagEnd - 1) == '>' ? tagEnd - 1 : tagEnd;
+    int index = start;
+    while (index < limit) {
+      char c = html.charAt(index);
+      if (isWhitespace(c) || c == '/') {
+        index++;
+        continue;
+      }
+
+      // attribute name
+      int nameStart = index;
+      while (index < limit && !isWhitespace(html.charAt(index)) && html.charAt(index) != '=' && html.charAt(index) != '/') {
+        index++;
+      }
+      int nameEnd = index;
+      if (nameEnd == nameStart) {
+        // skip malformed markup
+        index++;
+        continue;
+      }
+      index = skipWhitespace(html, index, limit);
+      if (index >= limit || html.charAt(index) != '=') {
+        // attribute without value
+        continue;
+      }
+
+      // attribute value
+      index = skipWhitespace(html, index + 1, limit);
+      int valueStart;
+      int valueEnd;
+      if (index < limit && (html.charAt(index) == '"' || html.charAt(index) == '\'')) {
+        char quote = html.charAt(index);
+        valueStart = index + 1;
+        valueEnd = valueStart;
+        while (valueEnd < limit && html.charAt(valueEnd) != quote) {
+          valueEnd++;
+        }
+        index = Math.min(valueEnd + 1, limit);
+      }
+      else {
+        valueStart = index;
+        while (index < limit && !isWhitespace(html.charAt(index))) {
+          index++;
+        }
+        valueEnd = index;
+      }
+
+      if (nameEnd - nameStart == 4 && StringUtils.equalsIgnoreCase(html.subSequence(nameStart, nameEnd), "href")) {
+        return new Attribute(nameStart, nameEnd, index,
+            unescapeAttributeValue(html.subSequence(valueStart, valueEnd).toString()));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return Index after the closing "&gt;" of the tag (respecting quoted attribute values), or markup length
+   */
+  private static int getTagEnd(@NotNull CharSequence html, int start) {
+    char quote = 0;
+    for (int i = start; i < html.length(); i++) {
+      char c = html.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        }
+      }
+      else if (c == '"' || c == '\'') {
+        quote = c;
+      }
+      else if (c == '>') {
+        return i + 1;
+      }
+    }
+    return html.length();
+  }
+
+  private static int skipWhitespace(@NotNull CharSequence html, int start, int limit) {
+    int index = start;
+    while (index < limit && isWhitespace(html.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+  }
+
+  private static boolean isTagNameChar(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == ':';
+  }
+
+  private static boolean isRawTextElement(@NotNull String tagName) {
+    return StringUtils.equalsIgnoreCase(tagName, "script") || StringUtils.equalsIgnoreCase(tagName, "style");
+  }
+
+  private static boolean startsWith(@NotNull CharSequence html, int start, @NotNull String prefix) {
+    return start + prefix.length() <= html.length()
+        && StringUtils.equals(html.subSequence(start, start + prefix.length()), prefix);
+  }
+
+  private static int indexOf(@NotNull CharSequence html, @NotNull String searchString, int start) {
+    return StringUtils.indexOf(html, searchString, start);
+  }
+
+  private static int indexOfIgnoreCase(@NotNull CharSequence html, @NotNull String searchString, int start) {
+    return StringUtils.indexOfIgnoreCase(html, searchString, start);
+  }
+
+  /**
+   * Decodes the character references that may occur in URLs in attribute values.
+   */
+  static @NotNull String unescapeAttributeValue(@NotNull String value) {
+    if (value.indexOf('&') < 0) {
+      return value;
+    }
+    StringBuilder result = new StringBuilder(value.length());
+    int index = 0;
+    while (index < value.length()) {
+      char c = value.charAt(index);
+      int referenceEnd = c == '&' ? value.indexOf(';', index) : -1;
+      if (referenceEnd > index + 1) {
+        String reference = value.substring(index + 1, referenceEnd);
+        int decoded = decodeCharacterReference(reference);
+        if (decoded >= 0 && Character.isValidCodePoint(decoded)) {
+          result.appendCodePoint(decoded);
+          index = referenceEnd + 1;
+          continue;
+        }
+      }
+      result.append(c);
+      index++;
+    }
+    return result.toString();
+  }
+
+  private static int decodeCharacterReference(@NotNull String reference) {
+    switch (reference) {
+      case "amp":
+        return '&';
+      case "quot":
+        return '"';
+      case "apos":
+        return '\'';
+      case "lt":
+        return '<';
+      case "gt":
+        return '>';
+      default:
+        break;
+    }
+    try {
+      if (reference.startsWith("#x") || reference.startsWith("#X")) {
+        return Integer.parseInt(reference.substring(2), 16);
+      }
+      if (reference.startsWith("#")) {
+        return Integer.parseInt(reference.substring(1));
+      }
+    }
+    catch (NumberFormatException ex) {
+      // no valid character reference
+    }
+    return -1;
+  }
+
+  /**
+   * Encodes a value for a double-quoted attribute.
+   */
+  static @NotNull String escapeAttributeValue(@NotNull String value) {
+    StringBuilder result = new StringBuilder(value.length() + 16);
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '&':
+          result.append("&amp;");
+          break;
+        case '"':
+          result.append("&quot;");
+          break;
+        case '<':
+          result.append("&lt;");
+          break;
+        case '>':
+          result.append("&gt;");
+          break;
+        default:
+          result.append(c);
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * Position of an attribute in the markup with its decoded value.
+   */
+  private static final class Attribute {
+
+    private final int start;
+    private final int nameEnd;
+    private final int end;
+    private final String value;
+
+    Attribute(int start, int nameEnd, int end, @NotNull String value) {
+      this.start = start;
+      this.nameEnd = nameEnd;
+      this.end = end;
+      this.value = value;
+    }
+
+    int getStart() {
+      return this.start;
+    }
+
+    int getNameEnd() {
+      return this.nameEnd;
+    }
+
+    int getEnd() {
+      return this.end;
+    }
+
+    @NotNull
+    String getValue() {
+      return this.value;
+    }
+
+  }
+
+}
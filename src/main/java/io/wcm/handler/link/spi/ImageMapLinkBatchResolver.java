@@ -0,0 +1,109 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.sling.api.resource.Resource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.osgi.annotation.versioning.ConsumerType;
+
+import io.wcm.handler.media.spi.ImageMapLinkResolver;
+
+/**
+ * Extends the {@link ImageMapLinkResolver} SPI of the wcm.io Media Handler with resolving the links of all areas of
+ * an image map at once. Callers holding all areas of an image map can use this interface to avoid per-area setup
+ * costs, e.g. adapting the link handler for each area.
+ * @param <T> Link class
+ */
+@ConsumerType
+public interface ImageMapLinkBatchResolver<T> extends ImageMapLinkResolver<T> {
+
+  /**
+   * Resolves the links of all areas of an image map.
+   * The default implementation calls {@link #resolveLink(String, String, Resource)} for each area.
+   * @param areas Link URL and window target of each image map area
+   * @param context Context resource
+   * @return Resolved links in the same order and of the same size as the given areas. Each area gets its own link
+   *         instance. An entry is null if the link of the area could not be resolved.
+   */
+  default @NotNull List<@Nullable T> resolveLinks(@NotNull List<Area> areas, @NotNull Resource context) {
+    List<T> result = new ArrayList<>(areas.size());
+    for (Area area : areas) {
+      result.add(resolveLink(area.getLinkUrl(), area.getLinkWindowTarget(), context));
+    }
+    return result;
+  }
+
+  /**
+   * Link URL and window target of an image map area.
+   */
+  final class Area {
+
+    private final String linkUrl;
+    private final String linkWindowTarget;
+
+    /**
+     * @param linkUrl Link URL
+     * @param linkWindowTarget Link window target
+     */
+    public Area(@NotNull String linkUrl, @Nullable String linkWindowTarget) {
+      this.linkUrl = linkUrl;
+      this.linkWindowTarget = linkWindowTarget;
+    }
+
+    /**
+     * @return Link URL
+     */
+    public @NotNull String getLinkUrl() {
+      return this.linkUrl;
+    }
+
+    /**
+     * @return Link window target
+     */
+    public @Nullable String getLinkWindowTarget() {
+      return this.linkWindowTarget;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(linkUrl, linkWindowTarget);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Area)) {
+        return false;
+      }
+      Area other = (Area)obj;
+      return Objects.equals(linkUrl, other.linkUrl)
+          && Objects.equals(linkWindowTarget, other.linkWindowTarget);
+    }
+
+  }
+
+}
@@ -133,6 +133,18 @@ public abstract class LinkHandlerConfig implements ContextAwareService {
         || StringUtils.isNotBlank(page.getProperties().get(PN_REDIRECT_TARGET, String.class));
   }
 
+  /**
+   * Enables a cache for resolved links that is attached to the current request. If the same link resource,
+   * page or reference is resolved multiple times with the same link arguments within one request, the link
+   * is resolved only once and a copy of the resolved {@link io.wcm.handler.link.Link} is returned for all further
+   * calls.
+   * This applies only to link handlers adapted from a request.
+   * @return true if request-scoped caching of resolved links is enabled. Default is false.
+   */
+  public boolean isRequestCacheEnabled() {
+    return false;
+  }
+
   /**
    * Get root path for picking links using path field widgets.
    * @param page Context page
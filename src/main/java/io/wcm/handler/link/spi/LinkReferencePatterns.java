@@ -0,0 +1,66 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.spi;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the link references a {@link LinkType} accepts in {@link LinkType#accepts(String)}.
+ *
+ * <p>
+ * If a link type class is annotated with this annotation, the link handler detects link references given as string
+ * without instantiating and calling each link type: All declared patterns of all link types are compiled into a
+ * single classifier. The annotation is not inherited - subclasses overriding {@link LinkType#accepts(String)} are
+ * always called directly unless they are annotated themselves.
+ * </p>
+ *
+ * <p>
+ * The declared patterns have to be equivalent to the implementation of {@link LinkType#accepts(String)}: A link
+ * reference is accepted if it starts with one of the {@link #prefixes()} and none of the {@link #excludedPrefixes()},
+ * or if {@link #externalReferences()} is set and it is an external reference.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface LinkReferencePatterns {
+
+  /**
+   * @return Prefixes of accepted link references, e.g. "/content/"
+   */
+  String[] prefixes() default {};
+
+  /**
+   * @return Prefixes of link references that are not accepted even if they match one of the prefixes,
+   *         e.g. "/content/dam/"
+   */
+  String[] excludedPrefixes() default {};
+
+  /**
+   * @return Accept external references: References with URL scheme (e.g. "https://", "mailto:", "tel:"),
+   *         protocol-relative references starting with "//", and anchor references starting with "#".
+   */
+  boolean externalReferences() default false;
+
+}
@@ -45,7 +45,8 @@ import io.wcm.handler.link.LinkRequest;
 public abstract class LinkType {
 
   /**
-   * Get link type ID.
+   * Get link type ID. The ID has to be constant for each link type implementation, the link handler
+   * remembers it per link type class to look up link types by ID.
    * @return Link type ID (is stored as identifier in repository)
    */
   @JsonProperty("linkType")
@@ -36,6 +36,7 @@ import org.osgi.annotation.versioning.ProviderType;
 import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkNameConstants;
 import io.wcm.handler.link.SyntheticLinkResource;
+import io.wcm.handler.link.spi.LinkReferencePatterns;
 import io.wcm.handler.link.spi.LinkType;
 
 /**
@@ -45,6 +46,7 @@ import io.wcm.handler.link.spi.LinkType;
 @Model(adaptables = {
     SlingHttpServletRequest.class, Resource.class
 })
+@LinkReferencePatterns(externalReferences = true)
 @ProviderType
 public final class ExternalLinkType extends LinkType {
 
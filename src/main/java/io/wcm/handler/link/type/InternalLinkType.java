@@ -36,6 +36,7 @@ import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkNameConstants;
 import io.wcm.handler.link.LinkRequest;
 import io.wcm.handler.link.SyntheticLinkResource;
+import io.wcm.handler.link.spi.LinkReferencePatterns;
 import io.wcm.handler.link.spi.LinkType;
 import io.wcm.handler.link.type.helpers.InternalLinkResolver;
 import io.wcm.handler.link.type.helpers.InternalLinkResolverOptions;
@@ -55,6 +56,7 @@ import io.wcm.handler.url.UrlHandler;
 @Model(adaptables = {
     SlingHttpServletRequest.class, Resource.class
 })
+@LinkReferencePatterns(prefixes = "/content/", excludedPrefixes = "/content/dam/")
 @ProviderType
 public final class InternalLinkType extends LinkType {
 
@@ -28,6 +28,8 @@ import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.api.resource.ValueMap;
 import org.apache.sling.models.annotations.Model;
+import org.apache.sling.models.annotations.injectorspecific.InjectionStrategy;
+import org.apache.sling.models.annotations.injectorspecific.OSGiService;
 import org.apache.sling.models.annotations.injectorspecific.Self;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +39,8 @@ import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkNameConstants;
 import io.wcm.handler.link.LinkRequest;
 import io.wcm.handler.link.SyntheticLinkResource;
+import io.wcm.handler.link.impl.PathExistenceIndex;
+import io.wcm.handler.link.spi.LinkReferencePatterns;
 import io.wcm.handler.link.spi.LinkType;
 import io.wcm.handler.media.Media;
 import io.wcm.handler.media.MediaArgs;
@@ -50,6 +54,7 @@ import io.wcm.handler.media.MediaHandler;
 @Model(adaptables = {
     SlingHttpServletRequest.class, Resource.class
 })
+@LinkReferencePatterns(prefixes = "/content/dam/")
 @ProviderType
 public final class MediaLinkType extends LinkType {
 
@@ -65,6 +70,8 @@ public final class MediaLinkType extends LinkType {
 
   @Self
   private MediaHandler mediaHandler;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private PathExistenceIndex pathExistenceIndex;
 
   /**
    * @return Link type ID (is stored as identifier in repository)
@@ -111,6 +118,13 @@ public final class MediaLinkType extends LinkType {
         link.getLinkRequest().getReference());
     boolean isDownload = props.get(LinkNameConstants.PN_LINK_MEDIA_DOWNLOAD, false);
 
+    // skip media lookup if the DAM asset does not exist for sure
+    if (pathExistenceIndex != null && isDefaultMediaContentPath(mediaRef) && !pathExistenceIndex.mightExist(mediaRef)) {
+      link.setUrl(null);
+      link.setLinkReferenceInvalid(true);
+      return link;
+    }
+
     MediaArgs mediaArgs = new MediaArgs()
         // only allow linking to "download" media formats
         .download(true)
@@ -24,6 +24,11 @@ import static io.wcm.handler.link.LinkNameConstants.PN_LINK_FRAGMENT;
 import static io.wcm.handler.link.LinkNameConstants.PN_LINK_QUERY_PARAM;
 import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.sling.api.SlingHttpServletRequest;
 import org.apache.sling.api.resource.Resource;
@@ -46,9 +51,14 @@ import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkArgs;
 import io.wcm.handler.link.LinkHandler;
 import io.wcm.handler.link.LinkRequest;
+import io.wcm.handler.link.LinkResolveContext;
+import io.wcm.handler.link.impl.InternalLinkResolverCache;
+import io.wcm.handler.link.impl.PathExistenceIndex;
+import io.wcm.handler.link.impl.RedirectGraph;
 import io.wcm.handler.link.spi.LinkHandlerConfig;
 import io.wcm.handler.url.UrlHandler;
 import io.wcm.handler.url.spi.UrlHandlerConfig;
+import io.wcm.handler.url.ui.SiteRoot;
 import io.wcm.sling.commons.adapter.AdaptTo;
 import io.wcm.sling.models.annotations.AemObject;
 import io.wcm.wcm.commons.contenttype.FileExtension;
@@ -88,6 +98,17 @@ public final class InternalLinkResolver {
   private WCMMode wcmMode;
   @OSGiService
   private InstanceTypeService instanceTypeService;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private InternalLinkResolverCache cache;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private PathExistenceIndex pathExistenceIndex;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private RedirectGraph redirectGraph;
+  @SlingObject(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private SlingHttpServletRequest request;
+
+  // site root path of current page, detected lazily for redirect graph context
+  private String siteRootPath;
 
   /**
    * Check if a given page is valid and acceptable to link upon.
@@ -144,15 +165,39 @@ public final class InternalLinkResolver {
     }
 
     // if no target page is set get internal path that points to target page
+    String targetPath = null;
+    String rewrittenPath = null;
     if (targetPage == null) {
-      String targetPath = props.get(options.getPrimaryLinkRefProperty(), String.class);
+      targetPath = props.get(options.getPrimaryLinkRefProperty(), String.class);
       if (StringUtils.isEmpty(targetPath)) {
         targetPath = link.getLinkRequest().getReference();
       }
       if (StringUtils.isNotEmpty(targetPath)) {
         referenceSet = true;
       }
-      targetPage = getTargetPage(targetPath, options);
+    }
+
+    // check for cached result
+    InternalLinkResolverCache.Key cacheKey = getCacheKey(link, targetPage, targetPath, options);
+    if (cacheKey != null) {
+      InternalLinkResolverCache.Entry cacheEntry = cache.get(cacheKey);
+      if (cacheEntry != null && applyCacheEntry(cacheEntry, link, targetPage, referenceSet, options)) {
+        return link;
+      }
+    }
+
+    boolean targetPageExists = true;
+    if (targetPage == null) {
+      rewrittenPath = getTargetPagePath(targetPath, options);
+      Page rewrittenPage = null;
+      // skip page lookup if the page does not exist for sure
+      if (rewrittenPath != null && (pathExistenceIndex == null || pathExistenceIndex.mightExist(rewrittenPath))) {
+        rewrittenPage = pageManager.getPage(rewrittenPath);
+      }
+      targetPageExists = (rewrittenPage != null);
+      if (acceptPage(rewrittenPage, options)) {
+        targetPage = rewrittenPage;
+      }
     }
 
     UrlHandlerConfig resolvingUrlHandlerConfig = urlHandlerConfig;
@@ -167,9 +212,7 @@ public final class InternalLinkResolver {
 
     // if target page is a redirect or integrator page recursively resolve link to which the redirect points to
     // (skip this redirection if edit mode is active)
-    if (targetPage != null
-        && (linkHandlerConfig.isRedirect(targetPage) || resolvingUrlHandlerConfig.isIntegrator(targetPage))
-        && wcmMode != WCMMode.EDIT) {
+    if (targetPage != null && isRedirectOrIntegrator(targetPage, resolvingUrlHandlerConfig)) {
       return recursiveResolveLink(targetPage, link);
     }
 
@@ -220,9 +263,129 @@ public final class InternalLinkResolver {
     // set link url
     link.setUrl(linkUrl);
 
+    // put result to cache - skip pages with on/off time and existing pages that were not accepted,
+    // because their validity may change without content changes
+    if (cacheKey != null) {
+      if (targetPage != null && targetPage.getOnTime() == null && targetPage.getOffTime() == null) {
+        cache.put(cacheKey, new InternalLinkResolverCache.Entry(targetPage.getPath(), linkUrl,
+            getDependencyPaths(targetPage.getPath(), targetPath, rewrittenPath)));
+      }
+      else if (targetPage == null && !targetPageExists && rewrittenPath != null) {
+        cache.put(cacheKey, new InternalLinkResolverCache.Entry(null, null,
+            getDependencyPaths(null, targetPath, rewrittenPath)));
+      }
+    }
+
     return link;
   }
 
+  /**
+   * Applies a cached result to the link. The target page is checked again the same way as on a full resolution.
+   * @return false if the cached result could not be applied because the target page is no longer available,
+   *         no longer accepted or has to be resolved as redirect or integrator page
+   */
+  private boolean applyCacheEntry(@NotNull InternalLinkResolverCache.Entry cacheEntry, @NotNull Link link,
+      @Nullable Page requestedTargetPage, boolean referenceSet, @NotNull InternalLinkResolverOptions options) {
+    String cachedTargetPagePath = cacheEntry.getTargetPagePath();
+    if (cachedTargetPagePath != null) {
+      Page targetPage = requestedTargetPage;
+      if (targetPage == null) {
+        targetPage = pageManager.getPage(cachedTargetPagePath);
+        if (!acceptPage(targetPage, options)) {
+          return false;
+        }
+      }
+      if (isRedirectOrIntegrator(targetPage, options)) {
+        return false;
+      }
+      link.setTargetPage(targetPage);
+    }
+    String linkUrl = cacheEntry.getUrl();
+    if (linkUrl == null && referenceSet) {
+      link.setLinkReferenceInvalid(true);
+    }
+    link.setUrl(linkUrl);
+    return true;
+  }
+
+  /**
+   * Checks if the target page has to be resolved as redirect or integrator page (not in edit mode).
+   * @param targetPage Target page
+   * @param options Options
+   * @return true if the page is a redirect or integrator page
+   */
+  private boolean isRedirectOrIntegrator(@NotNull Page targetPage, @NotNull InternalLinkResolverOptions options) {
+    UrlHandlerConfig resolvingUrlHandlerConfig = urlHandlerConfig;
+    if (useTargetContext(options)) {
+      resolvingUrlHandlerConfig = AdaptTo.notNull(targetPage.getContentResource(), UrlHandlerConfig.class);
+    }
+    return isRedirectOrIntegrator(targetPage, resolvingUrlHandlerConfig);
+  }
+
+  private boolean isRedirectOrIntegrator(@NotNull Page targetPage, @NotNull UrlHandlerConfig resolvingUrlHandlerConfig) {
+    return (linkHandlerConfig.isRedirect(targetPage) || resolvingUrlHandlerConfig.isIntegrator(targetPage))
+        && wcmMode != WCMMode.EDIT;
+  }
+
+  /**
+   * Builds cache key from all parameters influencing the link resolution result.
+   * The current page is part of the key, because link handler configuration and URL building may depend on it.
+   * @return Cache key or null if caching is not active or not possible for this link
+   */
+  private @Nullable InternalLinkResolverCache.Key getCacheKey(@NotNull Link link, @Nullable Page targetPage,
+      @Nullable String targetPath, @NotNull InternalLinkResolverOptions options) {
+    if (cache == null || currentPage == null || (targetPage == null && StringUtils.isEmpty(targetPath))) {
+      return null;
+    }
+    LinkArgs linkArgs = link.getLinkRequest().getLinkArgs();
+    ValueMap props = link.getLinkRequest().getResourceProperties();
+    return new InternalLinkResolverCache.Key(
+        targetPage != null ? targetPage.getPath() : targetPath,
+        targetPage != null,
+        currentPage.getPath(),
+        resourceResolver.getUserID(),
+        instanceTypeService.isPublish(),
+        wcmMode,
+        request != null && request.isSecure(),
+        request != null ? request.getServerName() : null,
+        request != null ? request.getServerPort() : 0,
+        options.isRewritePathToContext(),
+        useTargetContext(options),
+        linkArgs.getSelectors(),
+        linkArgs.getExtension(),
+        linkArgs.getSuffix(),
+        linkArgs.getQueryString(),
+        linkArgs.getFragment(),
+        linkArgs.getUrlMode(),
+        linkArgs.getVanityMode(),
+        linkArgs.isDisableSuffixSelector(),
+        props.get(PN_LINK_QUERY_PARAM, String.class),
+        props.get(PN_LINK_FRAGMENT, String.class));
+  }
+
+  /**
+   * @return Site root path of current page or empty string
+   */
+  private @NotNull String getSiteRootPath() {
+    if (siteRootPath == null) {
+      if (currentPage != null) {
+        siteRootPath = StringUtils.defaultString(
+            AdaptTo.notNull(currentPage.getContentResource(), SiteRoot.class).getRootPath(currentPage));
+      }
+      else {
+        siteRootPath = "";
+      }
+    }
+    return siteRootPath;
+  }
+
+  private static @NotNull String @NotNull [] getDependencyPaths(@Nullable String... paths) {
+    return Arrays.stream(paths)
+        .filter(StringUtils::isNotEmpty)
+        .distinct()
+        .toArray(String[]::new);
+  }
+
   /**
    * Resolves link of redirect or integrator page. Those pages contain the link reference information in their
    * content resource (jcr:content node). This information is used to resolve the link.
@@ -232,54 +395,137 @@ public final class InternalLinkResolver {
    */
   private Link recursiveResolveLink(Page redirectPage, Link link) {
     LinkRequest linkRequest = link.getLinkRequest();
-    LinkRequest redirectLinkRequest;
 
+    // check for redirect chain resolved before
+    String redirectGraphContext = null;
+    if (redirectGraph != null) {
+      redirectGraphContext = getSiteRootPath() + "|" + StringUtils.defaultString(resourceResolver.getUserID());
+      RedirectGraph.Chain chain = redirectGraph.get(redirectGraphContext, redirectPage.getPath());
+      if (chain != null) {
+        if (chain.isCyclic()) {
+          // endless loop detected before - set link to invalid link
+          link.setUrl(null);
+          return link;
+        }
+        Link resolvedLink = resolveRedirectChain(chain, linkRequest);
+        if (resolvedLink != null) {
+          return resolvedLink;
+        }
+      }
+    }
+
+    // check for visited redirect pages and maximum recursive calls to avoid endless loops,
+    // return invalid link if one is detected
+    LinkResolveContext resolveContext = linkRequest.getResolveContext();
+    if (resolveContext.isVisited(redirectPage.getPath())) {
+      // endless loop detected - set link to invalid link, keep redirect page to make the cycle visible
+      link.setUrl(null);
+      link.addRedirectPage(redirectPage);
+      return link;
+    }
+    LinkResolveContext nestedResolveContext = resolveContext.nested(redirectPage.getPath());
+    if (nestedResolveContext.isMaximumDepthReached() || nestedResolveContext.isDeadlineExceeded()) {
+      link.setUrl(null);
+      return link;
+    }
+
+    // resolve link by recursive call to link handler with nested resolve context
+    Link resolvedLink = linkHandler.get(getRedirectLinkRequest(redirectPage, linkRequest, nestedResolveContext)).build();
+    resolvedLink.addRedirectPage(redirectPage);
+
+    // remember full redirect chain when returning from the outermost redirect page
+    if (redirectGraphContext != null && resolveContext.getDepth() == 0) {
+      putRedirectChain(redirectGraphContext, resolvedLink);
+    }
+    return resolvedLink;
+  }
+
+  /**
+   * Builds link request for the link reference information stored in the redirect page.
+   * @param redirectPage Redirect or integrator page
+   * @param linkRequest Original link request
+   * @param resolveContext Nested resolve context
+   * @return Link request
+   */
+  private static LinkRequest getRedirectLinkRequest(Page redirectPage, LinkRequest linkRequest,
+      LinkResolveContext resolveContext) {
     String linkType = redirectPage.getProperties().get(PN_LINK_TYPE, String.class);
     String cqRedirectTarget = redirectPage.getProperties().get(PN_REDIRECT_TARGET, String.class);
     if (StringUtils.isBlank(linkType) && StringUtils.isNotBlank(cqRedirectTarget)) {
       // detected cq-style cq:redirectTarget property, use it's value as reference
-      redirectLinkRequest = new LinkRequest(
+      return new LinkRequest(
           null,
           null,
           cqRedirectTarget,
-          linkRequest.getLinkArgs());
+          linkRequest.getLinkArgs(),
+          resolveContext);
     }
     else {
       // set link reference to content resource of redirect page, keep other parameters
-      redirectLinkRequest = new LinkRequest(
+      return new LinkRequest(
           redirectPage.getContentResource(),
           null,
-          linkRequest.getLinkArgs());
+          null,
+          linkRequest.getLinkArgs(),
+          resolveContext);
     }
+  }
 
-    // check of maximum recursive calls via threadlocal to avoid endless loops, return invalid link if one is detected
-    LinkResolveCounter linkResolveCounter = LinkResolveCounter.get();
-    try {
-      linkResolveCounter.increaseCount();
-
-      if (linkResolveCounter.isMaximumReached()) {
-        // endless loop detected - set link to invalid link
-        link.setUrl(null);
-        return link;
+  /**
+   * Resolves a redirect chain known from the redirect graph by resolving only the link of the last redirect page.
+   * @param chain Redirect chain
+   * @param linkRequest Original link request
+   * @return Resolved link or null if the redirect pages of the chain are not available
+   */
+  private @Nullable Link resolveRedirectChain(RedirectGraph.Chain chain, LinkRequest linkRequest) {
+    List<Page> redirectPages = new ArrayList<>(chain.getHopPaths().size());
+    LinkResolveContext nestedResolveContext = linkRequest.getResolveContext();
+    for (String hopPath : chain.getHopPaths()) {
+      Page hopPage = pageManager.getPage(hopPath);
+      if (hopPage == null) {
+        return null;
       }
+      redirectPages.add(hopPage);
+      nestedResolveContext = nestedResolveContext.nested(hopPath);
+    }
+    Page lastRedirectPage = redirectPages.get(redirectPages.size() - 1);
 
-      // resolve link by recursive call to link handler, track recursion count
-      Link resolvedLink = linkHandler.get(redirectLinkRequest).build();
-      resolvedLink.addRedirectPage(redirectPage);
-      return resolvedLink;
+    Link resolvedLink = linkHandler.get(getRedirectLinkRequest(lastRedirectPage, linkRequest, nestedResolveContext)).build();
+    for (int i = redirectPages.size() - 1; i >= 0; i--) {
+      resolvedLink.addRedirectPage(redirectPages.get(i));
     }
-    finally {
-      linkResolveCounter.decreaseCount();
+    return resolvedLink;
+  }
+
+  /**
+   * Puts the redirect chain of a resolved link to the redirect graph. Chains with pages with on/off time
+   * are skipped because their validity may change without content changes, chains exceeding the maximum
+   * number of hops are only remembered if they are cyclic.
+   * @param redirectGraphContext Redirect graph context
+   * @param resolvedLink Resolved link
+   */
+  private void putRedirectChain(String redirectGraphContext, Link resolvedLink) {
+    List<Page> redirectPages = resolvedLink.getRedirectPages();
+    List<String> hopPaths = redirectPages.stream()
+        .map(Page::getPath)
+        .collect(Collectors.toList());
+    boolean cyclic = hopPaths.stream().distinct().count() < hopPaths.size();
+    if (!cyclic && hopPaths.size() >= LinkResolveContext.MAX_DEPTH) {
+      return;
+    }
+    if (redirectPages.stream().anyMatch(page -> page.getOnTime() != null || page.getOffTime() != null)) {
+      return;
     }
+    Page targetPage = resolvedLink.getTargetPage();
+    redirectGraph.put(redirectGraphContext, hopPaths, targetPage != null ? targetPage.getPath() : null);
   }
 
   /**
-   * Returns the target page for the given internal content link reference.
-   * Checks validity of page.
+   * Returns the path of the target page for the given internal content link reference.
    * @param targetPath Repository path
-   * @return Target page or null if target reference is invalid.
+   * @return Target page path or null if target reference is invalid.
    */
-  private Page getTargetPage(String targetPath, InternalLinkResolverOptions options) {
+  private @Nullable String getTargetPagePath(@Nullable String targetPath, InternalLinkResolverOptions options) {
 
     if (StringUtils.isEmpty(targetPath)) {
       return null;
@@ -296,15 +542,7 @@ public final class InternalLinkResolver {
     if (StringUtils.isEmpty(rewrittenPath)) {
       return null;
     }
-
-    // Get target page referenced by target path and check for acceptance
-    Page targetPage = pageManager.getPage(rewrittenPath);
-    if (acceptPage(targetPage, options)) {
-      return targetPage;
-    }
-    else {
-      return null;
-    }
+    return rewrittenPath;
   }
 
   /**
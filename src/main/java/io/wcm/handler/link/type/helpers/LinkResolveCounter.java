@@ -21,10 +21,17 @@ package io.wcm.handler.link.type.helpers;
 
 import org.jetbrains.annotations.NotNull;
 
+import io.wcm.handler.link.LinkResolveContext;
+
 /**
  * Counts number of recursive link resolve requests to detect endless loops.
  * Max. 5 hops are allowed in {@link #isMaximumReached()} method.
+ * @deprecated Use {@link io.wcm.handler.link.LinkResolveContext} carried by the
+ *             {@link io.wcm.handler.link.LinkRequest} instead, and pass a nested context to link requests started
+ *             within a link resolution. The link handler no longer uses this thread-bound counter, it is only kept
+ *             for custom link types still using it and applies the same maximum as the resolve context.
  */
+@Deprecated(since = "2.4.0")
 public final class LinkResolveCounter {
 
   private static final ThreadLocal<LinkResolveCounter> THREAD_LOCAL = ThreadLocal.withInitial(LinkResolveCounter::new);
@@ -32,7 +39,7 @@ public final class LinkResolveCounter {
   /**
    * Maximum number of "recursion hops" allowed for link resolving.
    */
-  private static final int MAX_COUNT = 5;
+  private static final int MAX_COUNT = LinkResolveContext.MAX_DEPTH;
 
   private int count;
 
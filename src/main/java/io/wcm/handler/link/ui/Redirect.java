@@ -30,55 +30,93 @@ import org.apache.sling.api.SlingHttpServletResponse;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.models.annotations.Model;
 import org.apache.sling.models.annotations.injectorspecific.InjectionStrategy;
+import org.apache.sling.models.annotations.injectorspecific.OSGiService;
 import org.apache.sling.models.annotations.injectorspecific.Self;
 import org.apache.sling.models.annotations.injectorspecific.SlingObject;
 import org.apache.sling.models.annotations.injectorspecific.ValueMapValue;
 
 import com.day.cq.wcm.api.WCMMode;
 
+import io.wcm.handler.link.Link;
 import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.impl.RedirectTable;
+import io.wcm.sling.commons.adapter.AdaptTo;
 import io.wcm.sling.models.annotations.AemObject;
 
 /**
  * Sets HTTP status and 'location' header for server-side redirect.
+ * If the redirect table is activated via OSGi configuration, known redirects are answered from it without
+ * adapting the link handler and resolving the link again.
  */
 @Model(adaptables = SlingHttpServletRequest.class)
 public class Redirect {
 
+  @Self
+  private SlingHttpServletRequest request;
   @SlingObject
   private Resource resource;
-  @Self
-  private LinkHandler linkHandler;
   @SlingObject
   private SlingHttpServletResponse response;
   @AemObject
   private WCMMode wcmMode;
   @ValueMapValue(injectionStrategy = InjectionStrategy.OPTIONAL)
   private String redirectStatus;
+  @OSGiService(injectionStrategy = InjectionStrategy.OPTIONAL)
+  private RedirectTable redirectTable;
 
   private boolean renderPage = true;
 
   @PostConstruct
   private void activate() throws IOException {
-    // resolve link of redirect page
-    String redirectUrl = linkHandler.get(resource).buildUrl();
-
     // in publish mode redirect to target
     if (wcmMode == WCMMode.DISABLED) {
       renderPage = false;
-      if (StringUtils.isNotEmpty(redirectUrl)) {
-        if (StringUtils.equals(redirectStatus, Integer.toString(HttpServletResponse.SC_MOVED_TEMPORARILY))) {
-          response.sendRedirect(redirectUrl);
-        }
-        else {
-          response.setStatus(HttpServletResponse.SC_MOVED_PERMANENTLY);
-          response.setHeader("Location", redirectUrl);
-        }
+      RedirectTable.Entry redirect = getRedirect();
+      String redirectUrl = redirect.getLocation();
+      if (redirectUrl == null) {
+        response.sendError(redirect.getStatus());
+      }
+      else if (redirect.getStatus() == HttpServletResponse.SC_MOVED_TEMPORARILY) {
+        response.sendRedirect(redirectUrl);
       }
       else {
-        response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        response.setStatus(redirect.getStatus());
+        response.setHeader("Location", redirectUrl);
+      }
+    }
+  }
+
+  /**
+   * Get redirect from redirect table if available, otherwise resolve link of redirect page.
+   * @return Redirect
+   */
+  private RedirectTable.Entry getRedirect() {
+    if (redirectTable != null) {
+      RedirectTable.Entry redirect = redirectTable.get(request);
+      if (redirect != null) {
+        return redirect;
       }
     }
+
+    // resolve link of redirect page
+    LinkHandler linkHandler = AdaptTo.notNull(request, LinkHandler.class);
+    Link link = linkHandler.get(resource).build();
+    String redirectUrl = link.getUrl();
+    RedirectTable.Entry redirect;
+    if (StringUtils.isEmpty(redirectUrl)) {
+      redirect = new RedirectTable.Entry(HttpServletResponse.SC_NOT_FOUND, null);
+    }
+    else if (StringUtils.equals(redirectStatus, Integer.toString(HttpServletResponse.SC_MOVED_TEMPORARILY))) {
+      redirect = new RedirectTable.Entry(HttpServletResponse.SC_MOVED_TEMPORARILY, redirectUrl);
+    }
+    else {
+      redirect = new RedirectTable.Entry(HttpServletResponse.SC_MOVED_PERMANENTLY, redirectUrl);
+    }
+
+    if (redirectTable != null) {
+      redirectTable.put(request, link, redirect);
+    }
+    return redirect;
   }
 
   /**
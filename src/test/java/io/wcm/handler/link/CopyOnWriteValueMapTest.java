@@ -0,0 +1,115 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.sling.api.resource.ValueMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.wcm.sling.commons.resource.ImmutableValueMap;
+
+class CopyOnWriteValueMapTest {
+
+  private ValueMap base;
+  private CopyOnWriteValueMap underTest;
+
+  @BeforeEach
+  void setUp() {
+    base = ImmutableValueMap.of("prop1", "value1", "prop2", 5);
+    underTest = new CopyOnWriteValueMap(base);
+  }
+
+  @Test
+  void testReadThrough() {
+    assertEquals("value1", underTest.get("prop1"));
+    assertEquals("5", underTest.get("prop2", String.class));
+    assertEquals(5, (int)underTest.get("prop2", 0));
+    assertEquals("default", underTest.get("prop3", "default"));
+    assertTrue(underTest.containsKey("prop1"));
+    assertTrue(underTest.equals(base));
+    assertEquals(base.entrySet(), underTest.entrySet());
+  }
+
+  @Test
+  void testPut() {
+    assertEquals("value1", underTest.put("prop1", "newValue1"));
+    assertNull(underTest.put("prop3", 10));
+
+    assertEquals("newValue1", underTest.get("prop1", String.class));
+    assertEquals("10", underTest.get("prop3", String.class));
+    assertEquals(Map.of("prop1", "newValue1", "prop2", 5, "prop3", 10), underTest);
+
+    // underlying map is not changed
+    assertEquals("value1", base.get("prop1"));
+    assertFalse(base.containsKey("prop3"));
+  }
+
+  @Test
+  void testRemove() {
+    assertEquals("value1", underTest.remove("prop1"));
+
+    assertNull(underTest.get("prop1"));
+    assertNull(underTest.get("prop1", String.class));
+    assertEquals("default", underTest.get("prop1", "default"));
+    assertFalse(underTest.containsKey("prop1"));
+    assertEquals(Map.of("prop2", 5), underTest);
+
+    underTest.put("prop1", "newValue1");
+    assertEquals("newValue1", underTest.get("prop1"));
+
+    assertEquals("value1", base.get("prop1"));
+  }
+
+  @Test
+  void testClear() {
+    underTest.clear();
+    assertTrue(underTest.isEmpty());
+    assertNull(underTest.get("prop2", Integer.class));
+
+    underTest.put("prop3", "value3");
+    assertEquals(Map.of("prop3", "value3"), underTest);
+    assertEquals(2, base.size());
+  }
+
+  @Test
+  void testEntrySetModification() {
+    Iterator<Map.Entry<String, Object>> entries = underTest.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<String, Object> entry = entries.next();
+      if (entry.getKey().equals("prop1")) {
+        entries.remove();
+      }
+      else {
+        entry.setValue(6);
+      }
+    }
+    assertEquals(Map.of("prop2", 6), underTest);
+    assertEquals(base, ImmutableValueMap.of("prop1", "value1", "prop2", 5));
+  }
+
+}
@@ -21,14 +21,20 @@ package io.wcm.handler.link;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
 
+import org.apache.sling.api.resource.ValueMap;
 import org.junit.jupiter.api.Test;
 
 import io.wcm.handler.url.UrlModes;
+import io.wcm.handler.url.VanityMode;
 import io.wcm.sling.commons.resource.ImmutableValueMap;
 
 class LinkArgsTest {
@@ -82,6 +88,7 @@ class LinkArgsTest {
 
     LinkArgs linkArgs = new LinkArgs()
         .urlMode(UrlModes.FULL_URL)
+        .vanityMode(VanityMode.ALWAYS)
         .dummyLink(true)
         .dummyLinkUrl("/test/url")
         .selectors("sel1")
@@ -98,6 +105,7 @@ class LinkArgsTest {
     LinkArgs clone = linkArgs.clone();
     assertNotSame(linkArgs, clone);
     assertEquals(linkArgs.getUrlMode(), clone.getUrlMode());
+    assertEquals(linkArgs.getVanityMode(), clone.getVanityMode());
     assertEquals(linkArgs.isDummyLink(), clone.isDummyLink());
     assertEquals(linkArgs.getDummyLinkUrl(), clone.getDummyLinkUrl());
     assertEquals(linkArgs.getSelectors(), clone.getSelectors());
@@ -112,5 +120,98 @@ class LinkArgsTest {
     assertEquals(Map.copyOf(linkArgs.getProperties()), ImmutableValueMap.copyOf(clone.getProperties()));
   }
 
+  @Test
+  void testCloneCopiesProperties() {
+    LinkArgs linkArgs = new LinkArgs().property("prop1", "value1");
+    LinkArgs clone = linkArgs.clone();
+
+    clone.property("prop2", "value2");
+    linkArgs.property("prop3", "value3");
+
+    assertEquals(Map.of("prop1", "value1", "prop3", "value3"), Map.copyOf(linkArgs.getProperties()));
+    assertEquals(Map.of("prop1", "value1", "prop2", "value2"), Map.copyOf(clone.getProperties()));
+  }
+
+  @Test
+  void testClonePropertiesObtainedBefore() {
+    LinkArgs linkArgs = new LinkArgs().property("prop1", "value1");
+    ValueMap properties = linkArgs.getProperties();
+    LinkArgs clone = linkArgs.clone();
+
+    properties.put("prop2", "value2");
+
+    assertEquals(Map.of("prop1", "value1", "prop2", "value2"), Map.copyOf(linkArgs.getProperties()));
+    assertEquals(Map.of("prop1", "value1"), Map.copyOf(clone.getProperties()));
+  }
+
+  @Test
+  void testCloneFallbackPropertyArrays() {
+    String[] urlFallbackProperties = { "property1" };
+    String[] windowTargetFallbackProperties = { "property2" };
+    LinkArgs linkArgs = new LinkArgs()
+        .linkTargetUrlFallbackProperty(urlFallbackProperties)
+        .linkTargetWindowTargetFallbackProperty(windowTargetFallbackProperties);
+    LinkArgs clone = linkArgs.clone();
+
+    linkArgs.getLinkTargetUrlFallbackProperty()[0] = "changed1";
+    linkArgs.getLinkTargetWindowTargetFallbackProperty()[0] = "changed2";
+
+    assertArrayEquals(new String[] { "property1" }, clone.getLinkTargetUrlFallbackProperty());
+    assertArrayEquals(new String[] { "property2" }, clone.getLinkTargetWindowTargetFallbackProperty());
+  }
+
+  @Test
+  void testEqualsHashCode() {
+    LinkArgs linkArgs1 = new LinkArgs().urlMode(UrlModes.FULL_URL).selectors("sel1")
+        .linkTargetUrlFallbackProperty("property1").property("prop1", "value1");
+    LinkArgs linkArgs2 = new LinkArgs().urlMode(UrlModes.FULL_URL).selectors("sel1")
+        .linkTargetUrlFallbackProperty("property1").property("prop1", "value1");
+    LinkArgs linkArgs3 = new LinkArgs().urlMode(UrlModes.FULL_URL).selectors("sel2")
+        .linkTargetUrlFallbackProperty("property1").property("prop1", "value1");
+
+    assertEquals(linkArgs1, linkArgs2);
+    assertEquals(linkArgs1.hashCode(), linkArgs2.hashCode());
+    assertNotEquals(linkArgs1, linkArgs3);
+    assertEquals(linkArgs1, linkArgs1.clone());
+    assertEquals(linkArgs1, linkArgs1.snapshot());
+    assertEquals(linkArgs1.hashCode(), linkArgs1.snapshot().hashCode());
+
+    // no properties and empty properties are equal
+    LinkArgs linkArgs4 = new LinkArgs();
+    LinkArgs linkArgs5 = new LinkArgs();
+    linkArgs5.getProperties();
+    assertEquals(linkArgs4, linkArgs5);
+  }
+
+  @Test
+  void testSnapshot() {
+    LinkArgs linkArgs = new LinkArgs()
+        .urlMode(UrlModes.FULL_URL)
+        .linkTargetUrlFallbackProperty("property1")
+        .property("prop1", "value1");
+    LinkArgs snapshot = linkArgs.snapshot();
+
+    assertSame(snapshot, snapshot.snapshot());
+    assertEquals(UrlModes.FULL_URL, snapshot.getUrlMode());
+    assertEquals("value1", snapshot.getProperties().get("prop1", String.class));
+    assertEquals(linkArgs.toString(), snapshot.toString());
+
+    // snapshot is not affected by changes of the original
+    linkArgs.urlMode(UrlModes.NO_HOSTNAME).property("prop2", "value2");
+    assertEquals(UrlModes.FULL_URL, snapshot.getUrlMode());
+    assertFalse(snapshot.getProperties().containsKey("prop2"));
+
+    // snapshot is immutable
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.urlMode(UrlModes.DEFAULT));
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.property("prop3", "value3"));
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getProperties().put("prop3", "value3"));
+
+    // clone of snapshot is mutable
+    LinkArgs clone = snapshot.clone();
+    clone.urlMode(UrlModes.DEFAULT).property("prop3", "value3");
+    assertEquals(UrlModes.DEFAULT, clone.getUrlMode());
+    assertEquals(Map.of("prop1", "value1", "prop3", "value3"), Map.copyOf(clone.getProperties()));
+    assertEquals(Map.of("prop1", "value1"), Map.copyOf(snapshot.getProperties()));
+  }
 
 }
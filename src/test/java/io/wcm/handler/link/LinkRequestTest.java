@@ -20,6 +20,8 @@
 package io.wcm.handler.link;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -33,4 +35,15 @@ class LinkRequestTest {
     assertEquals("LinkRequest[linkArgs=LinkArgs[disableSuffixSelector=false,dummyLink=false,urlMode=DEFAULT]]", request.toString());
   }
 
+  @Test
+  void testResolveContext() {
+    LinkRequest request = new LinkRequest(null, null, null);
+    assertNotNull(request.getResolveContext());
+    assertEquals(0, request.getResolveContext().getDepth());
+
+    LinkResolveContext nestedContext = request.getResolveContext().nested("/content/page1");
+    LinkRequest nestedRequest = new LinkRequest(null, null, "/content/page2", null, nestedContext);
+    assertSame(nestedContext, nestedRequest.getResolveContext());
+  }
+
 }
@@ -0,0 +1,74 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class LinkResolveContextTest {
+
+  @Test
+  void testNested() {
+    LinkResolveContext context = new LinkResolveContext();
+    assertEquals(0, context.getDepth());
+    assertFalse(context.isVisited("/content/page1"));
+
+    LinkResolveContext nested1 = context.nested("/content/page1");
+    LinkResolveContext nested2 = nested1.nested("/content/page2");
+    assertEquals(2, nested2.getDepth());
+    assertTrue(nested2.isVisited("/content/page1"));
+    assertTrue(nested2.isVisited("/content/page2"));
+    assertEquals(Set.of("/content/page1", "/content/page2"), nested2.getVisitedTargets());
+
+    // outer contexts are not modified
+    assertEquals(0, context.getDepth());
+    assertFalse(nested1.isVisited("/content/page2"));
+
+    // attributes are shared
+    context.getAttributes().put("key1", "value1");
+    assertSame(context.getAttributes(), nested2.getAttributes());
+  }
+
+  @Test
+  void testMaximumDepth() {
+    LinkResolveContext context = new LinkResolveContext();
+    for (int i = 0; i < LinkResolveContext.MAX_DEPTH; i++) {
+      context = context.nested("/content/page" + i);
+      assertFalse(context.isMaximumDepthReached());
+    }
+    context = context.nested("/content/pageX");
+    assertTrue(context.isMaximumDepthReached());
+  }
+
+  @Test
+  void testDeadline() {
+    assertFalse(new LinkResolveContext().isDeadlineExceeded());
+    assertFalse(new LinkResolveContext(Duration.ofMinutes(1)).nested("/content/page1").isDeadlineExceeded());
+    assertTrue(new LinkResolveContext(Duration.ofNanos(-1)).nested("/content/page1").isDeadlineExceeded());
+  }
+
+}
@@ -23,9 +23,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -79,6 +84,44 @@ class LinkTest {
     assertEquals("<a href=\"http://dummy1\" title=\"title1\">", underTest.getMarkup());
   }
 
+  @Test
+  void testAnchorAttributesAndMarkupMemoized() throws IOException {
+    underTest.setUrl("http://dummy1");
+    underTest.setAnchorBuilder(l -> new Anchor(l.getUrl()).setTitle("title1"));
+
+    Map<String, String> attributes = underTest.getAnchorAttributes();
+    String markup = underTest.getMarkup();
+    assertSame(attributes, underTest.getAnchorAttributes());
+    assertSame(markup, underTest.getMarkup());
+    assertThrows(UnsupportedOperationException.class, () -> attributes.put("target", "_blank"));
+
+    StringWriter writer = new StringWriter();
+    underTest.writeMarkup(writer);
+    assertEquals("<a href=\"http://dummy1\" title=\"title1\">", writer.toString());
+
+    // change anchor after building markup
+    underTest.getAnchor().setTitle("title2");
+    assertEquals(Map.of("href", "http://dummy1", "title", "title2"), underTest.getAnchorAttributes());
+    assertEquals("<a href=\"http://dummy1\" title=\"title2\">", underTest.getMarkup());
+  }
+
+  @Test
+  void testWriteMarkupWithoutMemoizedMarkup() throws IOException {
+    underTest.setUrl("http://dummy1?a=1&b=2");
+    underTest.setAnchorBuilder(l -> new Anchor(l.getUrl()).setTitle("title \"1\" <x>"));
+
+    StringWriter writer = new StringWriter();
+    underTest.writeMarkup(writer);
+    assertEquals(underTest.getMarkup(), writer.toString());
+  }
+
+  @Test
+  void testWriteMarkupWithoutAnchor() throws IOException {
+    StringWriter writer = new StringWriter();
+    underTest.writeMarkup(writer);
+    assertEquals("", writer.toString());
+  }
+
   @Test
   void testUrlAndValid() {
     assertFalse(underTest.isValid());
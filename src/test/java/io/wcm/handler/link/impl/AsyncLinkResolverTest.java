@@ -0,0 +1,157 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.testing.mock.sling.MockSling;
+import org.apache.sling.testing.mock.sling.ResourceResolverType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.SyntheticLinkResource;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.ExternalLinkType;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.sling.commons.resource.ImmutableValueMap;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class AsyncLinkResolverTest {
+
+  private static final String SECTION_PATH = "/content/unittest/de_test/brand/de/section";
+
+  // the resource resolver mock does not support cloning
+  private final AemContext context = AppAemContext.newAemContext(ResourceResolverType.JCR_MOCK);
+
+  private ExecutorService executorService;
+  private Executor executor;
+  private Page targetPage;
+
+  @BeforeEach
+  void setUp() {
+    executorService = Executors.newFixedThreadPool(2);
+    // the adapter manager of the mock context is bound to the test thread, bind it to the worker threads as well
+    executor = command -> executorService.execute(() -> {
+      MockSling.setAdapterManagerBundleContext(context.bundleContext());
+      command.run();
+    });
+    context.currentPage(context.create().page(SECTION_PATH + "/page", DummyAppTemplate.CONTENT.getTemplatePath()));
+    targetPage = context.create().page(SECTION_PATH + "/content", DummyAppTemplate.CONTENT.getTemplatePath());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void testBuildAsync() throws Exception {
+    Link syncLink = linkHandler().get(targetPage).build();
+    Link asyncLink = linkHandler().get(targetPage).buildAsync(executor).get();
+
+    assertTrue(asyncLink.isValid());
+    assertEquals(syncLink.getUrl(), asyncLink.getUrl());
+    assertEquals(targetPage.getPath(), asyncLink.getTargetPage().getPath());
+    // target page is read via a cloned resource resolver
+    assertNotSame(context.resourceResolver(), asyncLink.getTargetPage().getContentResource().getResourceResolver());
+  }
+
+  @Test
+  void testGetAllAsync() throws Exception {
+    Resource internalLink = context.create().resource(SECTION_PATH + "/page/jcr:content/link1",
+        LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID,
+        LinkNameConstants.PN_LINK_CONTENT_REF, targetPage.getPath());
+    Resource externalLink = new SyntheticLinkResource(context.resourceResolver(), SECTION_PATH + "/page/jcr:content/link2",
+        ImmutableValueMap.of(LinkNameConstants.PN_LINK_TYPE, ExternalLinkType.ID,
+            LinkNameConstants.PN_LINK_EXTERNAL_REF, "http://xyz/abc"));
+    Resource invalidLink = context.create().resource(SECTION_PATH + "/page/jcr:content/link3",
+        LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID,
+        LinkNameConstants.PN_LINK_CONTENT_REF, SECTION_PATH + "/non-existing");
+
+    List<Link> links = linkHandler().getAllAsync(List.of(internalLink, externalLink, invalidLink), executor).get();
+
+    assertEquals(3, links.size());
+    assertEquals(linkHandler().get(internalLink).buildUrl(), links.get(0).getUrl());
+    assertEquals("http://xyz/abc", links.get(1).getUrl());
+    assertFalse(links.get(2).isValid());
+  }
+
+  @Test
+  void testResourcePropertiesCaptured() throws Exception {
+    Resource linkResource = context.create().resource(SECTION_PATH + "/page/jcr:content/link1",
+        LinkNameConstants.PN_LINK_TYPE, ExternalLinkType.ID,
+        LinkNameConstants.PN_LINK_EXTERNAL_REF, "http://xyz/abc");
+
+    // change not committed yet - only visible in the resource resolver of the caller
+    linkResource.adaptTo(ModifiableValueMap.class).put(LinkNameConstants.PN_LINK_EXTERNAL_REF, "http://xyz/def");
+
+    Link link = linkHandler().get(linkResource).buildAsync(executor).get();
+    assertEquals("http://xyz/def", link.getUrl());
+  }
+
+  @Test
+  void testClose() throws Exception {
+    LinkHandlerImpl linkHandler = (LinkHandlerImpl)linkHandler();
+    Link link1 = linkHandler.get(targetPage).buildAsync(executor).get();
+
+    AsyncLinkResolver underTest = linkHandler.getAsyncLinkResolver(context.resourceResolver());
+    assertEquals(1, underTest.getResourceResolverCount());
+
+    // each resolution gets its own resource resolver, the one of the first link is still open
+    Link link2 = linkHandler.get(targetPage).buildAsync(executor).get();
+    assertEquals(2, underTest.getResourceResolverCount());
+    ResourceResolver resolver1 = link1.getTargetPage().getContentResource().getResourceResolver();
+    ResourceResolver resolver2 = link2.getTargetPage().getContentResource().getResourceResolver();
+    assertNotSame(resolver1, resolver2);
+    assertTrue(resolver1.isLive());
+
+    underTest.close();
+    assertEquals(0, underTest.getResourceResolverCount());
+    assertFalse(resolver1.isLive());
+  }
+
+  private LinkHandler linkHandler() {
+    return AdaptTo.notNull(context.request(), LinkHandler.class);
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void testNoFalseNegatives() {
+    BloomFilter underTest = new BloomFilter(10000, 0.01d);
+    for (int i = 0; i < 10000; i++) {
+      underTest.add("/content/site/page" + i);
+    }
+    for (int i = 0; i < 10000; i++) {
+      assertTrue(underTest.mightContain("/content/site/page" + i));
+    }
+  }
+
+  @Test
+  void testFalsePositiveRate() {
+    BloomFilter underTest = new BloomFilter(10000, 0.01d);
+    for (int i = 0; i < 10000; i++) {
+      underTest.add("/content/site/page" + i);
+    }
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (underTest.mightContain("/content/other/page" + i)) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+  }
+
+  @Test
+  void testEmpty() {
+    BloomFilter underTest = new BloomFilter(100, 0.01d);
+    assertFalse(underTest.mightContain("/content/site/page1"));
+  }
+
+  @Test
+  void testSizing() {
+    BloomFilter underTest = new BloomFilter(1000000, 0.01d);
+    assertEquals(7, underTest.getHashCount());
+    assertEquals(9585088, underTest.getBitCount());
+  }
+
+}
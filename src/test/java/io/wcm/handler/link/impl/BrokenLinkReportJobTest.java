@@ -0,0 +1,207 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.testcontext.AppAemContext.ROOTPATH_CONTENT_OTHER_SITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.wrappers.ResourceResolverWrapper;
+import org.apache.sling.event.jobs.Job;
+import org.apache.sling.event.jobs.consumer.JobConsumer.JobResult;
+import org.apache.sling.testing.mock.sling.MockSling;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.osgi.framework.Constants;
+
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.sling.commons.resource.ImmutableValueMap;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class BrokenLinkReportJobTest {
+
+  private static final String SECTION_PATH = "/content/unittest/de_test/brand/de/section";
+
+  final AemContext context = AppAemContext.newAemContext();
+
+  @Mock
+  private ResourceResolverFactory resourceResolverFactory;
+  @Mock
+  private Job job;
+  @TempDir
+  Path tempDir;
+
+  private BrokenLinkReportJob underTest;
+  private String contentPath;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // the resource resolver mock does not support cloning - use the context resource resolver, which must stay open
+    lenient().when(resourceResolverFactory.getServiceResourceResolver(anyMap()))
+        .thenAnswer(invocation -> {
+          // the adapter manager of the mock context is bound to the test thread, bind it to the worker thread as well
+          MockSling.setAdapterManagerBundleContext(context.bundleContext());
+          return new ResourceResolverWrapper(context.resourceResolver()) {
+            @Override
+            public void close() {
+              // keep context resource resolver open
+            }
+          };
+        });
+    context.registerService(ResourceResolverFactory.class, resourceResolverFactory, Constants.SERVICE_RANKING, 1000);
+
+    Page targetPage = context.create().page(SECTION_PATH + "/target", DummyAppTemplate.CONTENT.getTemplatePath());
+    redirectPage("redirect1", SECTION_PATH + "/redirect2");
+    redirectPage("redirect2", SECTION_PATH + "/redirect1");
+    Page page = context.create().page(SECTION_PATH + "/page", DummyAppTemplate.CONTENT.getTemplatePath());
+    contentPath = page.getContentResource().getPath();
+
+    linkResource("valid", targetPage.getPath());
+    linkResource("broken", SECTION_PATH + "/nonexisting");
+    linkResource("redirect", SECTION_PATH + "/redirect1");
+    context.create().resource(contentPath + "/nolink", "text", "no link");
+    context.resourceResolver().commit();
+
+    underTest = context.registerInjectActivateService(BrokenLinkReportJob.class,
+        "threadCount", 2,
+        "reportDirectory", tempDir.resolve("reports").toString());
+  }
+
+  @Test
+  void testWriteReport() throws Exception {
+    StringWriter writer = new StringWriter();
+    long count = underTest.writeReport(SECTION_PATH, writer);
+    String report = writer.toString();
+
+    assertTrue(report.startsWith("path,linkType,reference,reason\n"));
+    assertTrue(report.contains(contentPath + "/broken,internal," + SECTION_PATH + "/nonexisting,INVALID_REFERENCE\n"));
+    assertTrue(report.contains(contentPath + "/redirect,internal," + SECTION_PATH + "/redirect1,INVALID_REDIRECT\n"));
+    assertFalse(report.contains(contentPath + "/valid,"));
+    assertFalse(report.contains(contentPath + "/nolink,"));
+
+    // lines for the two cyclic redirect pages themselves
+    assertEquals(4, count);
+    assertEquals(count + 1, report.lines().count());
+  }
+
+  @Test
+  void testWriteReport_NonExistingRoot() throws Exception {
+    StringWriter writer = new StringWriter();
+    assertEquals(0, underTest.writeReport("/content/nonexisting", writer));
+    assertEquals("path,linkType,reference,reason\n", writer.toString());
+  }
+
+  @Test
+  void testProcess() throws Exception {
+    Path reportFile = tempDir.resolve("reports").resolve("report.csv");
+    when(job.getProperty(BrokenLinkReportJob.PROPERTY_ROOT_PATH, String.class)).thenReturn(SECTION_PATH);
+    when(job.getProperty(BrokenLinkReportJob.PROPERTY_REPORT_PATH, String.class)).thenReturn("report.csv");
+
+    assertEquals(JobResult.OK, underTest.process(job));
+    String report = Files.readString(reportFile, StandardCharsets.UTF_8);
+    assertTrue(report.contains(contentPath + "/broken,internal," + SECTION_PATH + "/nonexisting,INVALID_REFERENCE\n"));
+  }
+
+  @Test
+  void testProcess_MissingProperties() {
+    assertEquals(JobResult.CANCEL, underTest.process(job));
+  }
+
+  @Test
+  void testProcess_OutsideReportDirectory() {
+    when(job.getProperty(BrokenLinkReportJob.PROPERTY_ROOT_PATH, String.class)).thenReturn(SECTION_PATH);
+    when(job.getProperty(BrokenLinkReportJob.PROPERTY_REPORT_PATH, String.class)).thenReturn(
+        "../report.csv", tempDir.resolve("report.csv").toString(), ".");
+
+    assertEquals(JobResult.CANCEL, underTest.process(job));
+    assertEquals(JobResult.CANCEL, underTest.process(job));
+    assertEquals(JobResult.CANCEL, underTest.process(job));
+    assertFalse(Files.exists(tempDir.resolve("report.csv")));
+  }
+
+  @Test
+  void testProcess_NoReportDirectory() {
+    BrokenLinkReportJob job2 = context.registerInjectActivateService(BrokenLinkReportJob.class);
+    when(job.getProperty(BrokenLinkReportJob.PROPERTY_ROOT_PATH, String.class)).thenReturn(SECTION_PATH);
+    when(job.getProperty(BrokenLinkReportJob.PROPERTY_REPORT_PATH, String.class)).thenReturn("report.csv");
+
+    assertEquals(JobResult.CANCEL, job2.process(job));
+  }
+
+  @Test
+  void testWriteReport_LinkHandlerPerPage() throws Exception {
+    // link to a page of another site is resolved in the context of the page containing the link
+    Page otherSitePage = context.create().page(ROOTPATH_CONTENT_OTHER_SITE + "/page",
+        DummyAppTemplate.CONTENT.getTemplatePath());
+    context.create().resource(otherSitePage.getContentResource().getPath() + "/broken", ImmutableValueMap.builder()
+        .put(LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID)
+        .put(LinkNameConstants.PN_LINK_CONTENT_REF, ROOTPATH_CONTENT_OTHER_SITE + "/nonexisting")
+        .build());
+    context.resourceResolver().commit();
+
+    StringWriter writer = new StringWriter();
+    underTest.writeReport("/content/unittest", writer);
+    String report = writer.toString();
+
+    assertTrue(report.contains(contentPath + "/broken,internal," + SECTION_PATH + "/nonexisting,INVALID_REFERENCE\n"));
+    assertTrue(report.contains(otherSitePage.getContentResource().getPath()
+        + "/broken,internal," + ROOTPATH_CONTENT_OTHER_SITE + "/nonexisting,INVALID_REFERENCE\n"));
+    assertFalse(report.contains(contentPath + "/valid,"));
+  }
+
+  private void redirectPage(String name, String targetPath) {
+    context.create().page(SECTION_PATH + "/" + name,
+        DummyAppTemplate.REDIRECT.getTemplatePath(), ImmutableValueMap.builder()
+            .put(LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID)
+            .put(LinkNameConstants.PN_LINK_CONTENT_REF, targetPath)
+            .build());
+  }
+
+  private void linkResource(String name, String targetPath) {
+    context.create().resource(contentPath + "/" + name, ImmutableValueMap.builder()
+        .put(LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID)
+        .put(LinkNameConstants.PN_LINK_CONTENT_REF, targetPath)
+        .build());
+  }
+
+}
@@ -22,11 +22,16 @@ package io.wcm.handler.link.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.sling.api.resource.Resource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,8 +39,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import com.day.cq.wcm.api.Page;
 
 import io.wcm.handler.link.Link;
+import io.wcm.handler.link.spi.ImageMapLinkBatchResolver.Area;
 import io.wcm.handler.link.testcontext.AppAemContext;
-import io.wcm.handler.media.spi.ImageMapLinkResolver;
 import io.wcm.testing.mock.aem.junit5.AemContext;
 import io.wcm.testing.mock.aem.junit5.AemContextExtension;
 
@@ -44,7 +49,7 @@ class ImageMapLinkResolverImplTest {
 
   final AemContext context = AppAemContext.newAemContext();
 
-  private ImageMapLinkResolver<Link> underTest;
+  private ImageMapLinkResolverImpl underTest;
   private Page page;
 
   @BeforeEach
@@ -69,6 +74,44 @@ class ImageMapLinkResolverImplTest {
     assertInvalid(underTest.resolveLink("/content/site1/en/invalid", "_blank", page.getContentResource()));
   }
 
+  @Test
+  void testResolveLinks() {
+    List<Link> links = underTest.resolveLinks(List.of(
+        new Area("http://host", null),
+        new Area("/content/site1/en", "_blank"),
+        new Area("http://host", null),
+        new Area("http://host", "_blank"),
+        new Area("/content/site1/en/invalid", null)), page.getContentResource());
+
+    assertEquals(5, links.size());
+    assertValid(links.get(0), "http://host");
+    assertValid(links.get(1), "/content/site1/en.html", "_blank");
+    assertValid(links.get(2), "http://host");
+    assertValid(links.get(3), "http://host", "_blank");
+    assertInvalid(links.get(4));
+
+    // identical areas are resolved once, but each area gets its own link instance
+    assertNotSame(links.get(0), links.get(2));
+    assertNotSame(links.get(0).getAnchor(), links.get(2).getAnchor());
+  }
+
+  @Test
+  void testResolveLinks_NoLinkHandler() {
+    Resource resource = mock(Resource.class);
+    List<Link> links = underTest.resolveLinks(List.of(
+        new Area("http://host", null),
+        new Area("/content/site1/en", "_blank")), resource);
+
+    assertEquals(2, links.size());
+    assertNull(links.get(0));
+    assertNull(links.get(1));
+  }
+
+  @Test
+  void testResolveLinks_Empty() {
+    assertTrue(underTest.resolveLinks(List.of(), page.getContentResource()).isEmpty());
+  }
+
   private void assertValid(Link link, String expectedUrl) {
     assertValid(link, expectedUrl, null);
   }
@@ -0,0 +1,170 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.PersistenceException;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.day.cq.wcm.api.NameConstants;
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class InternalLinkResolverCacheTest {
+
+  private static final String SECTION_PATH = "/content/unittest/de_test/brand/de/section";
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private InternalLinkResolverCache underTest;
+  private Page targetPage;
+
+  @BeforeEach
+  void setUp() {
+    underTest = context.registerInjectActivateService(InternalLinkResolverCache.class, "maxSize", 2);
+    context.currentPage(context.create().page(SECTION_PATH + "/page", DummyAppTemplate.CONTENT.getTemplatePath()));
+    targetPage = context.create().page(SECTION_PATH + "/content", DummyAppTemplate.CONTENT.getTemplatePath());
+  }
+
+  @Test
+  void testCachedLink() {
+    Link link1 = linkHandler().get(targetPage.getPath()).build();
+    assertEquals(1, underTest.size());
+
+    Link link2 = linkHandler().get(targetPage.getPath()).build();
+    assertEquals(1, underTest.size());
+
+    assertTrue(link2.isValid());
+    assertEquals(link1.getUrl(), link2.getUrl());
+    assertEquals(targetPage.getPath(), link2.getTargetPage().getPath());
+  }
+
+  @Test
+  void testCachedInvalidLink() {
+    String nonExistingPath = SECTION_PATH + "/non-existing";
+
+    Link link1 = linkHandler().get(nonExistingPath).build();
+    assertFalse(link1.isValid());
+    assertEquals(1, underTest.size());
+
+    // page is created
+    context.create().page(nonExistingPath, DummyAppTemplate.CONTENT.getTemplatePath());
+    underTest.onChange(List.of(new ResourceChange(ChangeType.ADDED, nonExistingPath, false)));
+    assertEquals(0, underTest.size());
+
+    Link link2 = linkHandler().get(nonExistingPath).build();
+    assertTrue(link2.isValid());
+  }
+
+  @Test
+  void testCacheKeyServerPortAndCurrentPage() {
+    linkHandler().get(targetPage.getPath()).build();
+    assertEquals(1, underTest.size());
+
+    context.request().setServerPort(8080);
+    linkHandler().get(targetPage.getPath()).build();
+    assertEquals(2, underTest.size());
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, targetPage.getPath(), false)));
+    context.currentPage(context.create().page(SECTION_PATH + "/page2", DummyAppTemplate.CONTENT.getTemplatePath()));
+    linkHandler().get(targetPage.getPath()).build();
+    context.currentPage(SECTION_PATH + "/page");
+    linkHandler().get(targetPage.getPath()).build();
+    assertEquals(2, underTest.size());
+  }
+
+  @Test
+  void testCachedTargetPageBecomesRedirect() throws PersistenceException {
+    Page otherPage = context.create().page(SECTION_PATH + "/other", DummyAppTemplate.CONTENT.getTemplatePath());
+    Link link1 = linkHandler().get(targetPage.getPath()).build();
+    assertEquals(targetPage.getPath(), link1.getTargetPage().getPath());
+
+    // turn target page into redirect page without notifying the cache
+    ModifiableValueMap props = targetPage.getContentResource().adaptTo(ModifiableValueMap.class);
+    props.put(NameConstants.PN_TEMPLATE, DummyAppTemplate.REDIRECT.getTemplatePath());
+    props.put(PN_LINK_TYPE, InternalLinkType.ID);
+    props.put(PN_LINK_CONTENT_REF, otherPage.getPath());
+    context.resourceResolver().commit();
+
+    Link link2 = linkHandler().get(targetPage.getPath()).build();
+    assertTrue(link2.isValid());
+    assertEquals(otherPage.getPath(), link2.getTargetPage().getPath());
+  }
+
+  @Test
+  void testInvalidation() {
+    linkHandler().get(targetPage.getPath()).build();
+    linkHandler().get(targetPage.getPath()).fragment("frag1").build();
+    assertEquals(2, underTest.size());
+
+    // change of other page
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, SECTION_PATH + "/page/jcr:content", false)));
+    assertEquals(2, underTest.size());
+
+    // change of target page content
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, targetPage.getPath() + "/jcr:content", false)));
+    assertEquals(0, underTest.size());
+
+    // change of parent page
+    linkHandler().get(targetPage.getPath()).build();
+    underTest.onChange(List.of(new ResourceChange(ChangeType.REMOVED, SECTION_PATH, false)));
+    assertEquals(0, underTest.size());
+
+    // configuration change
+    linkHandler().get(targetPage.getPath()).build();
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/conf/unittest/sling:configs/x", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testMaxSize() {
+    linkHandler().get(targetPage.getPath()).fragment("frag1").build();
+    linkHandler().get(targetPage.getPath()).fragment("frag2").build();
+    linkHandler().get(targetPage.getPath()).fragment("frag3").build();
+    assertEquals(2, underTest.size());
+  }
+
+  private LinkHandler linkHandler() {
+    return AdaptTo.notNull(context.request(), LinkHandler.class);
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_COMPONENT_LINK_TARGET_URL_FALLBACK_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+import io.wcm.wcm.commons.component.ComponentPropertyResolverFactory;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class LinkComponentPropertyCacheTest {
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private LinkComponentPropertyCache underTest;
+  private ComponentPropertyResolverFactory componentPropertyResolverFactory;
+
+  @BeforeEach
+  void setUp() {
+    underTest = context.getService(LinkComponentPropertyCache.class);
+    componentPropertyResolverFactory = context.getService(ComponentPropertyResolverFactory.class);
+  }
+
+  @Test
+  void testCache() {
+    context.create().resource("/apps/app1/components/comp1",
+        PN_COMPONENT_LINK_TARGET_URL_FALLBACK_PROPERTY, "fallbackProperty");
+    Resource resource1 = context.create().resource("/content/resource1",
+        ResourceResolver.PROPERTY_RESOURCE_TYPE, "app1/components/comp1");
+    Resource resource2 = context.create().resource("/content/resource2",
+        ResourceResolver.PROPERTY_RESOURCE_TYPE, "app1/components/comp1");
+    Resource resource3 = context.create().resource("/content/resource3",
+        ResourceResolver.PROPERTY_RESOURCE_TYPE, "app1/components/comp2");
+
+    LinkComponentProperties props1 = underTest.get(resource1, componentPropertyResolverFactory);
+    LinkComponentProperties props2 = underTest.get(resource2, componentPropertyResolverFactory);
+    LinkComponentProperties props3 = underTest.get(resource3, componentPropertyResolverFactory);
+
+    assertArrayEquals(new String[] { "fallbackProperty" }, props1.getLinkTargetUrlFallbackProperty());
+    assertSame(props1, props2);
+    assertNull(props3.getLinkTargetUrlFallbackProperty());
+    assertEquals(2, underTest.size());
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/apps/app1/components/comp1", false)));
+    assertEquals(0, underTest.size());
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.sling.api.resource.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.osgi.framework.Constants;
+
+import io.wcm.handler.link.spi.LinkHandlerConfig;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.sling.commons.caservice.ContextAwareService;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class LinkHandlerAdapterFactoryTest {
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private Resource resource1;
+  private Resource resource2;
+  private Resource resourceOtherContext;
+
+  @BeforeEach
+  void setUp() {
+    context.create().resource("/content/site1", "sling:configRef", "/conf/site1");
+    context.create().resource("/content/site2", "sling:configRef", "/conf/site2");
+    resource1 = context.create().resource("/content/site1/page1/resource1");
+    resource2 = context.create().resource("/content/site1/page2/resource2");
+    resourceOtherContext = context.create().resource("/content/site2/page1/resource1");
+  }
+
+  @Test
+  void testCachedPerResourcePath() {
+    LinkHandlerConfig config1 = AdaptTo.notNull(resource1, LinkHandlerConfig.class);
+    LinkHandlerConfig config2 = AdaptTo.notNull(resource2, LinkHandlerConfig.class);
+    assertSame(config1, config2);
+
+    context.currentResource(resource2);
+    assertSame(config1, AdaptTo.notNull(context.request(), LinkHandlerConfig.class));
+
+    // same service resolved for other context
+    assertSame(config1, AdaptTo.notNull(resourceOtherContext, LinkHandlerConfig.class));
+  }
+
+  @Test
+  void testInvalidateOnServiceRegistration() {
+    LinkHandlerConfig config1 = AdaptTo.notNull(resource1, LinkHandlerConfig.class);
+
+    LinkHandlerConfig newConfig = context.registerService(LinkHandlerConfig.class, new LinkHandlerConfig() {
+      // default implementation
+    }, Constants.SERVICE_RANKING, 1000);
+
+    // get resource again, a resource instance caches its adaptions
+    LinkHandlerConfig config2 = AdaptTo.notNull(getResource(resource1), LinkHandlerConfig.class);
+    assertNotSame(config1, config2);
+    assertSame(newConfig, config2);
+  }
+
+  @Test
+  void testServiceForPathWithinContext() {
+    LinkHandlerConfig config1 = AdaptTo.notNull(resource1, LinkHandlerConfig.class);
+    assertSame(config1, AdaptTo.notNull(resource2, LinkHandlerConfig.class));
+
+    // service applies only to a part of the configuration context
+    LinkHandlerConfig page2Config = context.registerService(LinkHandlerConfig.class, new LinkHandlerConfig() {
+      // default implementation
+    }, Constants.SERVICE_RANKING, 1000,
+        ContextAwareService.PROPERTY_CONTEXT_PATH_PATTERN, "^/content/site1/page2(/.*)?$");
+
+    assertSame(config1, AdaptTo.notNull(getResource(resource1), LinkHandlerConfig.class));
+    assertSame(page2Config, AdaptTo.notNull(getResource(resource2), LinkHandlerConfig.class));
+  }
+
+  @Test
+  void testWithoutContextPath() {
+    Resource resource = context.create().resource("/content/no-context/resource1");
+    LinkHandlerConfig config1 = AdaptTo.notNull(resource, LinkHandlerConfig.class);
+    assertSame(config1, AdaptTo.notNull(resource1, LinkHandlerConfig.class));
+  }
+
+  private Resource getResource(Resource resource) {
+    return context.resourceResolver().getResource(resource.getPath());
+  }
+
+}
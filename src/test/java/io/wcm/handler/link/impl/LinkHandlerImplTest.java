@@ -27,7 +27,9 @@ import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.List;
 import java.util.Map;
@@ -38,6 +40,7 @@ import org.apache.sling.api.adapter.Adaptable;
 import org.apache.sling.api.resource.Resource;
 import org.apache.sling.api.resource.ResourceResolver;
 import org.apache.sling.models.annotations.Model;
+import org.apache.sling.models.annotations.injectorspecific.Self;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.osgi.framework.Constants;
@@ -113,6 +116,53 @@ class LinkHandlerImplTest {
     assertEquals("http://xyz/path1/pre1/post1", link.getAnchor().getHRef());
   }
 
+  @Test
+  void testReuseLinkTypeInstances() {
+    LinkHandler linkHandler = AdaptTo.notNull(adaptable(), LinkHandler.class);
+
+    Link link1 = linkHandler.get("/path1").build();
+    Link link2 = linkHandler.get("/path2").build();
+
+    assertEquals("http://xyz/path1/post1", link1.getUrl());
+    assertEquals("http://xyz/path2/post1", link2.getUrl());
+    assertSame(link1.getLinkType(), link2.getLinkType());
+  }
+
+  @Test
+  void testGetAllReferences() {
+    LinkHandler linkHandler = AdaptTo.notNull(adaptable(), LinkHandler.class);
+
+    List<Link> links = linkHandler.getAllReferences(List.of("/path1", "/path2", "/path1"));
+
+    assertEquals(3, links.size());
+    assertEquals("http://xyz/path1/post1", links.get(0).getUrl());
+    assertEquals("http://xyz/path2/post1", links.get(1).getUrl());
+    assertEquals("http://xyz/path1/post1", links.get(2).getUrl());
+    assertNotSame(links.get(0), links.get(2));
+  }
+
+  @Test
+  void testGetAll() {
+    LinkHandler linkHandler = AdaptTo.notNull(adaptable(), LinkHandler.class);
+
+    Resource componentResource = context.create().resource("/apps/app1/components/comp1",
+        PN_COMPONENT_LINK_TARGET_URL_FALLBACK_PROPERTY, "fallbackProperty");
+    Resource linkResource1 = context.create().resource("/content/dummy-path1",
+        ResourceResolver.PROPERTY_RESOURCE_TYPE, componentResource.getPath(),
+        "fallbackProperty", "/fallbackpath1");
+    Resource linkResource2 = context.create().resource("/content/dummy-path2",
+        ResourceResolver.PROPERTY_RESOURCE_TYPE, componentResource.getPath(),
+        "fallbackProperty", "/fallbackpath2");
+
+    List<Link> links = linkHandler.getAll(List.of(linkResource1, linkResource2, linkResource1));
+
+    assertEquals(3, links.size());
+    assertEquals("http://xyz/fallbackpath1/post1", links.get(0).getUrl());
+    assertEquals("http://xyz/fallbackpath2/post1", links.get(1).getUrl());
+    assertEquals("http://xyz/fallbackpath1/post1", links.get(2).getUrl());
+    assertNotSame(links.get(0), links.get(2));
+  }
+
   @Test
   void testInvalid() {
     LinkHandler linkHandler = AdaptTo.notNull(adaptable(), LinkHandler.class);
@@ -214,6 +264,16 @@ class LinkHandlerImplTest {
     assertNull(link.getTitle());
   }
 
+  @Test
+  void testRecursiveLinkRequests() {
+    LinkHandler linkHandler = AdaptTo.notNull(adaptable(), LinkHandler.class);
+
+    // link type resolves this reference by starting a nested link request for the same reference again,
+    // resolution stops when the maximum depth of the resolve context is reached
+    Link link = linkHandler.get(TestLinkType.RECURSIVE_REF).build();
+    assertNotNull(link);
+  }
+
   public static class TestLinkHandlerConfig extends LinkHandlerConfig {
 
     @Override
@@ -262,6 +322,11 @@ class LinkHandlerImplTest {
   })
   public static class TestLinkType extends LinkType {
 
+    static final String RECURSIVE_REF = "/recursive";
+
+    @Self
+    private Adaptable adaptable;
+
     @Override
     public String getId() {
       return "dummy";
@@ -279,6 +344,12 @@ class LinkHandlerImplTest {
 
     @Override
     public Link resolveLink(Link link) {
+      if (StringUtils.equals(link.getLinkRequest().getReference(), RECURSIVE_REF)) {
+        Link nestedLink = AdaptTo.notNull(adaptable, LinkHandler.class).get(new LinkRequest(null, null, RECURSIVE_REF, null,
+            link.getLinkRequest().getResolveContext().nested(RECURSIVE_REF))).build();
+        link.setUrl(nestedLink.getUrl());
+        return link;
+      }
       String contentRef = StringUtils.defaultString(link.getLinkRequest().getResourceProperties().get("dummyLinkRef", String.class),
           link.getLinkRequest().getReference());
       link.setUrl("http://xyz" + contentRef);
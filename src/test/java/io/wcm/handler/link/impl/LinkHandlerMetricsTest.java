@@ -0,0 +1,154 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_CONTENT_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.sling.api.resource.Resource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.ExternalLinkType;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class LinkHandlerMetricsTest {
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  @Test
+  void testRecordLinks() throws Exception {
+    LinkHandlerMetrics underTest = context.registerInjectActivateService(LinkHandlerMetrics.class, "enabled", true);
+    LinkHandler linkHandler = AdaptTo.notNull(context.request(), LinkHandler.class);
+
+    Link link1 = linkHandler.get("http://www.example.com").build();
+    Link link2 = linkHandler.get("/content/unittest/de_test/brand/de/non-existing").build();
+    assertTrue(link1.isValid());
+    assertFalse(link2.isValid());
+    assertNotNull(link1.getAnchor());
+
+    assertTrue(underTest.isEnabled());
+    assertEquals(2, underTest.getLinkCount());
+    assertEquals(1, underTest.getInvalidLinkCount());
+    assertEquals(0.5d, underTest.getInvalidLinkRatio());
+    assertEquals(0, underTest.getRedirectHopCount());
+
+    TabularData stageStatistics = underTest.getStageStatistics();
+    assertStageCount(stageStatistics, ExternalLinkType.ID, LinkHandlerMetrics.STAGE_DETECT_LINK_TYPE, 1);
+    assertStageCount(stageStatistics, ExternalLinkType.ID, LinkHandlerMetrics.STAGE_RESOLVE_LINK, 1);
+    assertStageCount(stageStatistics, ExternalLinkType.ID, LinkHandlerMetrics.STAGE_ANCHOR_BUILDER, 1);
+    assertStageCount(stageStatistics, InternalLinkType.ID, LinkHandlerMetrics.STAGE_RESOLVE_LINK, 1);
+
+    underTest.reset();
+    assertEquals(0, underTest.getLinkCount());
+    assertEquals(0d, underTest.getInvalidLinkRatio());
+    assertTrue(underTest.getStageStatistics().isEmpty());
+  }
+
+  @Test
+  void testNestedRedirectResolutionNotRecorded() throws Exception {
+    LinkHandlerMetrics underTest = context.registerInjectActivateService(LinkHandlerMetrics.class, "enabled", true);
+    Page targetPage = context.create().page(AppAemContext.ROOTPATH_CONTENT + "/target",
+        DummyAppTemplate.CONTENT.getTemplatePath());
+    Page redirectPage = context.create().page(AppAemContext.ROOTPATH_CONTENT + "/redirect",
+        DummyAppTemplate.REDIRECT.getTemplatePath(),
+        PN_LINK_TYPE, InternalLinkType.ID,
+        PN_LINK_CONTENT_REF, targetPage.getPath());
+    LinkHandler linkHandler = AdaptTo.notNull(context.request(), LinkHandler.class);
+
+    Link link = linkHandler.get(redirectPage).build();
+    assertTrue(link.isValid());
+
+    assertEquals(1, underTest.getLinkCount());
+    TabularData stageStatistics = underTest.getStageStatistics();
+    assertStageCount(stageStatistics, InternalLinkType.ID, LinkHandlerMetrics.STAGE_DETECT_LINK_TYPE, 1);
+    assertStageCount(stageStatistics, InternalLinkType.ID, LinkHandlerMetrics.STAGE_RESOLVE_LINK, 1);
+  }
+
+  @Test
+  void testFallbackResolutionNotRecorded() throws Exception {
+    LinkHandlerMetrics underTest = context.registerInjectActivateService(LinkHandlerMetrics.class, "enabled", true);
+    Resource linkResource = context.create().resource(AppAemContext.ROOTPATH_CONTENT + "/jcr:content/link",
+        PN_LINK_TYPE, InternalLinkType.ID,
+        PN_LINK_CONTENT_REF, AppAemContext.ROOTPATH_CONTENT + "/non-existing",
+        "fallbackUrl", "http://www.example.com");
+    LinkHandler linkHandler = AdaptTo.notNull(context.request(), LinkHandler.class);
+
+    Link link = linkHandler.get(linkResource).linkTargetUrlFallbackProperty("fallbackUrl").build();
+    assertTrue(link.isValid());
+
+    assertEquals(1, underTest.getLinkCount());
+    TabularData stageStatistics = underTest.getStageStatistics();
+    assertStageCount(stageStatistics, InternalLinkType.ID, LinkHandlerMetrics.STAGE_FALLBACK_PROPERTY, 1);
+    assertNull(stageStatistics.get(new Object[] { ExternalLinkType.ID, LinkHandlerMetrics.STAGE_RESOLVE_LINK }));
+  }
+
+  @Test
+  void testDisabled() {
+    LinkHandlerMetrics underTest = context.registerInjectActivateService(LinkHandlerMetrics.class);
+    assertFalse(underTest.isEnabled());
+    LinkHandler linkHandler = AdaptTo.notNull(context.request(), LinkHandler.class);
+    linkHandler.get("http://www.example.com").build();
+    assertEquals(0, underTest.getLinkCount());
+  }
+
+  @Test
+  void testLatencyHistogram() {
+    LinkHandlerMetrics.LatencyHistogram histogram = new LinkHandlerMetrics.LatencyHistogram();
+    assertEquals(0, histogram.getPercentileNanos(0.5d));
+    for (int i = 0; i < 99; i++) {
+      histogram.record(100);
+    }
+    histogram.record(100000);
+
+    assertEquals(100, histogram.getCount());
+    assertEquals(100000, histogram.getMaxNanos());
+    assertEquals(1099, histogram.getMeanNanos());
+    assertEquals(127, histogram.getPercentileNanos(0.5d));
+    assertEquals(127, histogram.getPercentileNanos(0.99d));
+    assertEquals(100000, histogram.getPercentileNanos(1d));
+  }
+
+  private static void assertStageCount(TabularData stageStatistics, String linkTypeId, String stage, long expectedCount) {
+    CompositeData row = stageStatistics.get(new Object[] { linkTypeId, stage });
+    assertNotNull(row, linkTypeId + "/" + stage);
+    assertEquals(expectedCount, row.get("count"), linkTypeId + "/" + stage);
+  }
+
+}
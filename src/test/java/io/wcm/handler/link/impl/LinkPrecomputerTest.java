@@ -0,0 +1,209 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Calendar;
+import java.util.List;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.ValueMap;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.apache.sling.api.wrappers.ResourceResolverWrapper;
+import org.apache.sling.commons.scheduler.ScheduleOptions;
+import org.apache.sling.commons.scheduler.Scheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.osgi.framework.Constants;
+
+import com.day.cq.wcm.api.NameConstants;
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkArgs;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.sling.commons.resource.ImmutableValueMap;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class LinkPrecomputerTest {
+
+  private static final String SECTION_PATH = "/content/unittest/de_test/brand/de/section";
+  private static final String TARGET_PATH = SECTION_PATH + "/target";
+  private static final String PRECOMPUTED_URL = "/precomputed.html";
+
+  final AemContext context = AppAemContext.newAemContext();
+
+  @Mock
+  private ResourceResolverFactory resourceResolverFactory;
+  @Mock
+  private Scheduler scheduler;
+
+  private LinkPrecomputer underTest;
+  private Page targetPage;
+  private String linkResourcePath;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // service resource resolver works on the same content
+    when(resourceResolverFactory.getServiceResourceResolver(anyMap()))
+        .thenAnswer(invocation -> new ResourceResolverWrapper(context.resourceResolver()) {
+          @Override
+          public void close() {
+            // keep context resource resolver open
+          }
+        });
+    context.registerService(ResourceResolverFactory.class, resourceResolverFactory, Constants.SERVICE_RANKING, 1000);
+
+    // execute scheduled jobs immediately
+    when(scheduler.NOW()).thenReturn(mock(ScheduleOptions.class));
+    when(scheduler.schedule(any(), any())).thenAnswer(invocation -> {
+      invocation.getArgument(0, Runnable.class).run();
+      return true;
+    });
+    context.registerService(Scheduler.class, scheduler);
+
+    Calendar lastModified = Calendar.getInstance();
+    lastModified.setTimeInMillis(1000L);
+    targetPage = context.create().page(TARGET_PATH, DummyAppTemplate.CONTENT.getTemplatePath(),
+        ImmutableValueMap.of(NameConstants.PN_PAGE_LAST_MOD, lastModified));
+    Page page = context.create().page(SECTION_PATH + "/page", DummyAppTemplate.CONTENT.getTemplatePath());
+    context.currentPage(page);
+    linkResourcePath = context.create().resource(page.getContentResource().getPath() + "/link", ImmutableValueMap.of(
+        LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID,
+        LinkNameConstants.PN_LINK_CONTENT_REF, targetPage.getPath())).getPath();
+    context.resourceResolver().commit();
+
+    underTest = context.registerInjectActivateService(LinkPrecomputer.class);
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, linkResourcePath, false)));
+  }
+
+  @Test
+  void testPrecompute() {
+    ValueMap props = linkResource().getValueMap();
+    assertNotNull(props.get(LinkPrecomputer.PN_RESOLVED_SLING_ID, String.class));
+    assertNotNull(props.get(LinkPrecomputer.PN_RESOLVED_LINK_PROPERTIES, String[].class));
+    assertEquals(InternalLinkType.ID, props.get(LinkPrecomputer.PN_RESOLVED_LINK_TYPE, String.class));
+    String resolvedUrl = props.get(LinkPrecomputer.PN_RESOLVED_URL, String.class);
+    assertTrue(resolvedUrl.endsWith(TARGET_PATH + ".html"));
+    assertEquals(targetPage.getPath(), props.get(LinkPrecomputer.PN_RESOLVED_TARGET_PATH, String.class));
+    assertEquals(1000L, props.get(LinkPrecomputer.PN_RESOLVED_TARGET_LAST_MODIFIED, Long.class));
+
+    Link link = linkHandler().get(linkResource()).build();
+    assertTrue(link.isValid());
+    assertEquals(resolvedUrl, link.getUrl());
+    assertEquals(targetPage.getPath(), link.getTargetPage().getPath());
+  }
+
+  @Test
+  void testPrecomputedResultUsed() {
+    setResolvedUrl(PRECOMPUTED_URL);
+    assertEquals(PRECOMPUTED_URL, linkHandler().get(linkResource()).buildUrl());
+
+    // precomputed result is only used with default link arguments
+    assertFalse(PRECOMPUTED_URL.equals(linkHandler().get(linkResource()).selectors("sel").buildUrl()));
+  }
+
+  @Test
+  void testPrecomputedResultNotUsedForOtherCurrentPage() {
+    setResolvedUrl(PRECOMPUTED_URL);
+    // e.g. paragraph included in another page - link has to be resolved in context of this page
+    context.currentPage(targetPage);
+    assertTrue(linkHandler().get(linkResource()).buildUrl().endsWith(TARGET_PATH + ".html"));
+  }
+
+  @Test
+  void testLinkPropertiesChanged() {
+    setResolvedUrl(PRECOMPUTED_URL);
+    linkResource().adaptTo(ModifiableValueMap.class).put(LinkNameConstants.PN_LINK_FRAGMENT, "anchor");
+    assertTrue(linkHandler().get(linkResource()).buildUrl().endsWith(TARGET_PATH + ".html#anchor"));
+  }
+
+  @Test
+  void testPrecomputedOnOtherInstance() {
+    setResolvedUrl(PRECOMPUTED_URL);
+    // e.g. precomputed on author and replicated to publish
+    linkResource().adaptTo(ModifiableValueMap.class).put(LinkPrecomputer.PN_RESOLVED_SLING_ID, "other-instance");
+    assertTrue(linkHandler().get(linkResource()).buildUrl().endsWith(TARGET_PATH + ".html"));
+  }
+
+  @Test
+  void testTargetPageChanged() {
+    setResolvedUrl(PRECOMPUTED_URL);
+    Calendar lastModified = Calendar.getInstance();
+    lastModified.setTimeInMillis(2000L);
+    targetPage.getContentResource().adaptTo(ModifiableValueMap.class).put(NameConstants.PN_PAGE_LAST_MOD, lastModified);
+    assertTrue(linkHandler().get(linkResource()).buildUrl().endsWith(TARGET_PATH + ".html"));
+  }
+
+  @Test
+  void testInvalidLinkNotPrecomputed() throws Exception {
+    linkResource().adaptTo(ModifiableValueMap.class).put(LinkNameConstants.PN_LINK_CONTENT_REF, SECTION_PATH + "/invalid");
+    context.resourceResolver().commit();
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, linkResourcePath, false)));
+
+    ValueMap props = linkResource().getValueMap();
+    assertFalse(props.containsKey(LinkPrecomputer.PN_RESOLVED_LINK_PROPERTIES));
+    assertFalse(props.containsKey(LinkPrecomputer.PN_RESOLVED_URL));
+    assertFalse(linkHandler().get(linkResource()).build().isValid());
+  }
+
+  @Test
+  void testDefaultArgsOnly() {
+    setResolvedUrl(PRECOMPUTED_URL);
+    LinkArgs linkArgs = new LinkArgs().windowTarget("_blank");
+    assertEquals(PRECOMPUTED_URL, linkHandler().get(linkResource()).args(linkArgs).buildUrl());
+  }
+
+  private void setResolvedUrl(String url) {
+    linkResource().adaptTo(ModifiableValueMap.class).put(LinkPrecomputer.PN_RESOLVED_URL, url);
+  }
+
+  private Resource linkResource() {
+    return context.resourceResolver().getResource(linkResourcePath);
+  }
+
+  private LinkHandler linkHandler() {
+    return AdaptTo.notNull(context.request(), LinkHandler.class);
+  }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.spi.LinkType;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.type.ExternalLinkType;
+import io.wcm.handler.link.type.InternalCrossContextLinkType;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.handler.link.type.MediaLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+class LinkReferenceClassifierTest {
+
+  private static final Pattern EXTERNALIZED_PATTERN = Pattern.compile("^([^/]+:|//|#).+?");
+
+  private static final List<String> REFERENCES = List.of(
+      "",
+      "/",
+      "/content",
+      "/content/",
+      "/content/site1/page1",
+      "/content/dam",
+      "/content/dam/",
+      "/content/dam/asset1.jpg",
+      "/content/damx/page1",
+      "/content/custom/page1",
+      "/contents/page1",
+      "/apps/app1",
+      "content/site1",
+      "http://www.dummysite.org",
+      "https://www.dummysite.org/path?query=1#fragment",
+      "mailto:info@dummysite.org",
+      "tel:+49 123",
+      "custom-scheme:abc",
+      "a:",
+      ":abc",
+      "a:b",
+      "/path:abc",
+      "pa/th:abc",
+      "//www.dummysite.org/path",
+      "//",
+      "///",
+      "#",
+      "#anchor",
+      "# anchor",
+      "#anchor\nline2",
+      "http://www.dummysite.org\npath",
+      "a\nb:c",
+      "a:b\r",
+      "a:b\u2028",
+      "a:b:\nc",
+      "a:\nb:c",
+      "javascript:alert(1)",
+      "invalid link");
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  @Test
+  void testIsExternalReference() {
+    for (String reference : REFERENCES) {
+      assertEquals(EXTERNALIZED_PATTERN.matcher(reference).matches(),
+          LinkReferenceClassifier.isExternalReference(reference), reference);
+    }
+  }
+
+  @Test
+  void testDefaultLinkTypes() {
+    assertEquivalent(List.of(InternalLinkType.class, ExternalLinkType.class, MediaLinkType.class));
+  }
+
+  @Test
+  void testReorderedLinkTypes() {
+    assertEquivalent(List.of(MediaLinkType.class, InternalCrossContextLinkType.class, ExternalLinkType.class,
+        InternalLinkType.class));
+  }
+
+  @Test
+  void testLinkTypeWithoutPatterns() {
+    assertEquivalent(List.of(CustomLinkType.class, InternalLinkType.class, ExternalLinkType.class, MediaLinkType.class));
+    assertEquivalent(List.of(InternalLinkType.class, ExternalLinkType.class, CustomLinkType.class, MediaLinkType.class));
+  }
+
+  private void assertEquivalent(List<Class<? extends LinkType>> linkTypes) {
+    LinkReferenceClassifier underTest = new LinkReferenceClassifier(linkTypes);
+    for (String reference : REFERENCES) {
+      List<Class<? extends LinkType>> fallbackCalls = new ArrayList<>();
+      Class<? extends LinkType> result = underTest.classify(reference, linkTypeClass -> {
+        fallbackCalls.add(linkTypeClass);
+        return newInstance(linkTypeClass).accepts(reference);
+      });
+      assertEquals(acceptsSequential(linkTypes, reference), result, reference);
+      // only link types without declared patterns are called directly
+      assertTrue(fallbackCalls.stream().allMatch(CustomLinkType.class::equals), reference);
+    }
+  }
+
+  private Class<? extends LinkType> acceptsSequential(List<Class<? extends LinkType>> linkTypes, String reference) {
+    for (Class<? extends LinkType> linkTypeClass : linkTypes) {
+      if (newInstance(linkTypeClass).accepts(reference)) {
+        return linkTypeClass;
+      }
+    }
+    return null;
+  }
+
+  private LinkType newInstance(Class<? extends LinkType> linkTypeClass) {
+    if (linkTypeClass == CustomLinkType.class) {
+      return new CustomLinkType();
+    }
+    return AdaptTo.notNull(context.request(), linkTypeClass);
+  }
+
+  /**
+   * Link type without declared link reference patterns.
+   */
+  private static final class CustomLinkType extends LinkType {
+
+    @Override
+    public @NotNull String getId() {
+      return "custom";
+    }
+
+    @Override
+    public @Nullable String getPrimaryLinkRefProperty() {
+      return null;
+    }
+
+    @Override
+    public boolean accepts(@NotNull String linkRef) {
+      return StringUtils.startsWith(linkRef, "/content/custom/");
+    }
+
+    @Override
+    public @NotNull Link resolveLink(@NotNull Link link) {
+      return link;
+    }
+
+  }
+
+}
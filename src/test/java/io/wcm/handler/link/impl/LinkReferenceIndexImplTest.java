@@ -0,0 +1,222 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.jcr.query.Query;
+
+import org.apache.sling.api.resource.ModifiableValueMap;
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.apache.sling.commons.scheduler.ScheduleOptions;
+import org.apache.sling.commons.scheduler.Scheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.osgi.framework.Constants;
+
+import com.day.cq.wcm.api.NameConstants;
+
+import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.LinkReferenceIndex;
+import io.wcm.handler.link.SyntheticLinkResource;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class LinkReferenceIndexImplTest {
+
+  final AemContext context = AppAemContext.newAemContext();
+
+  @Mock
+  private ResourceResolverFactory resourceResolverFactory;
+  @Mock
+  private ResourceResolver serviceResourceResolver;
+  @Mock
+  private Scheduler scheduler;
+
+  private LinkReferenceIndexImpl underTest;
+  private List<Resource> buildResources;
+  // executed when the build query is executed, to simulate concurrent changes
+  private Runnable onBuildQuery;
+  // scheduled jobs are executed immediately unless deferred
+  private boolean deferJobs;
+  private final List<Runnable> deferredJobs = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Resource link1 = context.create().resource("/content/site/page1/jcr:content/link1",
+        LinkNameConstants.PN_LINK_CONTENT_REF, "/content/site/target1");
+    Resource link2 = context.create().resource("/content/site/page1/jcr:content/link2",
+        LinkNameConstants.PN_LINK_MEDIA_REF, "/content/dam/asset1.pdf",
+        LinkNameConstants.PN_LINK_CROSSCONTEXT_CONTENT_REF, "/content/site/target2/jcr:content");
+    Resource redirect = context.create().resource("/content/site/redirect/jcr:content",
+        NameConstants.PN_REDIRECT_TARGET, "/content/site/target1");
+
+    buildResources = List.of(link1, link2, redirect);
+    when(resourceResolverFactory.getServiceResourceResolver(anyMap())).thenReturn(serviceResourceResolver);
+    when(serviceResourceResolver.findResources(contains("[linkContentRef] IS NOT NULL"), eq(Query.JCR_SQL2)))
+        .thenAnswer(invocation -> {
+          if (onBuildQuery != null) {
+            onBuildQuery.run();
+          }
+          return buildResources.iterator();
+        });
+    context.registerService(ResourceResolverFactory.class, resourceResolverFactory, Constants.SERVICE_RANKING, 1000);
+
+    when(scheduler.NOW()).thenReturn(mock(ScheduleOptions.class));
+    when(scheduler.schedule(any(), any())).thenAnswer(invocation -> {
+      Runnable job = invocation.getArgument(0, Runnable.class);
+      if (deferJobs) {
+        deferredJobs.add(job);
+      }
+      else {
+        job.run();
+      }
+      return true;
+    });
+    context.registerService(Scheduler.class, scheduler);
+
+    underTest = context.registerInjectActivateService(LinkReferenceIndexImpl.class);
+    assertTrue(underTest.isReady());
+  }
+
+  @Test
+  void testGetReferencingResources() {
+    assertEquals(Set.of("/content/site/page1/jcr:content/link1", "/content/site/redirect/jcr:content"),
+        underTest.getReferencingResources("/content/site/target1"));
+    assertEquals(Set.of("/content/site/page1/jcr:content/link2"),
+        underTest.getReferencingResources("/content/site/target2"));
+    assertEquals(Set.of("/content/site/page1/jcr:content/link2"),
+        underTest.getReferencingResources("/content/dam/asset1.pdf"));
+    assertEquals(Set.of(), underTest.getReferencingResources("/content/site/target3"));
+
+    assertEquals(Set.of("/content/site/target2", "/content/dam/asset1.pdf"),
+        underTest.getTargets("/content/site/page1/jcr:content/link2"));
+  }
+
+  @Test
+  void testGetReferencingResourcesForSubtree() {
+    assertEquals(Set.of("/content/site/page1/jcr:content/link1", "/content/site/page1/jcr:content/link2",
+        "/content/site/redirect/jcr:content"),
+        underTest.getReferencingResourcesForSubtree("/content/site"));
+    assertEquals(Set.of(), underTest.getReferencingResourcesForSubtree("/content/site/target"));
+  }
+
+  @Test
+  void testOnChange() {
+    when(serviceResourceResolver.getResource(anyString()))
+        .thenAnswer(invocation -> context.resourceResolver().getResource(invocation.getArgument(0, String.class)));
+
+    // change link target
+    ModifiableValueMap props = context.resourceResolver().getResource("/content/site/page1/jcr:content/link1")
+        .adaptTo(ModifiableValueMap.class);
+    props.put(LinkNameConstants.PN_LINK_CONTENT_REF, "/content/site/target3");
+    // add page with link
+    context.create().resource("/content/site/page2/jcr:content/link1",
+        LinkNameConstants.PN_LINK_CONTENT_REF, "/content/site/target3");
+
+    underTest.onChange(List.of(
+        new ResourceChange(ChangeType.CHANGED, "/content/site/page1/jcr:content/link1", false),
+        new ResourceChange(ChangeType.ADDED, "/content/site/page2", false),
+        new ResourceChange(ChangeType.REMOVED, "/content/site/redirect", false),
+        new ResourceChange(ChangeType.ADDED, "/apps/app1", false)));
+
+    assertEquals(Set.of(), underTest.getReferencingResources("/content/site/target1"));
+    assertEquals(Set.of("/content/site/page1/jcr:content/link1", "/content/site/page2/jcr:content/link1"),
+        underTest.getReferencingResources("/content/site/target3"));
+  }
+
+  @Test
+  void testOnChange_AddedSubtreeInBackground() {
+    when(serviceResourceResolver.getResource(anyString()))
+        .thenAnswer(invocation -> context.resourceResolver().getResource(invocation.getArgument(0, String.class)));
+    deferJobs = true;
+
+    context.create().resource("/content/site/page2/jcr:content/link1",
+        LinkNameConstants.PN_LINK_CONTENT_REF, "/content/site/target3");
+    underTest.onChange(List.of(new ResourceChange(ChangeType.ADDED, "/content/site/page2", false)));
+    assertEquals(Set.of(), underTest.getReferencingResources("/content/site/target3"));
+
+    runDeferredJobs();
+    assertEquals(Set.of("/content/site/page2/jcr:content/link1"),
+        underTest.getReferencingResources("/content/site/target3"));
+  }
+
+  @Test
+  void testBuild_IgnoresOutdatedData() {
+    when(serviceResourceResolver.getResource(anyString()))
+        .thenAnswer(invocation -> context.resourceResolver().getResource(invocation.getArgument(0, String.class)));
+    deferJobs = true;
+
+    // build reads data that is changed after the build started, before the build applies it
+    String linkPath = "/content/site/page1/jcr:content/link1";
+    buildResources = List.of(new SyntheticLinkResource(context.resourceResolver(), linkPath,
+        Map.of(LinkNameConstants.PN_LINK_CONTENT_REF, "/content/site/target1")));
+    LinkReferenceIndexImpl index = context.registerInjectActivateService(LinkReferenceIndexImpl.class);
+    assertFalse(index.isReady());
+
+    onBuildQuery = () -> {
+      context.resourceResolver().getResource(linkPath).adaptTo(ModifiableValueMap.class)
+          .put(LinkNameConstants.PN_LINK_CONTENT_REF, "/content/site/target3");
+      index.onChange(List.of(new ResourceChange(ChangeType.CHANGED, linkPath, false)));
+    };
+    runDeferredJobs();
+    assertTrue(index.isReady());
+    assertEquals(Set.of(), index.getReferencingResources("/content/site/target1"));
+    assertEquals(Set.of(linkPath), index.getReferencingResources("/content/site/target3"));
+  }
+
+  @Test
+  void testService() {
+    assertEquals(underTest, context.getService(LinkReferenceIndex.class));
+  }
+
+  private void runDeferredJobs() {
+    List<Runnable> jobs = new ArrayList<>(deferredJobs);
+    deferredJobs.clear();
+    deferJobs = false;
+    jobs.forEach(Runnable::run);
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_EXTERNAL_REF;
+import static io.wcm.handler.link.LinkNameConstants.PN_LINK_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.sling.api.resource.Resource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.osgi.framework.Constants;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.spi.LinkHandlerConfig;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyLinkHandlerConfig;
+import io.wcm.handler.link.type.ExternalLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class LinkRequestCacheTest {
+
+  final AemContext context = AppAemContext.newAemContext(callbackContext -> callbackContext.registerService(
+      LinkHandlerConfig.class, new RequestCacheLinkHandlerConfig(), Constants.SERVICE_RANKING, 1000));
+
+  @Test
+  void testCachedResource() {
+    Resource linkResource = context.create().resource("/content/dummy-path",
+        PN_LINK_TYPE, ExternalLinkType.ID,
+        PN_LINK_EXTERNAL_REF, "http://dummy");
+
+    LinkHandlerMetrics metrics = context.registerInjectActivateService(LinkHandlerMetrics.class, "enabled", true);
+
+    Link link1 = AdaptTo.notNull(context.request(), LinkHandler.class).get(linkResource).build();
+    Link link2 = AdaptTo.notNull(context.request(), LinkHandler.class).get(linkResource).build();
+    Link link3 = AdaptTo.notNull(context.request(), LinkHandler.class).get(linkResource).fragment("frag1").build();
+
+    assertEquals("http://dummy", link1.getUrl());
+    assertEquals("http://dummy", link2.getUrl());
+    // external links do not support fragments, but link args are part of the cache key
+    assertEquals("http://dummy", link3.getUrl());
+
+    assertEquals(1, metrics.getRequestCacheHitCount());
+    assertEquals(2, metrics.getRequestCacheMissCount());
+  }
+
+  @Test
+  void testCachedLinkIsCopy() {
+    LinkHandler linkHandler = AdaptTo.notNull(context.request(), LinkHandler.class);
+
+    Link link1 = linkHandler.get("http://dummy1").build();
+    link1.setUrl("http://modified");
+    link1.getAnchor().setTitle("modified");
+
+    Link link2 = linkHandler.get("http://dummy1").build();
+    assertNotSame(link1, link2);
+    assertNotSame(link1.getAnchor(), link2.getAnchor());
+    assertEquals("http://dummy1", link2.getUrl());
+    assertFalse(link2.getMarkup().contains("modified"));
+
+    link2.getAnchor().setTitle("modified");
+    Link link3 = linkHandler.get("http://dummy1").build();
+    assertFalse(link3.getMarkup().contains("modified"));
+  }
+
+  @Test
+  void testCachedReference() {
+    LinkHandler linkHandler = AdaptTo.notNull(context.request(), LinkHandler.class);
+
+    Link link1 = linkHandler.get("http://dummy1").build();
+    Link link2 = linkHandler.get("http://dummy1").build();
+    Link link3 = linkHandler.get("http://dummy2").build();
+
+    assertEquals(link1.getUrl(), link2.getUrl());
+    assertEquals("http://dummy2", link3.getUrl());
+  }
+
+  @Test
+  void testCacheKeyIncludesCurrentPage() {
+    LinkHandlerMetrics metrics = context.registerInjectActivateService(LinkHandlerMetrics.class, "enabled", true);
+
+    context.currentPage(context.create().page("/content/page1"));
+    AdaptTo.notNull(context.request(), LinkHandler.class).get("http://dummy1").build();
+    AdaptTo.notNull(context.request(), LinkHandler.class).get("http://dummy1").build();
+
+    context.currentPage(context.create().page("/content/page2"));
+    AdaptTo.notNull(context.request(), LinkHandler.class).get("http://dummy1").build();
+
+    assertEquals(1, metrics.getRequestCacheHitCount());
+    assertEquals(2, metrics.getRequestCacheMissCount());
+  }
+
+  @Test
+  void testNotCachedForResourceAdaptable() {
+    LinkHandler linkHandler = AdaptTo.notNull(context.currentResource(), LinkHandler.class);
+
+    Link link1 = linkHandler.get("http://dummy1").build();
+    Link link2 = linkHandler.get("http://dummy1").build();
+
+    assertNotSame(link1, link2);
+  }
+
+  static class RequestCacheLinkHandlerConfig extends DummyLinkHandlerConfig {
+
+    @Override
+    public boolean isRequestCacheEnabled() {
+      return true;
+    }
+
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.wcm.handler.link.spi.LinkType;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.type.ExternalLinkType;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.handler.link.type.MediaLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+class LinkTypeIndexTest {
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private static final List<Class<? extends LinkType>> LINK_TYPES = List.of(
+      InternalLinkType.class,
+      ExternalLinkType.class,
+      MediaLinkType.class);
+
+  @Test
+  void testGet() {
+    AtomicInteger instanceCount = new AtomicInteger();
+    LinkTypeIndex underTest = new LinkTypeIndex(LINK_TYPES, clazz -> {
+      instanceCount.incrementAndGet();
+      return AdaptTo.notNull(context.request(), clazz);
+    });
+
+    assertEquals(InternalLinkType.class, underTest.get(InternalLinkType.ID));
+    assertEquals(ExternalLinkType.class, underTest.get(ExternalLinkType.ID));
+    assertEquals(MediaLinkType.class, underTest.get(MediaLinkType.ID));
+    assertNull(underTest.get("unknown"));
+
+    // link type IDs are known now, no further instantiation required
+    int count = instanceCount.get();
+    LinkTypeIndex secondIndex = new LinkTypeIndex(LINK_TYPES, clazz -> {
+      instanceCount.incrementAndGet();
+      return AdaptTo.notNull(context.request(), clazz);
+    });
+    assertEquals(ExternalLinkType.class, secondIndex.get(ExternalLinkType.ID));
+    assertEquals(count, instanceCount.get());
+  }
+
+  @Test
+  void testMayAccept() {
+    LinkTypeIndex underTest = new LinkTypeIndex(LINK_TYPES, clazz -> AdaptTo.notNull(context.request(), clazz));
+
+    assertTrue(underTest.mayAccept(ExternalLinkType.class, ExternalLinkType.ID));
+    assertFalse(underTest.mayAccept(ExternalLinkType.class, InternalLinkType.ID));
+    assertFalse(underTest.mayAccept(MediaLinkType.class, InternalLinkType.ID));
+
+    // internal link type overrides accepts(LinkRequest) and has to be asked always
+    assertTrue(underTest.mayAccept(InternalLinkType.class, ExternalLinkType.ID));
+  }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.jcr.query.Query;
+
+import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.apache.sling.commons.scheduler.ScheduleOptions;
+import org.apache.sling.commons.scheduler.Scheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.osgi.framework.Constants;
+
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class PathExistenceIndexTest {
+
+  final AemContext context = AppAemContext.newAemContext();
+
+  @Mock
+  private ResourceResolverFactory resourceResolverFactory;
+  @Mock
+  private ResourceResolver serviceResourceResolver;
+  @Mock
+  private Scheduler scheduler;
+
+  private PathExistenceIndex underTest;
+  private final List<Runnable> deferredJobs = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // create resource mocks before stubbing the resource resolver
+    List<Resource> pages = List.of(resource("/content/site/page1"), resource("/content/site/page2"));
+    List<Resource> assets = List.of(resource("/content/dam/asset1.pdf"));
+    when(resourceResolverFactory.getServiceResourceResolver(anyMap())).thenReturn(serviceResourceResolver);
+    when(serviceResourceResolver.findResources(contains("[cq:Page]"), eq(Query.JCR_SQL2)))
+        .thenReturn(pages.iterator());
+    when(serviceResourceResolver.findResources(contains("[dam:Asset]"), eq(Query.JCR_SQL2)))
+        .thenReturn(assets.iterator());
+    context.registerService(ResourceResolverFactory.class, resourceResolverFactory, Constants.SERVICE_RANKING, 1000);
+
+    lenient().when(scheduler.NOW()).thenReturn(mock(ScheduleOptions.class));
+    lenient().when(scheduler.schedule(any(), any())).thenAnswer(invocation -> {
+      deferredJobs.add(invocation.getArgument(0, Runnable.class));
+      return true;
+    });
+    context.registerService(Scheduler.class, scheduler);
+
+    underTest = context.registerInjectActivateService(PathExistenceIndex.class, "expectedPaths", 1000);
+    waitUntilReady();
+  }
+
+  @Test
+  void testMightExist() {
+    assertTrue(underTest.mightExist("/content/site/page1"));
+    assertTrue(underTest.mightExist("/content/site/page2"));
+    assertTrue(underTest.mightExist("/content/site/page1/jcr:content"));
+    assertTrue(underTest.mightExist("/content/dam/asset1.pdf"));
+    assertFalse(underTest.mightExist("/content/site/page3"));
+    assertFalse(underTest.mightExist("/content/dam/asset2.pdf"));
+
+    // paths outside /content are not indexed
+    assertTrue(underTest.mightExist("/apps/app1"));
+  }
+
+  @Test
+  void testAdded() {
+    assertFalse(underTest.mightExist("/content/site/page3"));
+    underTest.onChange(List.of(
+        new ResourceChange(ChangeType.ADDED, "/content/site/page3", false),
+        new ResourceChange(ChangeType.ADDED, "/content/site/page3/jcr:content", false)));
+    assertTrue(underTest.mightExist("/content/site/page3"));
+  }
+
+  @Test
+  void testAddedSubtree() {
+    // subtree copied or moved to /content/site/folder
+    context.create().resource("/content/site/folder/page4/jcr:content/par");
+    context.create().resource("/content/site/folder/sub/page5/jcr:content");
+    when(serviceResourceResolver.getResource("/content/site/folder"))
+        .thenReturn(context.resourceResolver().getResource("/content/site/folder"));
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.ADDED, "/content/site/folder", false)));
+
+    // reported as possibly existing until the subtree is indexed
+    assertTrue(underTest.mightExist("/content/site/folder/page4"));
+    assertTrue(underTest.mightExist("/content/site/folder/page6"));
+
+    runDeferredJobs();
+    assertTrue(underTest.mightExist("/content/site/folder"));
+    assertTrue(underTest.mightExist("/content/site/folder/page4"));
+    assertTrue(underTest.mightExist("/content/site/folder/page4/jcr:content"));
+    assertTrue(underTest.mightExist("/content/site/folder/sub/page5"));
+    assertFalse(underTest.mightExist("/content/site/folder/page6"));
+  }
+
+  private void runDeferredJobs() {
+    List<Runnable> jobs = new ArrayList<>(deferredJobs);
+    deferredJobs.clear();
+    jobs.forEach(Runnable::run);
+  }
+
+  private void waitUntilReady() throws InterruptedException {
+    for (int i = 0; i < 100 && !underTest.isReady(); i++) {
+      Thread.sleep(50);
+    }
+    assertTrue(underTest.isReady());
+  }
+
+  private static Resource resource(String path) {
+    Resource resource = mock(Resource.class);
+    when(resource.getPath()).thenReturn(path);
+    return resource;
+  }
+
+}
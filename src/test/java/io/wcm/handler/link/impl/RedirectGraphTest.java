@@ -0,0 +1,171 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.sling.commons.resource.ImmutableValueMap;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class RedirectGraphTest {
+
+  private static final String SECTION_PATH = "/content/unittest/de_test/brand/de/section";
+  private static final String CONTEXT = "/content/unittest/de_test/brand/de|admin";
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private RedirectGraph underTest;
+  private Page targetPage;
+
+  @BeforeEach
+  void setUp() {
+    underTest = context.registerInjectActivateService(RedirectGraph.class);
+    context.currentPage(context.create().page(SECTION_PATH + "/page", DummyAppTemplate.CONTENT.getTemplatePath()));
+    targetPage = context.create().page(SECTION_PATH + "/content", DummyAppTemplate.CONTENT.getTemplatePath());
+  }
+
+  @Test
+  void testPutChain() {
+    underTest.put(CONTEXT, List.of("/content/r1", "/content/r2"), "/content/target");
+
+    RedirectGraph.Chain chain = underTest.get(CONTEXT, "/content/r1");
+    assertEquals(List.of("/content/r1", "/content/r2"), chain.getHopPaths());
+    assertEquals("/content/target", chain.getTargetPath());
+    assertFalse(chain.isCyclic());
+
+    // sub chain
+    chain = underTest.get(CONTEXT, "/content/r2");
+    assertEquals(List.of("/content/r2"), chain.getHopPaths());
+    assertEquals("/content/target", chain.getTargetPath());
+
+    assertNull(underTest.get("/other|admin", "/content/r1"));
+  }
+
+  @Test
+  void testPutCyclicChain() {
+    underTest.put(CONTEXT, List.of("/content/r0", "/content/r1", "/content/r2", "/content/r1", "/content/r2"), null);
+    assertEquals(3, underTest.size());
+
+    RedirectGraph.Chain chain = underTest.get(CONTEXT, "/content/r0");
+    assertTrue(chain.isCyclic());
+    assertEquals(List.of("/content/r0", "/content/r1", "/content/r2"), chain.getHopPaths());
+
+    chain = underTest.get(CONTEXT, "/content/r2");
+    assertTrue(chain.isCyclic());
+    assertEquals(List.of("/content/r2", "/content/r1"), chain.getHopPaths());
+
+    // change of any page in the cycle removes all chains containing it
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/content/r1/jcr:content", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testInvalidation() {
+    underTest.put(CONTEXT, List.of("/content/r1", "/content/r2"), "/content/target");
+    underTest.put(CONTEXT, List.of("/content/r3"), "/content/other/target");
+    assertEquals(3, underTest.size());
+
+    // change of final target page
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/content/target/jcr:content", false)));
+    assertEquals(1, underTest.size());
+
+    // removal of parent page
+    underTest.onChange(List.of(new ResourceChange(ChangeType.REMOVED, "/content/other", false)));
+    assertEquals(0, underTest.size());
+
+    // configuration change
+    underTest.put(CONTEXT, List.of("/content/r1"), "/content/target");
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/conf/unittest/sling:configs/x", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testResolveRedirectChain() {
+    Page redirect1 = redirectPage("redirect1", targetPage.getPath());
+    Page redirect2 = redirectPage("redirect2", redirect1.getPath());
+
+    Link link1 = linkHandler().get(redirect2).build();
+    assertTrue(link1.isValid());
+    assertEquals(2, underTest.size());
+
+    Link link2 = linkHandler().get(redirect2).build();
+    assertTrue(link2.isValid());
+    assertEquals(link1.getUrl(), link2.getUrl());
+    assertEquals(List.of(redirect2, redirect1), link2.getRedirectPages());
+
+    // sub chain
+    Link link3 = linkHandler().get(redirect1).build();
+    assertEquals(link1.getUrl(), link3.getUrl());
+    assertEquals(List.of(redirect1), link3.getRedirectPages());
+  }
+
+  @Test
+  void testResolveCyclicRedirectChain() {
+    String redirect1Path = SECTION_PATH + "/redirectCyclic1";
+    String redirect2Path = SECTION_PATH + "/redirectCyclic2";
+    Page redirect1 = redirectPage("redirectCyclic1", redirect2Path);
+    Page redirect2 = redirectPage("redirectCyclic2", redirect1Path);
+
+    Link link1 = linkHandler().get(redirect1).build();
+    assertFalse(link1.isValid());
+    assertEquals(2, underTest.size());
+
+    // cycle is detected from graph
+    Link link2 = linkHandler().get(redirect2).build();
+    assertFalse(link2.isValid());
+    assertNull(link2.getUrl());
+  }
+
+  private Page redirectPage(String name, String targetPath) {
+    return context.create().page(SECTION_PATH + "/" + name,
+        DummyAppTemplate.REDIRECT.getTemplatePath(), ImmutableValueMap.builder()
+            .put(LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID)
+            .put(LinkNameConstants.PN_LINK_CONTENT_REF, targetPath)
+            .build());
+  }
+
+  private LinkHandler linkHandler() {
+    return AdaptTo.notNull(context.request(), LinkHandler.class);
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Calendar;
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.day.cq.wcm.api.NameConstants;
+import com.day.cq.wcm.api.Page;
+
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
+import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.InternalLinkType;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.sling.commons.resource.ImmutableValueMap;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class RedirectTableTest {
+
+  private static final String SECTION_PATH = "/content/unittest/de_test/brand/de/section";
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private RedirectTable underTest;
+  private Page targetPage;
+
+  @BeforeEach
+  void setUp() {
+    underTest = context.registerInjectActivateService(RedirectTable.class);
+    targetPage = context.create().page(SECTION_PATH + "/target", DummyAppTemplate.CONTENT.getTemplatePath());
+  }
+
+  @Test
+  void testPutGet() {
+    putRedirect(SECTION_PATH + "/redirect", targetPage.getPath());
+
+    RedirectTable.Entry entry = underTest.get(context.request());
+    assertNotNull(entry);
+    assertEquals(HttpServletResponse.SC_MOVED_PERMANENTLY, entry.getStatus());
+    assertEquals("http://target", entry.getLocation());
+    assertEquals(1, underTest.size());
+  }
+
+  @Test
+  void testOtherQueryString() {
+    putRedirect(SECTION_PATH + "/redirect", targetPage.getPath());
+
+    context.request().setQueryString("param=1");
+    assertNull(underTest.get(context.request()));
+  }
+
+  @Test
+  void testInvalidateTargetPage() {
+    putRedirect(SECTION_PATH + "/redirect", targetPage.getPath());
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, SECTION_PATH + "/other/jcr:content", false)));
+    assertEquals(1, underTest.size());
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, targetPage.getPath() + "/jcr:content", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testInvalidateRedirectPage() {
+    putRedirect(SECTION_PATH + "/redirect", targetPage.getPath());
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.REMOVED, SECTION_PATH + "/redirect", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testInvalidateMissingTargetCreated() {
+    putRedirect(SECTION_PATH + "/redirect", SECTION_PATH + "/missing");
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.ADDED, SECTION_PATH + "/missing", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testInvalidateConfiguration() {
+    putRedirect(SECTION_PATH + "/redirect", targetPage.getPath());
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/conf/site1/sling:configs/x", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testTargetPageWithOnTime() {
+    Calendar onTime = Calendar.getInstance();
+    onTime.add(Calendar.HOUR, -1);
+    Page timedPage = context.create().page(SECTION_PATH + "/timed", DummyAppTemplate.CONTENT.getTemplatePath(),
+        ImmutableValueMap.of(NameConstants.PN_ON_TIME, onTime));
+    putRedirect(SECTION_PATH + "/redirect", timedPage.getPath());
+
+    assertEquals(0, underTest.size());
+  }
+
+  private void putRedirect(String redirectPagePath, String targetPath) {
+    Page redirectPage = context.create().page(redirectPagePath, DummyAppTemplate.REDIRECT.getTemplatePath(),
+        ImmutableValueMap.of(
+            LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID,
+            LinkNameConstants.PN_LINK_CONTENT_REF, targetPath));
+    context.currentPage(redirectPage);
+    Link link = AdaptTo.notNull(context.request(), LinkHandler.class).get(redirectPage.getContentResource()).build();
+    underTest.put(context.request(), link, new RedirectTable.Entry(HttpServletResponse.SC_MOVED_PERMANENTLY, "http://target"));
+  }
+
+}
@@ -21,11 +21,20 @@ package io.wcm.handler.link.impl;
 
 import static io.wcm.handler.link.testcontext.AppAemContext.ROOTPATH_CONTENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import org.apache.sling.api.resource.Resource;
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
 import org.apache.sling.testing.mock.caconfig.MockContextAwareConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,8 +46,12 @@ import org.osgi.framework.Constants;
 import com.adobe.aem.wcm.seo.sitemap.externalizer.SitemapLinkExternalizer;
 import com.day.cq.wcm.api.Page;
 
+import io.wcm.handler.link.LinkNameConstants;
 import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.handler.link.testcontext.DummyAppTemplate;
+import io.wcm.handler.link.type.InternalLinkType;
 import io.wcm.handler.url.SiteConfig;
+import io.wcm.sling.commons.resource.ImmutableValueMap;
 import io.wcm.testing.mock.aem.junit5.AemContext;
 import io.wcm.testing.mock.aem.junit5.AemContextExtension;
 
@@ -180,4 +193,77 @@ class SeoSitemapLinkExternalizerImplTest {
     verifyNoMoreInteractions(aemSitemapLinkExternalizer);
   }
 
+  @Test
+  void testExternalizeResourceResolverString_PagesOfSameSite() {
+    MockContextAwareConfig.writeConfiguration(context, ROOTPATH_CONTENT, SiteConfig.class,
+        "siteUrl", "https://myhost");
+    Page page2 = context.create().page(ROOTPATH_CONTENT + "/page2");
+
+    assertEquals("https://myhost" + page1.getPath() + ".html",
+        underTest.externalize(context.resourceResolver(), page1.getPath() + ".html"));
+    assertEquals("https://myhost" + page2.getPath() + ".html",
+        underTest.externalize(context.resourceResolver(), page2.getPath() + ".html"));
+
+    verifyNoInteractions(aemSitemapLinkExternalizer);
+  }
+
+  @Test
+  void testCache() {
+    MockContextAwareConfig.writeConfiguration(context, ROOTPATH_CONTENT, SiteConfig.class,
+        "siteUrl", "https://myhost");
+    SeoSitemapUrlCache cache = context.registerInjectActivateService(SeoSitemapUrlCache.class);
+    ResourceResolver resourceResolver = userResourceResolver();
+
+    String path = page1.getPath() + ".html";
+    assertEquals("https://myhost" + page1.getPath() + ".html", underTest.externalize(resourceResolver, path));
+    assertEquals(1, cache.size());
+    assertEquals("https://myhost" + page1.getPath() + ".html", underTest.externalize(resourceResolver, path));
+    assertEquals(1, cache.size());
+
+    verifyNoInteractions(aemSitemapLinkExternalizer);
+  }
+
+  @Test
+  void testCache_RedirectTarget() {
+    MockContextAwareConfig.writeConfiguration(context, ROOTPATH_CONTENT, SiteConfig.class,
+        "siteUrl", "https://myhost");
+    SeoSitemapUrlCache cache = context.registerInjectActivateService(SeoSitemapUrlCache.class);
+    ResourceResolver resourceResolver = userResourceResolver();
+    Page redirectPage = context.create().page(ROOTPATH_CONTENT + "/redirect", DummyAppTemplate.REDIRECT.getTemplatePath(),
+        ImmutableValueMap.of(LinkNameConstants.PN_LINK_TYPE, InternalLinkType.ID,
+            LinkNameConstants.PN_LINK_CONTENT_REF, page1.getPath()));
+
+    assertEquals("https://myhost" + page1.getPath() + ".html",
+        underTest.externalize(resourceResolver, redirectPage.getPath() + ".html"));
+    assertEquals(1, cache.size());
+
+    // change of redirect target invalidates the entry of the redirect page
+    cache.onChange(List.of(new ResourceChange(ChangeType.CHANGED, page1.getContentResource().getPath(), false)));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testCache_NotPage() {
+    Resource resource = context.create().resource("/content/resource1");
+    SeoSitemapUrlCache cache = context.registerInjectActivateService(SeoSitemapUrlCache.class);
+    ResourceResolver resourceResolver = userResourceResolver();
+
+    String path = resource.getPath() + ".html";
+    when(aemSitemapLinkExternalizer.externalize(resourceResolver, path)).thenReturn("defaultResult");
+
+    assertEquals("defaultResult", underTest.externalize(resourceResolver, path));
+    assertEquals("defaultResult", underTest.externalize(resourceResolver, path));
+
+    // fallback outcome is cached, AEM implementation is still called
+    assertEquals(1, cache.size());
+    verify(aemSitemapLinkExternalizer, times(2)).externalize(resourceResolver, path);
+    verifyNoMoreInteractions(aemSitemapLinkExternalizer);
+  }
+
+  private ResourceResolver userResourceResolver() {
+    ResourceResolver resourceResolver = spy(context.resourceResolver());
+    doReturn("user1").when(resourceResolver).getUserID();
+    return resourceResolver;
+  }
+
 }
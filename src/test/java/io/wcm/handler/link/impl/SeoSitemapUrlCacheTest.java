@@ -0,0 +1,156 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.sling.api.resource.ResourceResolver;
+import org.apache.sling.api.resource.ResourceResolverFactory;
+import org.apache.sling.api.resource.observation.ResourceChange;
+import org.apache.sling.api.resource.observation.ResourceChange.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class SeoSitemapUrlCacheTest {
+
+  private static final String PAGE_PATH = "/content/site/de/page1";
+  private static final String URL = "https://myhost" + PAGE_PATH + ".html";
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private SeoSitemapUrlCache underTest;
+
+  @BeforeEach
+  void setUp() {
+    underTest = context.registerInjectActivateService(SeoSitemapUrlCache.class, "maxSize", 2);
+  }
+
+  @Test
+  void testInvalidation() {
+    ResourceResolver user1 = resourceResolver("user1", null);
+    underTest.put(user1, PAGE_PATH, URL);
+    underTest.put(user1, PAGE_PATH + "/child", URL);
+    assertEquals(URL, underTest.get(user1, PAGE_PATH));
+    assertEquals(2, underTest.size());
+
+    // change of other page with same path prefix
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, PAGE_PATH + "0/jcr:content", false)));
+    assertEquals(2, underTest.size());
+
+    // change of child page
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, PAGE_PATH + "/child/jcr:content", false)));
+    assertEquals(1, underTest.size());
+
+    // change of parent page
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/content/site/de/jcr:content", false)));
+    assertEquals(0, underTest.size());
+    assertNull(underTest.get(user1, PAGE_PATH));
+  }
+
+  @Test
+  void testInvalidation_DependencyPath() {
+    ResourceResolver user1 = resourceResolver("user1", null);
+    underTest.put(user1, PAGE_PATH, URL, Set.of("/content/site/de/target"));
+    underTest.put(user1, PAGE_PATH, URL, Set.of("/content/site/de/target2"));
+
+    // dependency of replaced entry
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/content/site/de/target/jcr:content", false)));
+    assertEquals(1, underTest.size());
+
+    // change of redirect target
+    underTest.onChange(List.of(new ResourceChange(ChangeType.REMOVED, "/content/site/de/target2", false)));
+    assertEquals(0, underTest.size());
+    assertNull(underTest.get(user1, PAGE_PATH));
+  }
+
+  @Test
+  void testInvalidation_AccessControlPolicy() {
+    ResourceResolver user1 = resourceResolver("user1", null);
+    underTest.put(user1, PAGE_PATH, URL);
+
+    underTest.onChange(List.of(new ResourceChange(ChangeType.ADDED, PAGE_PATH + "/rep:policy/allow", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testInvalidation_ConfigurationAndUsers() {
+    ResourceResolver user1 = resourceResolver("user1", null);
+    underTest.put(user1, PAGE_PATH, URL);
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/conf/site/sling:configs/x", false)));
+    assertEquals(0, underTest.size());
+
+    underTest.put(user1, PAGE_PATH, URL);
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, "/home/groups/g/group1", false)));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testResourceResolverIdentity() {
+    ResourceResolver user1 = resourceResolver("user1", null);
+    ResourceResolver user2 = resourceResolver("user2", null);
+    ResourceResolver user1Service = resourceResolver("user1", "service1");
+    ResourceResolver anonymous = resourceResolver(null, null);
+
+    underTest.put(user1, PAGE_PATH, URL);
+    assertEquals(URL, underTest.get(resourceResolver("user1", null), PAGE_PATH));
+    assertNull(underTest.get(user2, PAGE_PATH));
+    assertNull(underTest.get(user1Service, PAGE_PATH));
+
+    // resource resolvers without user ID are not cached
+    underTest.put(anonymous, PAGE_PATH, URL);
+    assertNull(underTest.get(anonymous, PAGE_PATH));
+    assertEquals(1, underTest.size());
+  }
+
+  @Test
+  void testMaxSize() {
+    ResourceResolver user1 = resourceResolver("user1", null);
+    underTest.put(user1, PAGE_PATH + "/a", URL);
+    underTest.put(user1, PAGE_PATH + "/b", URL);
+    underTest.put(user1, PAGE_PATH + "/c", URL);
+    assertEquals(2, underTest.size());
+    assertNull(underTest.get(user1, PAGE_PATH + "/a"));
+
+    // evicted entries are removed from path index as well
+    underTest.onChange(List.of(new ResourceChange(ChangeType.CHANGED, PAGE_PATH, false)));
+    assertEquals(0, underTest.size());
+  }
+
+  private static ResourceResolver resourceResolver(String userId, String subService) {
+    ResourceResolver resourceResolver = mock(ResourceResolver.class);
+    lenient().when(resourceResolver.getUserID()).thenReturn(userId);
+    lenient().when(resourceResolver.getAttribute(ResourceResolverFactory.SUBSERVICE)).thenReturn(subService);
+    return resourceResolver;
+  }
+
+}
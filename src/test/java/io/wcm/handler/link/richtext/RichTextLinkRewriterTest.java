@@ -0,0 +1,121 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.richtext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.wcm.handler.link.testcontext.AppAemContext;
+import io.wcm.sling.commons.adapter.AdaptTo;
+import io.wcm.testing.mock.aem.junit5.AemContext;
+import io.wcm.testing.mock.aem.junit5.AemContextExtension;
+
+@ExtendWith(AemContextExtension.class)
+@SuppressWarnings("null")
+class RichTextLinkRewriterTest {
+
+  private final AemContext context = AppAemContext.newAemContext();
+
+  private RichTextLinkRewriter underTest;
+
+  @BeforeEach
+  void setUp() {
+    context.create().page("/content/site1/en");
+    context.currentPage(context.create().page("/content/site1/en/page1"));
+
+    underTest = AdaptTo.notNull(context.request(), RichTextLinkRewriter.class);
+  }
+
+  @Test
+  void testRewrite() {
+    assertEquals("<p>Text <a href=\"/content/site1/en.html\" title=\"Home\">home</a>"
+        + " and <a class=\"x\" href=\"/content/site1/en.html\">again</a></p>",
+        underTest.rewrite("<p>Text <a href=\"/content/site1/en\" title=\"Home\">home</a>"
+            + " and <a class=\"x\" href='/content/site1/en'>again</a></p>"));
+  }
+
+  @Test
+  void testRewrite_InvalidLink() {
+    assertEquals("<p>Text <b>invalid</b> link</p>",
+        underTest.rewrite("<p>Text <A HREF=\"/content/site1/en/invalid\"><b>invalid</b></A> link</p>"));
+  }
+
+  @Test
+  void testRewrite_HtmlExtension() {
+    String html = "<p><a href=\"/content/site1/en.html\">home</a> <a href=\"/content/site1/en/invalid.html\">x</a></p>";
+    assertEquals(html, underTest.rewrite(html));
+  }
+
+  @Test
+  void testRewrite_Selector() {
+    String html = "<a href=\"/content/site1/en.print.html\">print</a>";
+    assertEquals(html, underTest.rewrite(html));
+  }
+
+  @Test
+  void testRewrite_Fragment() {
+    String html = "<a href=\"/content/site1/en/invalid#top\">top</a>";
+    assertEquals(html, underTest.rewrite(html));
+  }
+
+  @Test
+  void testRewrite_ExternalLink() {
+    assertEquals("<a href=\"http://host/path?a=1&amp;b=2\" target=\"_blank\">ext</a>",
+        underTest.rewrite("<a href=\"http://host/path?a=1&amp;b=2\" target=\"_blank\">ext</a>"));
+  }
+
+  @Test
+  void testRewrite_Unchanged() {
+    String html = "<p>1 < 2 <a name=\"anchor\">no href</a> <a href=\"\">empty</a></p>"
+        + "<!-- <a href=\"/content/site1/en\">comment</a> -->"
+        + "<script>var s = '<a href=\"/content/site1/en\">';</script>";
+    assertEquals(html, underTest.rewrite(html));
+  }
+
+  @Test
+  void testRewrite_Writer() throws Exception {
+    StringWriter writer = new StringWriter();
+    underTest.rewrite(new StringBuilder("<a href=/content/site1/en>home</a>"), writer);
+    assertEquals("<a href=\"/content/site1/en.html\">home</a>", writer.toString());
+  }
+
+  @Test
+  void testRewrite_Null() {
+    assertNull(underTest.rewrite(null));
+  }
+
+  @Test
+  void testUnescapeAttributeValue() {
+    assertEquals("a=1&b=2\"'<>&&unknown;&#xFFFFFFFF;", RichTextLinkRewriter.unescapeAttributeValue(
+        "a=1&amp;b=2&quot;&#39;&lt;&#x3e;&&unknown;&#xFFFFFFFF;"));
+  }
+
+  @Test
+  void testEscapeAttributeValue() {
+    assertEquals("a=1&amp;b=&quot;&lt;&gt;&quot;", RichTextLinkRewriter.escapeAttributeValue("a=1&b=\"<>\""));
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.handler.link.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.apache.sling.api.resource.Resource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import io.wcm.handler.link.spi.ImageMapLinkBatchResolver.Area;
+
+class ImageMapLinkBatchResolverTest {
+
+  private final ImageMapLinkBatchResolver<String> underTest = new ImageMapLinkBatchResolver<String>() {
+
+    @Override
+    public @Nullable String resolveLink(@NotNull String linkUrl, @Nullable String linkWindowTarget, @NotNull Resource context) {
+      if (linkUrl.startsWith("invalid")) {
+        return null;
+      }
+      return linkUrl + "|" + linkWindowTarget;
+    }
+
+    @Override
+    public @Nullable String getLinkUrl(@Nullable String link) {
+      return link;
+    }
+
+  };
+
+  @Test
+  void testResolveLinks() {
+    List<String> links = underTest.resolveLinks(List.of(
+        new Area("http://host1", null),
+        new Area("invalid", "_blank"),
+        new Area("http://host2", "_blank")), mock(Resource.class));
+
+    assertEquals(3, links.size());
+    assertEquals("http://host1|null", links.get(0));
+    assertNull(links.get(1));
+    assertEquals("http://host2|_blank", links.get(2));
+  }
+
+}
@@ -25,9 +25,11 @@ import static io.wcm.testing.mock.wcmio.wcm.ContextPlugins.WCMIO_WCM;
 import static org.apache.sling.testing.mock.caconfig.ContextPlugins.CACONFIG;
 
 import org.apache.sling.testing.mock.caconfig.MockContextAwareConfig;
+import org.apache.sling.testing.mock.sling.ResourceResolverType;
 import org.jetbrains.annotations.NotNull;
 
 import io.wcm.handler.link.impl.DefaultLinkHandlerConfig;
+import io.wcm.handler.link.impl.LinkComponentPropertyCache;
 import io.wcm.handler.link.impl.LinkHandlerAdapterFactory;
 import io.wcm.handler.link.spi.LinkHandlerConfig;
 import io.wcm.handler.media.format.impl.MediaFormatProviderManagerImpl;
@@ -41,6 +43,7 @@ import io.wcm.handler.url.impl.SiteRootDetectorImpl;
 import io.wcm.handler.url.impl.UrlHandlerAdapterFactory;
 import io.wcm.handler.url.impl.clientlib.ClientlibProxyRewriterImpl;
 import io.wcm.handler.url.spi.UrlHandlerConfig;
+import io.wcm.testing.mock.aem.context.AemContextImpl;
 import io.wcm.testing.mock.aem.junit5.AemContext;
 import io.wcm.testing.mock.aem.junit5.AemContextBuilder;
 import io.wcm.testing.mock.aem.junit5.AemContextCallback;
@@ -71,11 +74,23 @@ public final class AppAemContext {
   }
 
   public static AemContext newAemContext() {
-    return newAemContext(null);
+    return newAemContext((AemContextCallback)null);
   }
 
   public static AemContext newAemContext(AemContextCallback callback) {
-    return new AemContextBuilder()
+    return newAemContext(ResourceResolverType.RESOURCERESOLVER_MOCK, callback);
+  }
+
+  /**
+   * @param resourceResolverType Resource resolver type, e.g. if cloning resource resolvers is required
+   * @return AEM context
+   */
+  public static AemContext newAemContext(ResourceResolverType resourceResolverType) {
+    return newAemContext(resourceResolverType, null);
+  }
+
+  private static AemContext newAemContext(ResourceResolverType resourceResolverType, AemContextCallback callback) {
+    return new AemContextBuilder(resourceResolverType)
         .plugin(CACONFIG)
         .plugin(WCMIO_SLING, WCMIO_WCM, WCMIO_CACONFIG)
         .afterSetUp(callback)
@@ -89,48 +104,57 @@ public final class AppAemContext {
   private static final AemContextCallback SETUP_CALLBACK = new AemContextCallback() {
     @Override
     public void execute(@NotNull AemContext context) throws Exception {
-
-      // handler SPI
-      context.registerInjectActivateService(SiteRootDetectorImpl.class);
-      context.registerInjectActivateService(UrlHandlerAdapterFactory.class);
-      context.registerInjectActivateService(DefaultUrlHandlerConfig.class);
-      context.registerInjectActivateService(ClientlibProxyRewriterImpl.class);
-      context.registerService(UrlHandlerConfig.class, new DummyUrlHandlerConfig());
-      context.registerInjectActivateService(MediaHandlerAdapterFactory.class);
-      context.registerInjectActivateService(DefaultMediaHandlerConfig.class);
-      context.registerService(MediaHandlerConfig.class, new DummyMediaHandlerConfig());
-      context.registerInjectActivateService(LinkHandlerAdapterFactory.class);
-      context.registerInjectActivateService(DefaultLinkHandlerConfig.class);
-      context.registerService(LinkHandlerConfig.class, new DummyLinkHandlerConfig());
-
-      // context path strategy
-      MockCAConfig.contextPathStrategyAbsoluteParent(context, DummyUrlHandlerConfig.SITE_ROOT_LEVEL);
-
-      // media formats
-      context.registerInjectActivateService(MediaFormatProviderManagerImpl.class);
-      context.registerService(MediaFormatProvider.class, new DummyMediaFormatProvider());
-
-      // sling models registration
-      context.addModelsForPackage("io.wcm.handler.link");
-
-      // create current page in site context
-      context.currentPage(context.create().page(ROOTPATH_CONTENT,
-          DummyAppTemplate.CONTENT.getTemplatePath()));
-
-      // default site config
-      MockContextAwareConfig.writeConfiguration(context, ROOTPATH_CONTENT, SiteConfig.class.getName(),
-          "siteUrl", "http://www.dummysite.org",
-          "siteUrlSecure", "https://www.dummysite.org",
-          "siteUrlAuthor", "https://author.dummysite.org");
-
-      // create site root page and site config for other site
-      context.create().page(ROOTPATH_CONTENT_OTHER_SITE,
-          DummyAppTemplate.CONTENT.getTemplatePath());
-      MockContextAwareConfig.writeConfiguration(context, ROOTPATH_CONTENT_OTHER_SITE, SiteConfig.class.getName(),
-          "siteUrl", "http://en.dummysite.org",
-          "siteUrlSecure", "https://en.dummysite.org",
-          "siteUrlAuthor", "https://author.dummysite.org");
+      setUp(context);
     }
   };
 
+  /**
+   * Applies the custom set up rules to the given context. Can be used for contexts not managed by the JUnit
+   * extension as well, e.g. in benchmarks.
+   * @param context AEM context (already set up)
+   */
+  public static void setUp(@NotNull AemContextImpl context) {
+    // handler SPI
+    context.registerInjectActivateService(SiteRootDetectorImpl.class);
+    context.registerInjectActivateService(UrlHandlerAdapterFactory.class);
+    context.registerInjectActivateService(DefaultUrlHandlerConfig.class);
+    context.registerInjectActivateService(ClientlibProxyRewriterImpl.class);
+    context.registerService(UrlHandlerConfig.class, new DummyUrlHandlerConfig());
+    context.registerInjectActivateService(MediaHandlerAdapterFactory.class);
+    context.registerInjectActivateService(DefaultMediaHandlerConfig.class);
+    context.registerService(MediaHandlerConfig.class, new DummyMediaHandlerConfig());
+    context.registerInjectActivateService(LinkHandlerAdapterFactory.class);
+    context.registerInjectActivateService(DefaultLinkHandlerConfig.class);
+    context.registerInjectActivateService(LinkComponentPropertyCache.class);
+    context.registerService(LinkHandlerConfig.class, new DummyLinkHandlerConfig());
+
+    // context path strategy
+    MockCAConfig.contextPathStrategyAbsoluteParent(context, DummyUrlHandlerConfig.SITE_ROOT_LEVEL);
+
+    // media formats
+    context.registerInjectActivateService(MediaFormatProviderManagerImpl.class);
+    context.registerService(MediaFormatProvider.class, new DummyMediaFormatProvider());
+
+    // sling models registration
+    context.addModelsForPackage("io.wcm.handler.link");
+
+    // create current page in site context
+    context.currentPage(context.create().page(ROOTPATH_CONTENT,
+        DummyAppTemplate.CONTENT.getTemplatePath()));
+
+    // default site config
+    MockContextAwareConfig.writeConfiguration(context, ROOTPATH_CONTENT, SiteConfig.class.getName(),
+        "siteUrl", "http://www.dummysite.org",
+        "siteUrlSecure", "https://www.dummysite.org",
+        "siteUrlAuthor", "https://author.dummysite.org");
+
+    // create site root page and site config for other site
+    context.create().page(ROOTPATH_CONTENT_OTHER_SITE,
+        DummyAppTemplate.CONTENT.getTemplatePath());
+    MockContextAwareConfig.writeConfiguration(context, ROOTPATH_CONTENT_OTHER_SITE, SiteConfig.class.getName(),
+        "siteUrl", "http://en.dummysite.org",
+        "siteUrlSecure", "https://en.dummysite.org",
+        "siteUrlAuthor", "https://author.dummysite.org");
+  }
+
 }
@@ -30,7 +30,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import com.day.cq.wcm.api.WCMMode;
 
+import io.wcm.handler.link.Link;
+import io.wcm.handler.link.LinkHandler;
 import io.wcm.handler.link.LinkNameConstants;
+import io.wcm.handler.link.impl.RedirectTable;
 import io.wcm.handler.link.testcontext.AppAemContext;
 import io.wcm.handler.link.testcontext.DummyAppTemplate;
 import io.wcm.handler.link.type.ExternalLinkType;
@@ -75,6 +78,41 @@ class RedirectTest {
     assertFalse(redirect.isRenderPage());
   }
 
+  @Test
+  void testRedirectTable_Store() {
+    RedirectTable redirectTable = context.registerInjectActivateService(RedirectTable.class);
+    context.currentPage(context.create().page("/content/redirect", DummyAppTemplate.REDIRECT.getTemplatePath(),
+        ImmutableValueMap.builder()
+        .put(LinkNameConstants.PN_LINK_TYPE, ExternalLinkType.ID)
+        .put(LinkNameConstants.PN_LINK_EXTERNAL_REF, "http://mysite.com")
+        .build()));
+
+    context.request().adaptTo(Redirect.class);
+
+    RedirectTable.Entry entry = redirectTable.get(context.request());
+    assertEquals(HttpServletResponse.SC_MOVED_PERMANENTLY, entry.getStatus());
+    assertEquals("http://mysite.com", entry.getLocation());
+  }
+
+  @Test
+  void testRedirectTable_Lookup() {
+    RedirectTable redirectTable = context.registerInjectActivateService(RedirectTable.class);
+    context.currentPage(context.create().page("/content/redirect", DummyAppTemplate.REDIRECT.getTemplatePath(),
+        ImmutableValueMap.builder()
+        .put(LinkNameConstants.PN_LINK_TYPE, ExternalLinkType.ID)
+        .put(LinkNameConstants.PN_LINK_EXTERNAL_REF, "http://mysite.com")
+        .build()));
+    Link link = context.request().adaptTo(LinkHandler.class).get(context.currentPage().getContentResource()).build();
+    redirectTable.put(context.request(), link,
+        new RedirectTable.Entry(HttpServletResponse.SC_MOVED_TEMPORARILY, "http://cached.com"));
+
+    Redirect redirect = context.request().adaptTo(Redirect.class);
+
+    assertEquals(HttpServletResponse.SC_MOVED_TEMPORARILY, context.response().getStatus());
+    assertEquals("http://cached.com", context.response().getHeader("Location"));
+    assertFalse(redirect.isRenderPage());
+  }
+
   @Test
   void testRedirectInvalid() {
     context.currentPage(context.create().page("/content/redirect", DummyAppTemplate.REDIRECT.getTemplatePath()));